@@ -2,8 +2,10 @@ package cs3500.threetrios;
 
 import cs3500.threetrios.adapter.ControllerAdapter;
 import cs3500.threetrios.adapter.ReadOnlyTTAdapter;
+import cs3500.threetrios.controller.AIMoveWorker;
 import cs3500.threetrios.controller.AIPlayer;
 import cs3500.threetrios.controller.ThreeTriosController;
+import cs3500.threetrios.model.BitboardGrid;
 import cs3500.threetrios.model.FallenAceDecorator;
 import cs3500.threetrios.model.MainModelInterface;
 import cs3500.threetrios.model.PlusRuleDecorator;
@@ -13,10 +15,10 @@ import cs3500.threetrios.model.ThreeTriosGameModel;
 import cs3500.threetrios.model.Grid;
 import cs3500.threetrios.model.Card;
 import cs3500.threetrios.model.Player;
-import cs3500.threetrios.model.ThreeTriosGrid;
-import cs3500.threetrios.model.ThreeTriosCard;
+import cs3500.threetrios.model.DeckGenerator;
 import cs3500.threetrios.strategy.CornerStrat;
 import cs3500.threetrios.strategy.DefensiveStrat;
+import cs3500.threetrios.strategy.IterativeDeepeningStrat;
 import cs3500.threetrios.strategy.MaxFlipsStrat;
 import cs3500.threetrios.strategy.MinimaxStrat;
 import cs3500.threetrios.view.ThreeTriosSwingView;
@@ -24,14 +26,22 @@ import cs3500.threetrios.adapter.ViewAdapter;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.random.RandomGenerator;
 
 /**
- * java -jar threetrios.jar [player1] [player2] [variant rules...] [provider]
+ * java -jar threetrios.jar [player1] [player2] [variant rules...] [provider] [ponder] [seed=N]
+ *                          [timeout=MILLIS]
  *
  * java -jar threetrios.jar human human
  * java -jar threetrios.jar human human reverse fallenace
  * java -jar threetrios.jar human cornerstrat same
+ * java -jar threetrios.jar human timedstrat plus
+ * java -jar threetrios.jar human timedstrat ponder
+ * java -jar threetrios.jar cornerstrat maxflipsstrat seed=42
+ * java -jar threetrios.jar human minimaxstrat timeout=500
  * java -jar threetrios.jar human human reverse provider
  *
  */
@@ -57,8 +67,19 @@ public final class ThreeTrios {
     List<String> variantArgs = new ArrayList<>();
     List<String> playerArgs = new ArrayList<>();
     boolean useProviderView = false;
+    boolean ponder = false;
+    RandomGenerator random = new SplittableRandom();
+    long timeoutMillis = AIMoveWorker.NO_TIMEOUT;
 
     for (String arg : args) {
+      if (arg.toLowerCase().startsWith("seed=")) {
+        random = new SplittableRandom(Long.parseLong(arg.substring("seed=".length())));
+        continue;
+      }
+      if (arg.toLowerCase().startsWith("timeout=")) {
+        timeoutMillis = Long.parseLong(arg.substring("timeout=".length()));
+        continue;
+      }
       switch (arg.toLowerCase()) {
         case "reverse":
         case "fallenace":
@@ -69,6 +90,9 @@ public final class ThreeTrios {
         case "provider":
           useProviderView = true;
           break;
+        case "ponder":
+          ponder = true;
+          break;
         default:
           playerArgs.add(arg.toLowerCase());
           break;
@@ -91,7 +115,7 @@ public final class ThreeTrios {
     } else if (variantArgs.contains("plus")) {
       model = new PlusRuleDecorator(model);
     }
-    setupGame(model);
+    setupGame(model, random);
 
     String redType = playerArgs.size() > 0 ? playerArgs.get(0) : "human";
     String blueType = playerArgs.size() > 1 ? playerArgs.get(1) : "human";
@@ -101,9 +125,22 @@ public final class ThreeTrios {
 
     redPlayer = createPlayer(redType, redPlayer);
     bluePlayer = createPlayer(blueType, bluePlayer);
+    if (ponder) {
+      ExecutorService ponderExecutor = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "ai-ponder");
+        thread.setDaemon(true);
+        return thread;
+      });
+      for (Player player : new Player[]{redPlayer, bluePlayer}) {
+        if (player instanceof AIPlayer) {
+          ((AIPlayer) player).setPondering(ponderExecutor);
+        }
+      }
+    }
 
     ThreeTriosSwingView redView = new ThreeTriosSwingView(model);
-    ThreeTriosController redController = new ThreeTriosController(model, redView, redPlayer);
+    ThreeTriosController redController = new ThreeTriosController(model, redView, redPlayer,
+            workerFor(redPlayer, timeoutMillis));
     redView.setLocation(100, 100);
 
     if (useProviderView) {
@@ -124,13 +161,22 @@ public final class ThreeTrios {
       }
     } else {
       ThreeTriosSwingView blueView = new ThreeTriosSwingView(model);
-      ThreeTriosController blueController = new ThreeTriosController(model, blueView, bluePlayer);
+      ThreeTriosController blueController = new ThreeTriosController(model, blueView,
+              bluePlayer, workerFor(bluePlayer, timeoutMillis));
       blueView.setLocation(700, 100);
       redController.startGame();
       blueController.startGame();
     }
   }
 
+  /**
+   * Makes the worker that searches an AI player's moves with the given time limit, or gives
+   * null for a human player, who needs none.
+   */
+  private static AIMoveWorker workerFor(Player player, long timeoutMillis) {
+    return player instanceof AIPlayer ? new AIMoveWorker(timeoutMillis) : null;
+  }
+
   private static Player createPlayer(String type, Player basePlayer) {
     switch (type.toLowerCase()) {
       case "human":
@@ -145,18 +191,22 @@ public final class ThreeTrios {
         return ai2;
       case "minimaxstrat":
         AIPlayer ai3 = new AIPlayer(basePlayer);
-        ai3.setStrategy(new MinimaxStrat(new DefensiveStrat()));
+        ai3.setStrategy(new MinimaxStrat());
         return ai3;
       case "maxflipsstrat":
         AIPlayer ai4 = new AIPlayer(basePlayer);
         ai4.setStrategy(new MaxFlipsStrat());
         return ai4;
+      case "timedstrat":
+        AIPlayer ai5 = new AIPlayer(basePlayer);
+        ai5.setStrategy(new IterativeDeepeningStrat(1000));
+        return ai5;
       default:
         throw new IllegalArgumentException("Unknown player type");
     }
   }
 
-  private static void setupGame(MainModelInterface model) {
+  private static void setupGame(MainModelInterface model, RandomGenerator random) {
     int rows = 5;
     int cols = 7;
     boolean[][] holes = new boolean[rows][cols];
@@ -178,43 +228,10 @@ public final class ThreeTrios {
     holes[3][4] = false;
     holes[4][5] = false;
 
-    Grid grid = new ThreeTriosGrid(rows, cols, holes);
-    List<Card> deck = createDeck();
-
-    model.startGame(grid, deck);
-    model.setCurrentPlayer(Math.random() < 0.5 ? "RED" : "BLUE");
-  }
+    Grid grid = new BitboardGrid(rows, cols, holes);
+    List<Card> deck = new DeckGenerator(random).generate(35, 6);
 
-  private static List<Card> createDeck() {
-    List<Card> deck = new ArrayList<>();
-    Random random = new Random();
-
-    for (int i = 1; i <= 35; i++) {
-      int north = random.nextInt(10) + 1;
-      int south = random.nextInt(10) + 1;
-      int east = random.nextInt(10) + 1;
-      int west = random.nextInt(10) + 1;
-
-      if (i <= 6) {
-        switch (i % 4) {
-          case 0:
-            north = 10;
-            break;
-          case 1:
-            south = 10;
-            break;
-          case 2:
-            east = 10;
-            break;
-          case 3:
-            west = 10;
-            break;
-          default:
-            break;
-        }
-      }
-      deck.add(new ThreeTriosCard("card" + i, north, south, east, west));
-    }
-    return deck;
+    model.startGame(grid, deck, random);
+    model.setCurrentPlayer(random.nextBoolean() ? "RED" : "BLUE");
   }
 }
\ No newline at end of file
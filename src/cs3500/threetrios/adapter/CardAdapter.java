@@ -2,6 +2,7 @@ package cs3500.threetrios.adapter;
 
 import cs3500.threetrios.model.Direction;
 import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.Player;
 import cs3500.threetrios.provider.model.PlayerColor;
 
 /**
@@ -9,29 +10,42 @@ import cs3500.threetrios.provider.model.PlayerColor;
  */
 public class CardAdapter extends cs3500.threetrios.provider.model.Card {
   private final Card modelCard;
+  private final Player owner;
 
   /**
-   * Constructs a CardAdapter that wraps our model's Card.
+   * Constructs a CardAdapter that wraps our model's Card. Since our cards do not track their
+   * owner, the owner is given by whoever holds the card, either the grid cell or the hand.
    *
    * @param modelCard the card from our model to adapt
+   * @param owner     the player who owns the card, or null if it is still in the deck
    */
-  public CardAdapter(Card modelCard) {
+  public CardAdapter(Card modelCard, Player owner) {
     super(modelCard.getName(),
             modelCard.getAttackPower(Direction.NORTH),
             modelCard.getAttackPower(Direction.SOUTH),
             modelCard.getAttackPower(Direction.EAST),
             modelCard.getAttackPower(Direction.WEST),
-            modelCard.getOwner() != null ?
-                    (modelCard.getOwner().getColor().equals("RED") ?
+            owner != null ?
+                    (owner.getColor().equals("RED") ?
                             PlayerColor.RED : PlayerColor.BLUE) : null);
     this.modelCard = modelCard;
+    this.owner = owner;
+  }
+
+  /**
+   * Gets the card from our model that this card adapts.
+   *
+   * @return the adapted card
+   */
+  public Card getModelCard() {
+    return modelCard;
   }
 
   @Override
   public PlayerColor getColor() {
-    if (modelCard.getOwner() == null) {
+    if (owner == null) {
       throw new IllegalStateException("This card is currently in the deck.");
     }
-    return modelCard.getOwner().getColor().equals("RED") ? PlayerColor.RED : PlayerColor.BLUE;
+    return owner.getColor().equals("RED") ? PlayerColor.RED : PlayerColor.BLUE;
   }
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import cs3500.threetrios.model.Player;
 import cs3500.threetrios.provider.controller.TriosController;
 import cs3500.threetrios.provider.model.PlayerColor;
 import cs3500.threetrios.provider.model.Card;
+import cs3500.threetrios.strategy.StrategyUtil;
 
 /**
  * Adapts our controller implementation to work with the provider's TriosController interface.
@@ -165,6 +166,7 @@ public class ControllerAdapter implements TriosController, ModelFeatures {
 
   @Override
   public void notifyGameOver(Player winner) {
+    StrategyUtil.forgetMemo();
     updateTitle();
     view.refresh();
   }
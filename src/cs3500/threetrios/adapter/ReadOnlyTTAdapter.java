@@ -1,5 +1,6 @@
 package cs3500.threetrios.adapter;
 
+import cs3500.threetrios.model.ModelMemo;
 import cs3500.threetrios.model.ReadOnlyThreeTriosModel;
 import cs3500.threetrios.provider.model.ReadOnlyTT;
 import cs3500.threetrios.provider.model.PlayerColor;
@@ -19,14 +20,18 @@ import java.util.ArrayList;
  */
 public class ReadOnlyTTAdapter implements ReadOnlyTT {
   private final ReadOnlyThreeTriosModel model;
+  private final ModelMemo memo;
 
   /**
-   * Constructs a new ReadOnlyTTAdapter.
+   * Constructs a new ReadOnlyTTAdapter. The provider's view and strategies ask for flip counts
+   * and scores many times between moves, so the answers are kept in a memo of the model until
+   * it changes.
    *
    * @param model the read-only model to adapt
    */
   public ReadOnlyTTAdapter(ReadOnlyThreeTriosModel model) {
     this.model = model;
+    this.memo = new ModelMemo(model);
   }
 
   @Override
@@ -72,7 +77,7 @@ public class ReadOnlyTTAdapter implements ReadOnlyTT {
     CardCell cell = new CardCell();
     cs3500.threetrios.model.Card modelCard = model.getCardAt(row, col);
     if (modelCard != null) {
-      cell.updateCard(new CardAdapter(modelCard), true);
+      cell.updateCard(new CardAdapter(modelCard, model.getCardOwnerAt(row, col)), true);
     }
     return cell;
   }
@@ -98,7 +103,7 @@ public class ReadOnlyTTAdapter implements ReadOnlyTT {
   @Override
   public int countNumFlipped(Card toPlace, int row, int col) {
     cs3500.threetrios.model.Card ourCard = adaptProviderCard(toPlace);
-    return model.getFlippableCards(row, col, ourCard);
+    return memo.getFlippableCards(row, col, ourCard);
   }
 
   @Override
@@ -136,7 +141,7 @@ public class ReadOnlyTTAdapter implements ReadOnlyTT {
         List<Card> adaptedHand = new ArrayList<>();
         List<cs3500.threetrios.model.Card> playerHand = model.getPlayerHand(p);
         for (cs3500.threetrios.model.Card modelCard : playerHand) {
-          adaptedHand.add(new CardAdapter(modelCard));
+          adaptedHand.add(new CardAdapter(modelCard, p));
         }
         return adaptedHand;
       }
@@ -154,7 +159,7 @@ public class ReadOnlyTTAdapter implements ReadOnlyTT {
     for (Player p : model.getPlayers()) {
       if ((player == PlayerColor.RED && p.getColor().equals("RED"))
               || (player == PlayerColor.BLUE && p.getColor().equals("BLUE"))) {
-        return model.getPlayerScore(p);
+        return memo.getPlayerScore(p);
       }
     }
     return 0;
@@ -173,6 +178,9 @@ public class ReadOnlyTTAdapter implements ReadOnlyTT {
   }
 
   private cs3500.threetrios.model.Card adaptProviderCard(Card providerCard) {
+    if (providerCard instanceof CardAdapter) {
+      return ((CardAdapter) providerCard).getModelCard();
+    }
     throw new UnsupportedOperationException("Need to implement card conversion");
   }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package cs3500.threetrios.benchmark;
+
+import java.util.concurrent.Callable;
+
+/**
+ * One operation to be timed by a BenchmarkRunner. Before every timed call of run, the runner
+ * calls prepare, which is not timed, so that an operation that changes its state, like a
+ * battle flipping cards, can be put back the way it was.
+ */
+public interface Benchmark {
+  /**
+   * Gets the benchmark's name, which identifies it in results and baselines. Names contain no
+   * whitespace.
+   *
+   * @return the name
+   */
+  String getName();
+
+  /**
+   * Gets everything ready for the next call of run. Does nothing unless overridden.
+   */
+  default void prepare() {
+  }
+
+  /**
+   * Performs the operation once. The result is consumed by the runner so that the work done to
+   * compute it cannot be optimized away.
+   *
+   * @return the result of the operation, or null
+   * @throws Exception if the operation fails
+   */
+  Object run() throws Exception;
+
+  /**
+   * Makes a benchmark of an operation that needs no preparing.
+   *
+   * @param name      the benchmark's name
+   * @param operation the operation
+   * @return the benchmark
+   * @throws IllegalArgumentException if an argument is null or the name contains whitespace
+   */
+  static Benchmark of(String name, Callable<Object> operation) {
+    if (name == null || operation == null) {
+      throw new IllegalArgumentException("Name and operation cannot be null");
+    }
+    if (name.isEmpty() || name.matches(".*\\s.*")) {
+      throw new IllegalArgumentException("Name must be non-empty with no whitespace: " + name);
+    }
+    return new Benchmark() {
+      @Override
+      public String getName() {
+        return name;
+      }
+
+      @Override
+      public Object run() throws Exception {
+        return operation.call();
+      }
+    };
+  }
+}
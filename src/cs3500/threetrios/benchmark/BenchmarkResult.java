@@ -0,0 +1,135 @@
+package cs3500.threetrios.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The measured average time of one benchmark's operation. A result prints as one line of a
+ * results file, and results files, such as the checked-in baseline, are read back with read.
+ */
+public final class BenchmarkResult {
+  private static final String UNIT = "us/op";
+
+  private final String name;
+  private final double micros;
+  private final double error;
+
+  /**
+   * Constructs a result.
+   *
+   * @param name   the benchmark's name
+   * @param micros the average time per operation in microseconds
+   * @param error  the standard deviation of the average between iterations, in microseconds
+   * @throws IllegalArgumentException if the name is null or a time is negative
+   */
+  public BenchmarkResult(String name, double micros, double error) {
+    if (name == null) {
+      throw new IllegalArgumentException("Name cannot be null");
+    }
+    if (micros < 0 || error < 0) {
+      throw new IllegalArgumentException("Times cannot be negative");
+    }
+    this.name = name;
+    this.micros = micros;
+    this.error = error;
+  }
+
+  /**
+   * Gets the name of the benchmark measured.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the average time per operation.
+   *
+   * @return the time in microseconds
+   */
+  public double getMicros() {
+    return micros;
+  }
+
+  /**
+   * Gets how much the average varied between measured iterations.
+   *
+   * @return the standard deviation in microseconds
+   */
+  public double getError() {
+    return error;
+  }
+
+  /**
+   * Gets how many times slower this result is than an earlier one of the same benchmark.
+   *
+   * @param baseline the earlier result
+   * @return this time divided by the baseline's, above 1 if this is slower
+   * @throws IllegalArgumentException if the baseline is null or of another benchmark
+   */
+  public double ratioTo(BenchmarkResult baseline) {
+    if (baseline == null || !baseline.name.equals(name)) {
+      throw new IllegalArgumentException("Baseline must be of the same benchmark");
+    }
+    return baseline.micros == 0 ? 1 : micros / baseline.micros;
+  }
+
+  /**
+   * Reads the results in a results file, skipping blank lines, comment lines starting with #
+   * and the column header.
+   *
+   * @param file the file
+   * @return the results in file order
+   * @throws IOException              if the file cannot be read
+   * @throws IllegalArgumentException if a line is not a result
+   */
+  public static List<BenchmarkResult> read(Path file) throws IOException {
+    List<BenchmarkResult> results = new ArrayList<>();
+    for (String line : Files.readAllLines(file)) {
+      String trimmed = line.trim();
+      if (!trimmed.isEmpty() && !trimmed.startsWith("#") && !trimmed.startsWith("benchmark ")) {
+        results.add(parse(trimmed));
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Parses a line written by toString.
+   *
+   * @param line the line
+   * @return the result
+   * @throws IllegalArgumentException if the line is not a result
+   */
+  public static BenchmarkResult parse(String line) {
+    String[] parts = line.trim().split("\\s+");
+    if (parts.length != 5 || !parts[2].equals("+-") || !parts[4].equals(UNIT)) {
+      throw new IllegalArgumentException("Invalid result line: " + line);
+    }
+    try {
+      return new BenchmarkResult(parts[0], Double.parseDouble(parts[1]),
+              Double.parseDouble(parts[3]));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid result line: " + line);
+    }
+  }
+
+  /**
+   * Gets the column header that lines up with results.
+   *
+   * @return the header
+   */
+  public static String header() {
+    return String.format("%-52s %12s    %10s", "benchmark", "time", "error");
+  }
+
+  @Override
+  public String toString() {
+    return String.format(Locale.ROOT, "%-52s %12.3f +- %10.3f %s", name, micros, error, UNIT);
+  }
+}
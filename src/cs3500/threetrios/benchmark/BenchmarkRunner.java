@@ -0,0 +1,111 @@
+package cs3500.threetrios.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the average time of benchmark operations. Each benchmark first runs for a number of
+ * warmup iterations, which give the JIT compiler time to compile the code being measured, and
+ * then for a number of measured iterations. In every iteration the operation is called over and
+ * over until the iteration's time is up, and at least once. Each call is timed on its own, so
+ * preparing for it is left out of the time, but the time includes reading the clock, which
+ * costs a few tens of nanoseconds. Every result is folded into a sink that is published after
+ * each iteration, so the JIT compiler cannot discard the work of computing it.
+ */
+public class BenchmarkRunner {
+  private final int warmupIterations;
+  private final int measuredIterations;
+  private final long iterationNanos;
+  private volatile long published;
+  private long sink;
+
+  /**
+   * Constructs a runner.
+   *
+   * @param warmupIterations   the number of iterations run before measuring
+   * @param measuredIterations the number of iterations measured
+   * @param iterationMillis    the time each iteration runs for, in milliseconds
+   * @throws IllegalArgumentException if warmupIterations is negative, or measuredIterations or
+   *                                  iterationMillis is not positive
+   */
+  public BenchmarkRunner(int warmupIterations, int measuredIterations, long iterationMillis) {
+    if (warmupIterations < 0 || measuredIterations <= 0 || iterationMillis <= 0) {
+      throw new IllegalArgumentException("Iteration counts and time must be positive");
+    }
+    this.warmupIterations = warmupIterations;
+    this.measuredIterations = measuredIterations;
+    this.iterationNanos = iterationMillis * 1_000_000L;
+  }
+
+  /**
+   * Measures one benchmark.
+   *
+   * @param benchmark the benchmark
+   * @return the average time of its operation
+   * @throws IllegalArgumentException if the benchmark is null
+   * @throws IllegalStateException    if the operation throws an exception
+   */
+  public BenchmarkResult run(Benchmark benchmark) {
+    if (benchmark == null) {
+      throw new IllegalArgumentException("Benchmark cannot be null");
+    }
+    for (int i = 0; i < warmupIterations; i++) {
+      iteration(benchmark);
+    }
+    double[] averages = new double[measuredIterations];
+    double total = 0;
+    for (int i = 0; i < measuredIterations; i++) {
+      averages[i] = iteration(benchmark);
+      total += averages[i];
+    }
+    double mean = total / measuredIterations;
+    double squares = 0;
+    for (double average : averages) {
+      squares += (average - mean) * (average - mean);
+    }
+    double deviation = measuredIterations > 1 ? Math.sqrt(squares / (measuredIterations - 1)) : 0;
+    return new BenchmarkResult(benchmark.getName(), mean / 1000, deviation / 1000);
+  }
+
+  /**
+   * Measures benchmarks one after another.
+   *
+   * @param benchmarks the benchmarks
+   * @return their results, in the same order
+   * @throws IllegalArgumentException if the list is null or contains null
+   * @throws IllegalStateException    if an operation throws an exception
+   */
+  public List<BenchmarkResult> runAll(List<Benchmark> benchmarks) {
+    if (benchmarks == null || benchmarks.contains(null)) {
+      throw new IllegalArgumentException("Benchmarks cannot be null");
+    }
+    List<BenchmarkResult> results = new ArrayList<>();
+    for (Benchmark benchmark : benchmarks) {
+      results.add(run(benchmark));
+    }
+    return results;
+  }
+
+  /**
+   * Runs one iteration and returns the average time of its calls in nanoseconds.
+   */
+  private double iteration(Benchmark benchmark) {
+    long deadline = System.nanoTime() + iterationNanos;
+    long timed = 0;
+    long calls = 0;
+    try {
+      do {
+        benchmark.prepare();
+        long start = System.nanoTime();
+        Object result = benchmark.run();
+        timed += System.nanoTime() - start;
+        calls++;
+        sink = sink * 31 + System.identityHashCode(result);
+      } while (System.nanoTime() < deadline);
+    } catch (Exception e) {
+      throw new IllegalStateException("Benchmark " + benchmark.getName() + " failed: " + e, e);
+    }
+    published = sink;
+    return (double) timed / calls;
+  }
+}
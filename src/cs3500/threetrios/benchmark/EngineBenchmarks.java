@@ -0,0 +1,468 @@
+package cs3500.threetrios.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import cs3500.threetrios.model.BitboardGrid;
+import cs3500.threetrios.model.BoardConfigReader;
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.CardConfigReader;
+import cs3500.threetrios.model.DeckGenerator;
+import cs3500.threetrios.model.Direction;
+import cs3500.threetrios.model.Grid;
+import cs3500.threetrios.model.MainModelInterface;
+import cs3500.threetrios.model.ModelFactory;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.ThreeTriosCard;
+import cs3500.threetrios.strategy.AIStrategy;
+import cs3500.threetrios.strategy.EndgameSolver;
+import cs3500.threetrios.strategy.MaxFlipsStrat;
+import cs3500.threetrios.strategy.MctsStrat;
+import cs3500.threetrios.strategy.ParallelMinimaxStrat;
+import cs3500.threetrios.strategy.Position;
+import cs3500.threetrios.strategy.StrategyUtil;
+import cs3500.threetrios.tournament.Tournament;
+
+/**
+ * The benchmarks of the game engine, its rules and the AI strategies, run on the bundled
+ * configuration boards and on generated large boards:
+ * <ul>
+ *   <li>battle: executeBattlePhase resolving a combo that flips every card it can reach, on
+ *   every board, under each rule. On the cascade boards every card beats its neighbors to the
+ *   north and east, so a card placed in the bottom left corner flips the whole board; on the
+ *   snake board holes leave a single path winding up the board, so the combo is one long chain.
+ *   The reverse rule never combos, so under it only the placed card's own battles are timed.
+ *   The cards are set back to their owners before every battle.</li>
+ *   <li>flippable: getFlippableCards for one card on every empty cell of a half-full board, as
+ *   the hint view asks for it, under each rule.</li>
+ *   <li>getGrid: getting the grid of a half-full board.</li>
+ *   <li>parse: BoardConfigReader and CardConfigReader reading each bundled configuration file,
+ *   and a generated large board and deck.</li>
+ *   <li>strategy: the time findBestMove takes, for a new strategy object each time, at the
+ *   start of a game on a bundled board and in the middle of a game on a larger one. The endgame
+ *   solver is timed at the end of a game. IterativeDeepeningStrat is left out, since it always
+ *   searches for its whole time budget.</li>
+ * </ul>
+ * Every game is dealt from a fixed seed, so every run measures the same positions.
+ *
+ * <p>java cs3500.threetrios.benchmark.EngineBenchmarks [filter=text] [configs=dir]
+ * [baseline=file] [threshold=ratio] [quick]
+ *
+ * <p>Results are printed in the format of the baseline file checked in next to this class. With
+ * a baseline, each benchmark is also compared to it and flagged when it is slower by more than
+ * the threshold, 1.25 times by default, and the program then exits with status 1.
+ */
+public final class EngineBenchmarks {
+  /**
+   * The directory of the bundled configuration files, relative to the project's root.
+   */
+  public static final String DEFAULT_CONFIGS = "src/cs3500/threetrios/model/configs";
+
+  /**
+   * The file the baseline results are kept in, relative to the project's root.
+   */
+  public static final String DEFAULT_BASELINE = "src/cs3500/threetrios/benchmark/baseline.txt";
+
+  private static final String[][] RULES = {
+      {}, {"reverse"}, {"fallenace"}, {"same"}, {"plus"}
+  };
+  private static final String DECK = "card2-EnoughCards";
+  private static final int LARGE = 15;
+  private static final int SEARCH_SIZE = 7;
+  private static final long SEED = 3500;
+
+  private EngineBenchmarks() {
+  }
+
+  /**
+   * Builds every benchmark.
+   *
+   * @param configs the directory of the bundled configuration files
+   * @return the benchmarks, grouped by what they measure
+   * @throws IOException if a configuration file cannot be read or a generated file written
+   */
+  public static List<Benchmark> suite(Path configs) throws IOException {
+    Map<String, Grid> boards = new LinkedHashMap<>();
+    for (String name : configNames(configs, "board")) {
+      boards.put(name, BoardConfigReader.readBoardConfig(configs.resolve(name).toString()));
+    }
+    List<Card> deck = CardConfigReader.readCardConfig(configs.resolve(DECK).toString());
+
+    List<Benchmark> suite = new ArrayList<>();
+    for (String name : boards.keySet()) {
+      for (String[] rules : RULES) {
+        suite.add(new BattleBenchmark("battle/" + name + "/" + ruleName(rules),
+                BoardConfigReader.readBoardConfig(configs.resolve(name).toString()), rules,
+                deck, false));
+      }
+    }
+    for (String[] rules : RULES) {
+      suite.add(new BattleBenchmark("battle/cascade-" + LARGE + "x" + LARGE + "/"
+              + ruleName(rules), new BitboardGrid(LARGE, LARGE, new boolean[LARGE][LARGE]),
+              rules, null, false));
+    }
+    for (String[] rules : RULES) {
+      suite.add(new BattleBenchmark("battle/snake-" + LARGE + "x" + LARGE + "/"
+              + ruleName(rules), new BitboardGrid(LARGE, LARGE, snakeHoles(LARGE, LARGE)),
+              rules, null, true));
+    }
+
+    String firstBoard = boards.keySet().iterator().next();
+    for (String[] rules : RULES) {
+      MainModelInterface small = halfPlayed(rules,
+              BoardConfigReader.readBoardConfig(configs.resolve(firstBoard).toString()), deck);
+      suite.add(flippable("flippable/" + firstBoard + "/" + ruleName(rules), small));
+      MainModelInterface large = halfPlayed(rules,
+              new BitboardGrid(LARGE, LARGE, new boolean[LARGE][LARGE]), null);
+      suite.add(flippable("flippable/" + LARGE + "x" + LARGE + "/" + ruleName(rules), large));
+    }
+
+    for (String name : boards.keySet()) {
+      MainModelInterface model = halfPlayed(new String[0],
+              BoardConfigReader.readBoardConfig(configs.resolve(name).toString()), deck);
+      suite.add(Benchmark.of("getGrid/" + name, model::getGrid));
+    }
+    MainModelInterface largeModel = halfPlayed(new String[0],
+            new BitboardGrid(LARGE, LARGE, new boolean[LARGE][LARGE]), null);
+    suite.add(Benchmark.of("getGrid/" + LARGE + "x" + LARGE, largeModel::getGrid));
+
+    for (String name : configNames(configs, "board")) {
+      String path = configs.resolve(name).toString();
+      suite.add(Benchmark.of("parse/" + name, () -> BoardConfigReader.readBoardConfig(path)));
+    }
+    for (String name : configNames(configs, "card")) {
+      String path = configs.resolve(name).toString();
+      suite.add(Benchmark.of("parse/" + name, () -> CardConfigReader.readCardConfig(path)));
+    }
+    String largeBoard = writeBoard(25, 25);
+    suite.add(Benchmark.of("parse/generated-25x25",
+            () -> BoardConfigReader.readBoardConfig(largeBoard)));
+    String largeDeck = writeDeck(626);
+    suite.add(Benchmark.of("parse/generated-626-cards",
+            () -> CardConfigReader.readCardConfig(largeDeck)));
+
+    Map<String, Supplier<AIStrategy>> strategies = new LinkedHashMap<>(
+            Tournament.defaultStrategies());
+    strategies.put("parallelminimaxstrat", () -> new ParallelMinimaxStrat(2));
+    strategies.put("mctsstrat", () -> new MctsStrat(500, SEED));
+    MainModelInterface opening = ModelFactory.createModel();
+    opening.startGame(boards.get(firstBoard), deck, new SplittableRandom(SEED));
+    int cells = SEARCH_SIZE * SEARCH_SIZE;
+    MainModelInterface middle = played(new String[0],
+            new BitboardGrid(SEARCH_SIZE, SEARCH_SIZE, new boolean[SEARCH_SIZE][SEARCH_SIZE]),
+            null, cells / 2);
+    for (Map.Entry<String, Supplier<AIStrategy>> strategy : strategies.entrySet()) {
+      suite.add(new StrategyBenchmark("strategy/" + strategy.getKey() + "/" + firstBoard
+              + "-opening", strategy.getValue(), opening));
+      suite.add(new StrategyBenchmark("strategy/" + strategy.getKey() + "/" + SEARCH_SIZE + "x"
+              + SEARCH_SIZE + "-midgame", strategy.getValue(), middle));
+    }
+    MainModelInterface ending = played(new String[0],
+            new BitboardGrid(SEARCH_SIZE, SEARCH_SIZE, new boolean[SEARCH_SIZE][SEARCH_SIZE]),
+            null, cells - 7);
+    suite.add(new StrategyBenchmark("strategy/endgamesolver/" + SEARCH_SIZE + "x" + SEARCH_SIZE
+            + "-endgame", () -> new EndgameSolver(new MaxFlipsStrat(), 7), ending));
+    return suite;
+  }
+
+  /**
+   * Runs the benchmarks and prints their results, comparing them to a baseline if one is given.
+   *
+   * @param args options, each optional: filter=text runs only benchmarks whose names contain
+   *             the text, configs=dir reads the bundled configuration files from dir,
+   *             baseline=file compares to the results in file, threshold=ratio flags results
+   *             more than ratio times slower than the baseline, and quick runs fewer, shorter
+   *             iterations
+   * @throws IOException if a file cannot be read or written
+   */
+  public static void main(String[] args) throws IOException {
+    Map<String, String> options = new HashMap<>();
+    for (String arg : args) {
+      int equals = arg.indexOf('=');
+      options.put(equals < 0 ? arg : arg.substring(0, equals),
+              equals < 0 ? "" : arg.substring(equals + 1));
+    }
+    String filter = options.getOrDefault("filter", "");
+    Path configs = Paths.get(options.getOrDefault("configs", DEFAULT_CONFIGS));
+    double threshold = Double.parseDouble(options.getOrDefault("threshold", "1.25"));
+    BenchmarkRunner runner = options.containsKey("quick")
+            ? new BenchmarkRunner(1, 2, 100) : new BenchmarkRunner(3, 5, 250);
+
+    Map<String, BenchmarkResult> baseline = new HashMap<>();
+    if (options.containsKey("baseline")) {
+      for (BenchmarkResult result : BenchmarkResult.read(Paths.get(options.get("baseline")))) {
+        baseline.put(result.getName(), result);
+      }
+    }
+
+    System.out.printf("# ThreeTrios engine benchmarks, average time per operation%n");
+    System.out.printf("# java %s, %d processors, %s%n", System.getProperty("java.version"),
+            Runtime.getRuntime().availableProcessors(),
+            options.containsKey("quick") ? "quick" : "3 warmup and 5 measured 250 ms iterations");
+    System.out.println(BenchmarkResult.header());
+    List<String> regressions = new ArrayList<>();
+    for (Benchmark benchmark : suite(configs)) {
+      if (!benchmark.getName().contains(filter)) {
+        continue;
+      }
+      BenchmarkResult result = runner.run(benchmark);
+      BenchmarkResult before = baseline.get(result.getName());
+      if (before == null) {
+        System.out.println(result);
+        continue;
+      }
+      double ratio = result.ratioTo(before);
+      boolean regressed = ratio > threshold;
+      System.out.printf(Locale.ROOT, "%s  # %.2fx baseline%s%n", result, ratio,
+              regressed ? " REGRESSION" : "");
+      if (regressed) {
+        regressions.add(result.getName());
+      }
+    }
+    if (!regressions.isEmpty()) {
+      System.out.println("# slower than the baseline: " + String.join(", ", regressions));
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Lists the configuration files whose names start with the prefix, in name order.
+   */
+  private static List<String> configNames(Path configs, String prefix) throws IOException {
+    String[] names = configs.toFile().list((dir, name) -> name.startsWith(prefix));
+    if (names == null || names.length == 0) {
+      throw new IOException("No " + prefix + " configurations in " + configs);
+    }
+    Arrays.sort(names);
+    return Arrays.asList(names);
+  }
+
+  private static String ruleName(String[] rules) {
+    return rules.length == 0 ? "normal" : String.join("+", rules);
+  }
+
+  /**
+   * Makes holes that leave every other row of cards, joined by one cell at alternating ends,
+   * so the cells form a single path from the bottom left corner to the top.
+   */
+  private static boolean[][] snakeHoles(int rows, int cols) {
+    boolean[][] holes = new boolean[rows][cols];
+    for (int row = rows - 2; row >= 0; row -= 2) {
+      int below = (rows - 2 - row) / 2;
+      Arrays.fill(holes[row], true);
+      holes[row][below % 2 == 0 ? cols - 1 : 0] = false;
+    }
+    return holes;
+  }
+
+  /**
+   * Starts a game on the grid, with the given deck, or a generated one if it is null.
+   */
+  private static MainModelInterface started(String[] rules, Grid grid, List<Card> deck) {
+    SplittableRandom random = new SplittableRandom(SEED);
+    List<Card> cards = deck != null ? deck
+            : new DeckGenerator(random.split()).generate(grid.getCardCellCount() + 1);
+    MainModelInterface model = ModelFactory.createModel(rules);
+    model.startGame(grid, cards, random);
+    return model;
+  }
+
+  /**
+   * Starts a game and plays random moves.
+   */
+  private static MainModelInterface played(String[] rules, Grid grid, List<Card> deck,
+                                           int moves) {
+    MainModelInterface model = started(rules, grid, deck);
+    SplittableRandom random = new SplittableRandom(SEED + moves);
+    int rows = grid.getRows();
+    int cols = grid.getCols();
+    for (int i = 0; i < moves; i++) {
+      int row;
+      int col;
+      do {
+        row = random.nextInt(rows);
+        col = random.nextInt(cols);
+      } while (model.isHole(row, col) || model.getCardAt(row, col) != null);
+      List<Card> hand = model.getPlayerHand(model.getCurrentPlayer());
+      model.placeCard(row, col, hand.get(random.nextInt(hand.size())));
+    }
+    return model;
+  }
+
+  private static MainModelInterface halfPlayed(String[] rules, Grid grid, List<Card> deck) {
+    return played(rules, grid, deck, grid.getCardCellCount() / 2);
+  }
+
+  /**
+   * Makes a benchmark asking how many cards the current player's first card flips on every
+   * empty cell.
+   */
+  private static Benchmark flippable(String name, MainModelInterface model) {
+    Card card = model.getPlayerHand(model.getCurrentPlayer()).get(0);
+    int[] dims = model.getGridDimensions();
+    return Benchmark.of(name, () -> {
+      int total = 0;
+      for (int row = 0; row < dims[0]; row++) {
+        for (int col = 0; col < dims[1]; col++) {
+          if (!model.isHole(row, col) && model.getCardAt(row, col) == null) {
+            total += model.getFlippableCards(row, col, card);
+          }
+        }
+      }
+      return total;
+    });
+  }
+
+  private static String writeBoard(int rows, int cols) throws IOException {
+    SplittableRandom random = new SplittableRandom(SEED);
+    StringBuilder board = new StringBuilder("// generated board\n" + rows + " " + cols + "\n");
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        board.append(random.nextInt(10) == 0 ? 'X' : 'C');
+      }
+      board.append('\n');
+    }
+    return writeTemporary("board", board.toString());
+  }
+
+  private static String writeDeck(int size) throws IOException {
+    StringBuilder cards = new StringBuilder("// generated cards\n");
+    for (Card card : new DeckGenerator(SEED).generate(size)) {
+      cards.append(card.getName());
+      for (Direction side : new Direction[]{Direction.NORTH, Direction.SOUTH, Direction.EAST,
+          Direction.WEST}) {
+        int value = card.getAttackPower(side);
+        cards.append(' ').append(value == 10 ? "A" : String.valueOf(value));
+      }
+      cards.append('\n');
+    }
+    return writeTemporary("cards", cards.toString());
+  }
+
+  private static String writeTemporary(String prefix, String contents) throws IOException {
+    File file = File.createTempFile(prefix, ".txt");
+    file.deleteOnExit();
+    Files.writeString(file.toPath(), contents);
+    return file.getPath();
+  }
+
+  /**
+   * Times executeBattlePhase for a card in the bottom left corner of a board filled with cards
+   * that beat their neighbors to the north and east, or to the south and west under the
+   * reverse rule, where the cards are laid so that they win that way. On a board with a single
+   * path of cells, the cards in rows running west beat their neighbors to the west instead.
+   */
+  private static final class BattleBenchmark implements Benchmark {
+    private final String name;
+    private final MainModelInterface model;
+    private final Grid grid;
+    private final Position origin;
+    private final Player red;
+    private final Player blue;
+
+    BattleBenchmark(String name, Grid grid, String[] rules, List<Card> deck, boolean snake) {
+      this.name = name;
+      this.grid = grid;
+      this.model = started(rules, grid, deck);
+      this.red = model.getCurrentPlayer();
+      this.blue = model.getPlayers().get(0) == red
+              ? model.getPlayers().get(1) : model.getPlayers().get(0);
+      boolean reversed = Arrays.asList(rules).contains("reverse");
+      int strong = reversed ? 1 : 9;
+      int weak = reversed ? 9 : 1;
+
+      int rows = grid.getRows();
+      int cols = grid.getCols();
+      Position first = null;
+      for (int row = rows - 1; row >= 0; row--) {
+        boolean west = ((rows - 1 - row) / 2) % 2 == 1;
+        for (int col = 0; col < cols; col++) {
+          if (grid.isHole(row, col)) {
+            continue;
+          }
+          int east = strong;
+          int westSide = weak;
+          if (snake && (rows - 1 - row) % 2 == 1) {
+            east = weak;
+          } else if (snake && west) {
+            east = weak;
+            westSide = strong;
+          }
+          grid.placeCard(row, col, new ThreeTriosCard("chain", strong, weak, east, westSide),
+                  blue);
+          if (first == null) {
+            first = new Position(row, col);
+          }
+        }
+      }
+      this.origin = first;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public void prepare() {
+      for (int row = 0; row < grid.getRows(); row++) {
+        for (int col = 0; col < grid.getCols(); col++) {
+          if (!grid.isHole(row, col)) {
+            grid.setOwner(row, col, row == origin.row && col == origin.col ? red : blue);
+          }
+        }
+      }
+    }
+
+    @Override
+    public Object run() {
+      model.executeBattlePhase(origin);
+      return grid;
+    }
+  }
+
+  /**
+   * Times findBestMove for a new strategy object, so that no strategy reuses what it learned
+   * searching the same position before.
+   */
+  private static final class StrategyBenchmark implements Benchmark {
+    private final String name;
+    private final Supplier<AIStrategy> strategies;
+    private final MainModelInterface model;
+    private AIStrategy strategy;
+
+    StrategyBenchmark(String name, Supplier<AIStrategy> strategies, MainModelInterface model) {
+      this.name = name;
+      this.strategies = strategies;
+      this.model = model;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public void prepare() {
+      strategy = strategies.get();
+      StrategyUtil.forgetMemo();
+    }
+
+    @Override
+    public Object run() {
+      return strategy.findBestMove(model, model.getCurrentPlayer());
+    }
+  }
+}
@@ -0,0 +1,285 @@
+package cs3500.threetrios.benchmark;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import cs3500.threetrios.model.BoardConfigReader;
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.CardConfigReader;
+import cs3500.threetrios.model.MainModelInterface;
+import cs3500.threetrios.model.ModelFactory;
+import cs3500.threetrios.model.NeighborTable;
+import cs3500.threetrios.model.ReadOnlyThreeTriosModel;
+import cs3500.threetrios.model.SearchState;
+import cs3500.threetrios.tournament.Tournament;
+
+/**
+ * Counts every line of play up to a given depth from a position, like perft in chess engines.
+ * Every card of the current player's hand is tried on every empty cell, including cards with
+ * the same values, and each line of moves that reaches the depth, or the end of the game before
+ * it, is one leaf. For the moves into the leaves it also counts the cards flipped, the flips
+ * made by combos, which are flips of cards not next to the card placed, and the moves with at
+ * least one such flip. The counts depend only on the rules, so they check that a faster grid or
+ * battle engine still plays exactly the same game, while the time they take measures how fast
+ * moves are made and taken back.
+ *
+ * <p>java cs3500.threetrios.benchmark.Perft [board=file] [cards=file] [depth=n] [seed=n]
+ *
+ * <p>Counts every rule set ModelFactory can build, from the same deal of the given board and
+ * cards, the bundled 3x5 board and 25 cards by default.
+ */
+public final class Perft {
+  private final SearchState state;
+  private final NeighborTable table;
+  private long leaves;
+  private long moves;
+  private long flips;
+  private long comboFlips;
+  private long combos;
+
+  private Perft(SearchState state) {
+    this.state = state;
+    this.table = state.getNeighborTable();
+  }
+
+  /**
+   * Counts the lines of play from the current position of a started game. The game itself is
+   * not changed.
+   *
+   * @param model the game
+   * @param depth the number of moves to look ahead
+   * @return the counts
+   * @throws IllegalArgumentException if the model is null or the depth is negative
+   * @throws IllegalStateException    if the game has not been started
+   */
+  public static Counts count(ReadOnlyThreeTriosModel model, int depth) {
+    if (model == null) {
+      throw new IllegalArgumentException("Model cannot be null");
+    }
+    if (depth < 0) {
+      throw new IllegalArgumentException("Depth cannot be negative");
+    }
+    Perft perft = new Perft(new SearchState(model));
+    long start = System.nanoTime();
+    perft.search(depth);
+    long elapsed = System.nanoTime() - start;
+    return new Counts(depth, perft.leaves, perft.moves, perft.flips, perft.comboFlips,
+            perft.combos, elapsed);
+  }
+
+  private void search(int depth) {
+    if (depth == 0 || state.isGameOver()) {
+      leaves++;
+      return;
+    }
+    int hand = state.getHandSize(state.getCurrentPlayer());
+    for (int slot = 0; slot < hand; slot++) {
+      for (int row = 0; row < state.getRows(); row++) {
+        for (int col = 0; col < state.getCols(); col++) {
+          if (state.canPlace(row, col)) {
+            state.makeMove(slot, row, col);
+            moves++;
+            if (depth == 1 || state.isGameOver()) {
+              countFlips(table.indexOf(row, col));
+            }
+            search(depth - 1);
+            state.unmakeMove();
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Adds the flips of the last move, telling apart the combo flips by whether the flipped card
+   * is next to the placed one.
+   */
+  private void countFlips(int placed) {
+    int count = state.getLastFlipCount();
+    flips += count;
+    boolean combo = false;
+    for (int i = 0; i < count; i++) {
+      int cell = state.getLastFlippedCell(i);
+      boolean adjacent = false;
+      for (int k = table.neighborStart(placed); k < table.neighborEnd(placed); k++) {
+        if (table.neighborCell(k) == cell) {
+          adjacent = true;
+          break;
+        }
+      }
+      if (!adjacent) {
+        comboFlips++;
+        combo = true;
+      }
+    }
+    if (combo) {
+      combos++;
+    }
+  }
+
+  /**
+   * Prints the counts of every rule set from one deal.
+   *
+   * @param args options, each optional: board=file and cards=file are the configuration files
+   *             of the game, depth=n is the number of moves to look ahead, 3 by default, and
+   *             seed=n is the seed the cards are dealt with, 0 by default
+   * @throws IOException if a configuration file cannot be read
+   */
+  public static void main(String[] args) throws IOException {
+    Map<String, String> options = new HashMap<>();
+    for (String arg : args) {
+      int equals = arg.indexOf('=');
+      options.put(equals < 0 ? arg : arg.substring(0, equals),
+              equals < 0 ? "" : arg.substring(equals + 1));
+    }
+    String board = options.getOrDefault("board",
+            EngineBenchmarks.DEFAULT_CONFIGS + "/board1-NoHoles");
+    String cards = options.getOrDefault("cards",
+            EngineBenchmarks.DEFAULT_CONFIGS + "/card2-EnoughCards");
+    int depth = Integer.parseInt(options.getOrDefault("depth", "3"));
+    long seed = Long.parseLong(options.getOrDefault("seed", "0"));
+
+    List<Card> deck = CardConfigReader.readCardConfig(cards);
+    System.out.printf("# perft of %s with %s, depth %d, seed %d%n", board, cards, depth, seed);
+    System.out.println(Counts.header());
+    long moves = 0;
+    long nanos = 0;
+    for (String[] rules : Tournament.ruleCombinations()) {
+      MainModelInterface model = ModelFactory.createModel(rules);
+      model.startGame(BoardConfigReader.readBoardConfig(board), deck,
+              new SplittableRandom(seed));
+      Counts counts = count(model, depth);
+      System.out.println(counts.format(rules.length == 0 ? "normal" : String.join("+", rules)));
+      moves += counts.getMoves();
+      nanos += counts.getNanos();
+    }
+    System.out.printf(Locale.ROOT, "# %d moves in %.2f s, %.0f moves/s%n", moves, nanos / 1e9,
+            nanos == 0 ? 0 : moves * 1e9 / nanos);
+  }
+
+  /**
+   * The counts of one perft run.
+   */
+  public static final class Counts {
+    private final int depth;
+    private final long leaves;
+    private final long moves;
+    private final long flips;
+    private final long comboFlips;
+    private final long combos;
+    private final long nanos;
+
+    private Counts(int depth, long leaves, long moves, long flips, long comboFlips,
+                   long combos, long nanos) {
+      this.depth = depth;
+      this.leaves = leaves;
+      this.moves = moves;
+      this.flips = flips;
+      this.comboFlips = comboFlips;
+      this.combos = combos;
+      this.nanos = nanos;
+    }
+
+    /**
+     * Gets the depth counted to.
+     *
+     * @return the number of moves looked ahead
+     */
+    public int getDepth() {
+      return depth;
+    }
+
+    /**
+     * Gets the number of lines of play that reach the depth or the end of the game.
+     *
+     * @return the leaf count
+     */
+    public long getLeaves() {
+      return leaves;
+    }
+
+    /**
+     * Gets the number of moves made at every depth.
+     *
+     * @return the move count
+     */
+    public long getMoves() {
+      return moves;
+    }
+
+    /**
+     * Gets the number of cards flipped by the moves into the leaves.
+     *
+     * @return the flip count
+     */
+    public long getFlips() {
+      return flips;
+    }
+
+    /**
+     * Gets the number of those flips of cards not next to the card placed.
+     *
+     * @return the combo flip count
+     */
+    public long getComboFlips() {
+      return comboFlips;
+    }
+
+    /**
+     * Gets the number of moves into the leaves with at least one combo flip.
+     *
+     * @return the combo count
+     */
+    public long getCombos() {
+      return combos;
+    }
+
+    /**
+     * Gets the time the count took.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getNanos() {
+      return nanos;
+    }
+
+    /**
+     * Gets the number of moves made and taken back per second.
+     *
+     * @return the moves per second
+     */
+    public double getMovesPerSecond() {
+      return nanos == 0 ? 0 : moves * 1e9 / nanos;
+    }
+
+    /**
+     * Gets the column header that lines up with format.
+     *
+     * @return the header
+     */
+    public static String header() {
+      return String.format("%-24s %5s %14s %14s %14s %14s %12s", "rules", "depth", "leaves",
+              "flips", "combo flips", "combos", "moves/s");
+    }
+
+    /**
+     * Formats the counts as a row of a table.
+     *
+     * @param name the name of the row
+     * @return the row
+     */
+    public String format(String name) {
+      return String.format(Locale.ROOT, "%-24s %5d %14d %14d %14d %14d %12.0f", name, depth,
+              leaves, flips, comboFlips, combos, getMovesPerSecond());
+    }
+
+    @Override
+    public String toString() {
+      return format("perft");
+    }
+  }
+}
@@ -0,0 +1,287 @@
+package cs3500.threetrios.controller;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import javax.swing.SwingUtilities;
+
+import cs3500.threetrios.model.MainModelInterface;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.strategy.AIMove;
+import cs3500.threetrios.strategy.StrategyUtil;
+
+/**
+ * Computes AI moves away from the Swing event dispatch thread, so that the view keeps painting
+ * and responding while a strategy searches. Each move is searched on the worker's executor and
+ * handed back on the event dispatch thread. A move can be cancelled through the token returned
+ * when it is requested, which interrupts its search, and a time limit can be set, after which
+ * the search is interrupted and the first legal move found by StrategyUtil.getDefaultMove is
+ * played instead. Searching strategies notice an interrupt within a few thousand positions.
+ * The fallback is only played once the search has stopped, since strategies that never check
+ * for interrupts keep reading the game until they finish, and the game must not change under
+ * them; the move they find is then thrown away. The fallback is also played when a strategy
+ * throws, after the exception is printed to the standard error stream.
+ */
+public class AIMoveWorker {
+  /**
+   * The time limit that lets every search run to the end.
+   */
+  public static final long NO_TIMEOUT = 0;
+
+  private final ExecutorService executor;
+  private final ScheduledExecutorService timer;
+  private final long timeoutMillis;
+
+  /**
+   * Constructs a worker with its own search thread.
+   *
+   * @param timeoutMillis the time each move may take in milliseconds, or NO_TIMEOUT
+   * @throws IllegalArgumentException if the time limit is negative
+   */
+  public AIMoveWorker(long timeoutMillis) {
+    this(Executors.newSingleThreadExecutor(daemonThreads("ai-move")), timeoutMillis);
+  }
+
+  /**
+   * Constructs a worker that searches on the given executor.
+   *
+   * @param executor      the executor that runs the searches
+   * @param timeoutMillis the time each move may take in milliseconds, or NO_TIMEOUT
+   * @throws IllegalArgumentException if the executor is null or the time limit is negative
+   */
+  public AIMoveWorker(ExecutorService executor, long timeoutMillis) {
+    if (executor == null) {
+      throw new IllegalArgumentException("Executor cannot be null");
+    }
+    if (timeoutMillis < 0) {
+      throw new IllegalArgumentException("Time limit cannot be negative");
+    }
+    this.executor = executor;
+    this.timer = Executors.newSingleThreadScheduledExecutor(daemonThreads("ai-move-timer"));
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  /**
+   * Starts searching for the player's next move. Unless the move is cancelled first, the move
+   * found, or the fallback move if the search fails or runs out of time, is given to the
+   * callback on the event dispatch thread. Nothing is given if no move can be played.
+   *
+   * @param model    the game
+   * @param player   the AI player to move
+   * @param callback what to do with the move, run on the event dispatch thread
+   * @return the token that cancels the move
+   * @throws IllegalArgumentException if an argument is null
+   */
+  public MoveToken requestMove(MainModelInterface model, AIPlayer player,
+                               Consumer<AIMove> callback) {
+    if (model == null || player == null || callback == null) {
+      throw new IllegalArgumentException("Model, player and callback cannot be null");
+    }
+    MoveToken token = new MoveToken();
+    token.search = executor.submit(() -> {
+      if (!token.startSearch()) {
+        return;
+      }
+      AIMove move;
+      try {
+        move = player.getNextMove(model);
+      } catch (RuntimeException e) {
+        System.err.println("AI player " + player.getColor()
+                + " failed to find a move, playing the first legal move instead");
+        e.printStackTrace();
+        move = null;
+      } finally {
+        token.endSearch();
+        StrategyUtil.forgetMemo();
+      }
+      deliver(token, model, player, token.hasTimedOut() ? null : move, callback);
+    });
+    if (timeoutMillis != NO_TIMEOUT) {
+      token.timeout = timer.schedule(() -> {
+        if (token.timeOut()) {
+          token.search.cancel(false);
+          deliver(token, model, player, null, callback);
+        }
+      }, timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+    return token;
+  }
+
+  /**
+   * Cancels every search in progress and stops the worker's threads.
+   */
+  public void shutdown() {
+    executor.shutdownNow();
+    timer.shutdownNow();
+  }
+
+  /**
+   * Hands a move to the callback on the event dispatch thread, if no move has been handed over
+   * for the token yet and it was not cancelled. A missing move is replaced by the fallback.
+   */
+  private void deliver(MoveToken token, MainModelInterface model, AIPlayer player,
+                       AIMove move, Consumer<AIMove> callback) {
+    if (!token.complete()) {
+      return;
+    }
+    SwingUtilities.invokeLater(() -> {
+      if (token.isCancelled()) {
+        return;
+      }
+      AIMove chosen = move != null ? move : fallbackMove(model, player);
+      if (chosen != null) {
+        callback.accept(chosen);
+      }
+    });
+  }
+
+  /**
+   * Finds the first legal move of the game's player with the AI player's color, or null if the
+   * game is over or the player cannot move.
+   */
+  private static AIMove fallbackMove(MainModelInterface model, AIPlayer player) {
+    if (model.isGameOver()) {
+      return null;
+    }
+    Player modelPlayer = player;
+    for (Player p : model.getPlayers()) {
+      if (p.getColor().equals(player.getColor())) {
+        modelPlayer = p;
+        break;
+      }
+    }
+    try {
+      return StrategyUtil.getDefaultMove(model, modelPlayer);
+    } catch (IllegalStateException e) {
+      return null;
+    }
+  }
+
+  private static ThreadFactory daemonThreads(String name) {
+    return task -> {
+      Thread thread = new Thread(task, name);
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /**
+   * The token of one requested move, which can cancel it until it has been played.
+   */
+  public static final class MoveToken {
+    private volatile Future<?> search;
+    private volatile Future<?> timeout;
+    private Thread searcher;
+    private boolean timedOut;
+    private boolean completed;
+    private boolean cancelled;
+
+    private MoveToken() {
+    }
+
+    /**
+     * Cancels the move, interrupting its search. Once cancelled, the move is never given to the
+     * callback, even if it was already found.
+     */
+    public void cancel() {
+      synchronized (this) {
+        cancelled = true;
+      }
+      Future<?> running = search;
+      if (running != null) {
+        running.cancel(true);
+      }
+      Future<?> limit = timeout;
+      if (limit != null) {
+        limit.cancel(false);
+      }
+    }
+
+    /**
+     * Checks if the move was cancelled.
+     *
+     * @return true if cancel has been called
+     */
+    public synchronized boolean isCancelled() {
+      return cancelled;
+    }
+
+    /**
+     * Checks if the search has finished, by finding a move, failing, running out of time or
+     * being cancelled.
+     *
+     * @return true if the search is over
+     */
+    public synchronized boolean isDone() {
+      return completed || cancelled;
+    }
+
+    /**
+     * Marks the search as started on the current thread, unless the move already ran out of
+     * time or was cancelled while it waited to be searched.
+     */
+    private synchronized boolean startSearch() {
+      if (timedOut || cancelled) {
+        return false;
+      }
+      searcher = Thread.currentThread();
+      return true;
+    }
+
+    /**
+     * Marks the search as stopped, and clears an interrupt meant for it so that it does not
+     * reach the next task run on the same thread.
+     */
+    private void endSearch() {
+      synchronized (this) {
+        searcher = null;
+      }
+      Thread.interrupted();
+    }
+
+    /**
+     * Marks the move as out of time and interrupts its search if one is running.
+     *
+     * @return true if no search has started, so the fallback can be played at once; false if
+     *         the search is running and plays the fallback when it stops, or the move is over
+     */
+    private synchronized boolean timeOut() {
+      if (completed || cancelled) {
+        return false;
+      }
+      timedOut = true;
+      if (searcher != null) {
+        searcher.interrupt();
+        return false;
+      }
+      return true;
+    }
+
+    private synchronized boolean hasTimedOut() {
+      return timedOut;
+    }
+
+    /**
+     * Marks the search as finished, stopping the timer, unless it already was or the move was
+     * cancelled.
+     */
+    private boolean complete() {
+      synchronized (this) {
+        if (completed || cancelled) {
+          return false;
+        }
+        completed = true;
+      }
+      Future<?> limit = timeout;
+      if (limit != null) {
+        limit.cancel(false);
+      }
+      return true;
+    }
+  }
+}
@@ -1,6 +1,11 @@
 package cs3500.threetrios.controller;
 
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import cs3500.threetrios.model.Card;
 import cs3500.threetrios.model.Grid;
@@ -8,16 +13,22 @@ import cs3500.threetrios.model.MainModelInterface;
 import cs3500.threetrios.model.Player;
 import cs3500.threetrios.strategy.AIMove;
 import cs3500.threetrios.strategy.AIStrategy;
+import cs3500.threetrios.strategy.PonderingStrategy;
 
 /**
  * A decorator for an AI-controlled player in the ThreeTrios game.
  * This implementation uses a strategy pattern to determine moves and gives basic player operations
  * to a base player instance.
  * The AI player computes moves automatically when it's their turn instead of waiting for input.
+ * Pondering can be turned on, so that a strategy able to think ahead searches on a background
+ * executor during the opponent's turn and finds its own move faster afterwards.
  */
 public class AIPlayer implements Player {
   private final Player basePlayer;
   private AIStrategy strategy;
+  private ExecutorService ponderExecutor;
+  private AtomicBoolean ponderStop;
+  private Future<?> pondering;
 
   /**
    * Constructs a new AI player that wraps around an existing base player.
@@ -61,6 +72,7 @@ public class AIPlayer implements Player {
 
   @Override
   public void setStrategy(AIStrategy strategy) {
+    stopPondering();
     this.strategy = strategy;
   }
 
@@ -69,6 +81,68 @@ public class AIPlayer implements Player {
     if (strategy == null) {
       throw new IllegalStateException("No strategy set for AI player");
     }
+    stopPondering();
     return strategy.findBestMove(model, this);
   }
+
+  /**
+   * Turns pondering on or off. Pondering is off until an executor is given.
+   *
+   * @param executor the executor to ponder on, or null to turn pondering off
+   */
+  public synchronized void setPondering(ExecutorService executor) {
+    stopPondering();
+    this.ponderExecutor = executor;
+  }
+
+  /**
+   * Starts pondering if pondering is on, the strategy can ponder, and it is the opponent's turn
+   * in a game that is not over. Any earlier pondering is stopped first.
+   *
+   * @param model the game
+   * @throws IllegalArgumentException if the model is null
+   */
+  public synchronized void startPondering(MainModelInterface model) {
+    if (model == null) {
+      throw new IllegalArgumentException("Model cannot be null");
+    }
+    stopPondering();
+    if (ponderExecutor == null || !(strategy instanceof PonderingStrategy)
+            || model.isGameOver() || model.getCurrentPlayer().getColor().equals(getColor())) {
+      return;
+    }
+    AtomicBoolean stop = new AtomicBoolean();
+    Runnable task = ((PonderingStrategy) strategy).ponder(model, this, stop);
+    ponderStop = stop;
+    pondering = ponderExecutor.submit(task);
+  }
+
+  /**
+   * Stops pondering and waits for the pondering search to end, so that it does not compete with
+   * the player's own search. Does nothing if the player is not pondering.
+   */
+  public synchronized void stopPondering() {
+    if (pondering == null) {
+      return;
+    }
+    ponderStop.set(true);
+    try {
+      pondering.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException | CancellationException e) {
+      // whatever pondering found before it failed is still in the strategy's table
+    }
+    pondering = null;
+    ponderStop = null;
+  }
+
+  /**
+   * Checks if the player is pondering.
+   *
+   * @return true if pondering has started and not been stopped
+   */
+  public synchronized boolean isPondering() {
+    return pondering != null;
+  }
 }
\ No newline at end of file
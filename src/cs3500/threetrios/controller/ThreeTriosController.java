@@ -8,6 +8,11 @@ import cs3500.threetrios.model.Player;
 import cs3500.threetrios.view.ThreeTriosFrame;
 import cs3500.threetrios.view.ThreeTriosSwingView;
 import cs3500.threetrios.strategy.AIMove;
+import cs3500.threetrios.strategy.StrategyUtil;
+
+import java.awt.Window;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 
 import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
@@ -16,18 +21,23 @@ import javax.swing.SwingUtilities;
  * Controller for the ThreeTrios game that manages game flow and coordinates between
  * the model, view, and players.
  * Handles both human and AI player interactions, processing view events for human players
- * and automatically triggering moves for AI players.
+ * and automatically triggering moves for AI players. AI moves are searched by an AIMoveWorker
+ * off the event dispatch thread and played once they come back to it. When the game ends or the
+ * view's window closes, a move still being searched is cancelled and the worker is shut down.
  */
 public class ThreeTriosController implements ModelFeatures, ViewFeatures {
   private final MainModelInterface model;
   private final ThreeTriosFrame view;
   private final Player controlledPlayer;
+  private final AIMoveWorker worker;
   private Card selectedCard;
   private boolean isMyTurn;
+  private AIMoveWorker.MoveToken pendingMove;
 
   /**
    * Constructs a new controller for the ThreeTrios game.
    * Initializes the connection between the parameters and sets up event listeners.
+   * An AI player's moves are searched on a worker of the controller's own with no time limit.
    *
    * @param model  the game model interface
    * @param view   the game view interface
@@ -35,13 +45,35 @@ public class ThreeTriosController implements ModelFeatures, ViewFeatures {
    * @throws IllegalArgumentException if any parameter is null
    */
   public ThreeTriosController(MainModelInterface model, ThreeTriosFrame view, Player player) {
+    this(model, view, player,
+            player instanceof AIPlayer ? new AIMoveWorker(AIMoveWorker.NO_TIMEOUT) : null);
+  }
+
+  /**
+   * Constructs a new controller for the ThreeTrios game that searches AI moves on the given
+   * worker. The controller takes over the worker and shuts it down when the game ends or the
+   * view's window closes.
+   *
+   * @param model  the game model interface
+   * @param view   the game view interface
+   * @param player the player this controller is responsible for
+   * @param worker the worker that searches the AI player's moves, or null for a human player
+   * @throws IllegalArgumentException if the model, view or player is null, or the player is an
+   *                                  AI player and the worker is null
+   */
+  public ThreeTriosController(MainModelInterface model, ThreeTriosFrame view, Player player,
+                              AIMoveWorker worker) {
     if (model == null || view == null || player == null) {
       throw new IllegalArgumentException("No arguments can be null");
     }
+    if (player instanceof AIPlayer && worker == null) {
+      throw new IllegalArgumentException("An AI player needs a worker to search its moves");
+    }
 
     this.model = model;
     this.view = view;
     this.controlledPlayer = player;
+    this.worker = worker;
 
     Player currentPlayer = model.getCurrentPlayer();
     this.isMyTurn = (currentPlayer != null
@@ -52,6 +84,14 @@ public class ThreeTriosController implements ModelFeatures, ViewFeatures {
     if (view instanceof ThreeTriosSwingView) {
       ((ThreeTriosSwingView) view).addViewFeatures(this);
     }
+    if (view instanceof Window) {
+      ((Window) view).addWindowListener(new WindowAdapter() {
+        @Override
+        public void windowClosing(WindowEvent e) {
+          stopWorker();
+        }
+      });
+    }
 
     updateViewTitle();
   }
@@ -103,6 +143,11 @@ public class ThreeTriosController implements ModelFeatures, ViewFeatures {
 
   @Override
   public void notifyGameOver(Player winner) {
+    stopWorker();
+    StrategyUtil.forgetMemo();
+    if (controlledPlayer instanceof AIPlayer) {
+      ((AIPlayer) controlledPlayer).stopPondering();
+    }
     clearSelection();
     view.refresh();
     String message;
@@ -137,22 +182,29 @@ public class ThreeTriosController implements ModelFeatures, ViewFeatures {
   }
 
   /**
-   * Handles the AI player's turn by computing and executing their move.
+   * Handles the AI player's turn by starting the search for their move on the worker.
    * This method is called automatically when it becomes an AI player's turn.
    */
   private void makeAIMove() {
     if (!isMyTurn || model.isGameOver()) {
       return;
     }
+    cancelAIMove();
+    pendingMove = worker.requestMove(model, (AIPlayer) controlledPlayer, this::playAIMove);
+  }
 
-    try {
-      AIPlayer aiPlayer = (AIPlayer) controlledPlayer;
-
-      AIMove move = aiPlayer.getNextMove(model);
-      if (move == null) {
-        return;
-      }
+  /**
+   * Plays a move found by the worker, if it is still the AI player's turn.
+   *
+   * @param move the move to play
+   */
+  private void playAIMove(AIMove move) {
+    pendingMove = null;
+    if (!isMyTurn || model.isGameOver()) {
+      return;
+    }
 
+    try {
       Card card = move.getCard();
       if (card == null) {
         return;
@@ -167,6 +219,28 @@ public class ThreeTriosController implements ModelFeatures, ViewFeatures {
     }
   }
 
+  /**
+   * Cancels the AI move being searched, if any, so that it is never played. Used when the game
+   * is reset or abandoned.
+   */
+  public void cancelAIMove() {
+    if (pendingMove != null) {
+      pendingMove.cancel();
+      pendingMove = null;
+    }
+  }
+
+  /**
+   * Cancels the AI move being searched and shuts the worker down, once no more moves will be
+   * needed.
+   */
+  private void stopWorker() {
+    cancelAIMove();
+    if (worker != null) {
+      worker.shutdown();
+    }
+  }
+
   @Override
   public void notifyTurnChange(Player player) {
     boolean wasMyTurn = isMyTurn;
@@ -174,11 +248,9 @@ public class ThreeTriosController implements ModelFeatures, ViewFeatures {
     updateViewTitle();
     view.refresh();
     if (isMyTurn && !wasMyTurn && controlledPlayer instanceof AIPlayer && !model.isGameOver()) {
-      SwingUtilities.invokeLater(new Runnable() {
-        public void run() {
-          makeAIMove();
-        }
-      });
+      makeAIMove();
+    } else if (!isMyTurn && controlledPlayer instanceof AIPlayer && !model.isGameOver()) {
+      ((AIPlayer) controlledPlayer).startPondering(model);
     }
   }
 
@@ -220,6 +292,8 @@ public class ThreeTriosController implements ModelFeatures, ViewFeatures {
 
     if (isMyTurn && controlledPlayer instanceof AIPlayer) {
       makeAIMove();
+    } else if (controlledPlayer instanceof AIPlayer) {
+      ((AIPlayer) controlledPlayer).startPondering(model);
     }
   }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package cs3500.threetrios.features;
 
+import cs3500.threetrios.model.MoveDelta;
 import cs3500.threetrios.model.Player;
 
 /**
@@ -24,4 +25,15 @@ public interface ModelFeatures {
    * @throws IllegalArgumentException if the winner parameter is null
    */
   void notifyGameOver(Player winner);
-}
\ No newline at end of file
+
+  /**
+   * Notifies observers of the cells a move changed: the cell the card was placed on and every
+   * card its battles flipped, with the rule behind each flip. This method is called once per
+   * move, after the battles and before the turn changes, so observers can update only those
+   * cells. By default it does nothing, for observers that read the whole board on each turn.
+   *
+   * @param delta the cells the move changed
+   */
+  default void notifyCellsChanged(MoveDelta delta) {
+  }
+}
@@ -0,0 +1,157 @@
+package cs3500.threetrios.model;
+
+/**
+ * Resolves the battle phase of a ThreeTrios move over cell indices of (row * cols + col).
+ * The engine allocates its work queue, visited bitset and flip log once for a board size
+ * and reuses them on every move, so resolving a combo chain creates no garbage.
+ * One engine must only be used by one thread at a time.
+ */
+final class BattleEngine {
+  private final NeighborTable table;
+  private final int[] queue;
+  private final long[] visited;
+  private final int[] flipped;
+  private final Player[] flippedFrom;
+  private int flipCount;
+
+  /**
+   * Constructs a battle engine with buffers sized for the board the neighbour table describes.
+   *
+   * @param table the neighbour table of the board battles are resolved on
+   */
+  BattleEngine(NeighborTable table) {
+    int cells = table.getCellCount();
+    this.table = table;
+    this.queue = new int[cells];
+    this.visited = new long[(cells + 63) >>> 6];
+    this.flipped = new int[cells];
+    this.flippedFrom = new Player[cells];
+  }
+
+  /**
+   * Runs the combo battle starting from the card at the given cell. Each card that wins a battle
+   * against an adjacent card of a different owner flips it, and every flipped card then battles
+   * its own neighbours in turn until no more cards flip.
+   *
+   * @param grid the grid to resolve battles on
+   * @param row  the row of the card that starts the battle
+   * @param col  the column of the card that starts the battle
+   * @return the number of cards flipped
+   */
+  int resolveCombo(Grid grid, int row, int col) {
+    int start = table.indexOf(row, col);
+    int head = 0;
+    int tail = 0;
+    flipCount = 0;
+    queue[tail++] = start;
+    mark(start);
+
+    while (head < tail) {
+      int cell = queue[head++];
+      Card attacker = grid.getCard(table.rowOf(cell), table.colOf(cell));
+      if (attacker == null) {
+        continue;
+      }
+      Player owner = grid.getOwner(table.rowOf(cell), table.colOf(cell));
+      int attack = attacker.getPackedStats();
+
+      for (int k = table.neighborStart(cell); k < table.neighborEnd(cell); k++) {
+        int adjacent = table.neighborCell(k);
+        if (isMarked(adjacent)) {
+          continue;
+        }
+        int adjRow = table.rowOf(adjacent);
+        int adjCol = table.colOf(adjacent);
+        Card defender = grid.getCard(adjRow, adjCol);
+        if (defender == null) {
+          continue;
+        }
+        Player defenderOwner = grid.getOwner(adjRow, adjCol);
+        if (defenderOwner == owner) {
+          continue;
+        }
+        int dir = table.neighborDirectionOrdinal(k);
+        if (CardStats.side(attack, dir) > CardStats.side(defender.getPackedStats(), dir ^ 1)) {
+          grid.setOwner(adjRow, adjCol, owner);
+          flippedFrom[flipCount] = defenderOwner;
+          flipped[flipCount++] = adjacent;
+          mark(adjacent);
+          queue[tail++] = adjacent;
+        }
+      }
+    }
+
+    for (int i = 0; i < tail; i++) {
+      visited[queue[i] >>> 6] &= ~(1L << queue[i]);
+    }
+    return flipCount;
+  }
+
+  /**
+   * Counts the adjacent cards a card would flip directly if placed at the given cell,
+   * without placing it or changing any owners.
+   *
+   * @param grid   the grid to check against
+   * @param row    the row the card would be placed at
+   * @param col    the column the card would be placed at
+   * @param card   the card that would be placed
+   * @param player the player who would place the card
+   * @return the number of adjacent cards the card would beat
+   */
+  int countDirectFlips(Grid grid, int row, int col, Card card, Player player) {
+    int cell = table.indexOf(row, col);
+    int count = 0;
+    int attack = card.getPackedStats();
+    for (int k = table.neighborStart(cell); k < table.neighborEnd(cell); k++) {
+      int adjacent = table.neighborCell(k);
+      int adjRow = table.rowOf(adjacent);
+      int adjCol = table.colOf(adjacent);
+      Card defender = grid.getCard(adjRow, adjCol);
+      if (defender != null && grid.getOwner(adjRow, adjCol) != player) {
+        int dir = table.neighborDirectionOrdinal(k);
+        if (CardStats.side(attack, dir) > CardStats.side(defender.getPackedStats(), dir ^ 1)) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Returns the number of cards flipped by the last combo resolved.
+   *
+   * @return flip count of the last resolve
+   */
+  int getFlipCount() {
+    return flipCount;
+  }
+
+  /**
+   * Returns the cell index of the i-th card flipped by the last combo resolved,
+   * in the order the flips happened.
+   *
+   * @param i the position in the flip log
+   * @return the cell index of that flip
+   */
+  int getFlippedCell(int i) {
+    return flipped[i];
+  }
+
+  /**
+   * Returns the owner the i-th card flipped by the last combo resolved had before it flipped.
+   *
+   * @param i the position in the flip log
+   * @return the old owner of that card
+   */
+  Player getFlippedFrom(int i) {
+    return flippedFrom[i];
+  }
+
+  private void mark(int cell) {
+    visited[cell >>> 6] |= 1L << cell;
+  }
+
+  private boolean isMarked(int cell) {
+    return (visited[cell >>> 6] & (1L << cell)) != 0;
+  }
+}
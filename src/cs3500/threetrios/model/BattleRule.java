@@ -0,0 +1,9 @@
+package cs3500.threetrios.model;
+
+/**
+ * An enumeration of the optional battle rule variants of ThreeTrios, each of which corresponds
+ * to one of the model decorators: Reverse, Fallen Ace, Same or Plus.
+ */
+public enum BattleRule {
+  REVERSE, FALLEN_ACE, SAME, PLUS
+}
@@ -0,0 +1,232 @@
+package cs3500.threetrios.model;
+
+/**
+ * The battles of each rule variant, shared by the rule decorators and by SearchState so that
+ * a simulated move resolves exactly like a real one. Every method works on cell indices from
+ * the grid's neighbour table and writes the cells it would flip into a caller supplied buffer,
+ * which needs room for four cells, so no collections are created while battling.
+ */
+final class BattleRules {
+
+  private BattleRules() {
+  }
+
+  /**
+   * Finds the cards flipped by the Same rule: adjacent cards that show the same value toward
+   * the placed card as at least one other adjacent card, and are not owned by the player.
+   *
+   * @param grid   the grid the card was placed on
+   * @param row    the row of the placed card
+   * @param col    the column of the placed card
+   * @param player the player who placed the card
+   * @param out    the buffer the cells to flip are written to
+   * @return the number of cells written to out
+   */
+  static int sameFlips(Grid grid, int row, int col, Player player, int[] out) {
+    NeighborTable table = grid.getNeighborTable();
+    int cell = table.indexOf(row, col);
+    int start = table.neighborStart(cell);
+    int end = table.neighborEnd(cell);
+    int count = 0;
+
+    for (int k = start; k < end; k++) {
+      int value = facingValue(grid, table, k);
+      if (value == 0) {
+        continue;
+      }
+      boolean matched = false;
+      for (int j = start; j < end && !matched; j++) {
+        matched = j != k && facingValue(grid, table, j) == value;
+      }
+      if (matched && ownerOf(grid, table, table.neighborCell(k)) != player) {
+        out[count++] = table.neighborCell(k);
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Finds the cards flipped by the Plus rule: adjacent cards whose touching side equals the
+   * placed card's side, where at least two adjacent cards match with the same value, and that
+   * are not owned by the player.
+   *
+   * @param grid   the grid the card was placed on
+   * @param row    the row of the placed card
+   * @param col    the column of the placed card
+   * @param player the player who placed the card
+   * @param out    the buffer the cells to flip are written to
+   * @return the number of cells written to out
+   */
+  static int plusFlips(Grid grid, int row, int col, Player player, int[] out) {
+    NeighborTable table = grid.getNeighborTable();
+    int cell = table.indexOf(row, col);
+    int placed = grid.getCard(row, col).getPackedStats();
+    int start = table.neighborStart(cell);
+    int end = table.neighborEnd(cell);
+    int count = 0;
+
+    for (int k = start; k < end; k++) {
+      int value = plusValue(grid, table, placed, k);
+      if (value == 0) {
+        continue;
+      }
+      boolean matched = false;
+      for (int j = start; j < end && !matched; j++) {
+        matched = j != k && plusValue(grid, table, placed, j) == value;
+      }
+      if (matched && ownerOf(grid, table, table.neighborCell(k)) != player) {
+        out[count++] = table.neighborCell(k);
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Finds the cards flipped directly by the Fallen Ace rule: adjacent cards not owned by the
+   * player that the placed card beats, where a 1 also beats a 10.
+   *
+   * @param grid   the grid the card was placed on
+   * @param row    the row of the placed card
+   * @param col    the column of the placed card
+   * @param player the player who placed the card
+   * @param out    the buffer the cells to flip are written to
+   * @return the number of cells written to out
+   */
+  static int fallenAceFlips(Grid grid, int row, int col, Player player, int[] out) {
+    NeighborTable table = grid.getNeighborTable();
+    int cell = table.indexOf(row, col);
+    int attack = grid.getCard(row, col).getPackedStats();
+    int count = 0;
+
+    for (int k = table.neighborStart(cell); k < table.neighborEnd(cell); k++) {
+      int adjacent = table.neighborCell(k);
+      Card adjCard = grid.getCard(table.rowOf(adjacent), table.colOf(adjacent));
+      if (adjCard != null && ownerOf(grid, table, adjacent) != player) {
+        int battleDir = table.neighborDirectionOrdinal(k);
+        int attackValue = CardStats.side(attack, battleDir);
+        int defenseValue = CardStats.side(adjCard.getPackedStats(), battleDir ^ 1);
+        if ((attackValue == 1 && defenseValue == 10) || attackValue > defenseValue) {
+          out[count++] = adjacent;
+        }
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Runs the Reverse rule battle, in which the placed card flips each adjacent card of another
+   * owner whose touching side is higher than its own. Reverse battles do not combo.
+   *
+   * @param grid the grid the card was placed on
+   * @param row  the row of the placed card
+   * @param col  the column of the placed card
+   */
+  static void reverseBattle(Grid grid, int row, int col) {
+    reverseBattle(grid, row, col, null);
+  }
+
+  /**
+   * Runs the Reverse rule battle, recording each flip of a game's move.
+   *
+   * @param grid     the grid the card was placed on
+   * @param row      the row of the placed card
+   * @param col      the column of the placed card
+   * @param recorder the recorder of the move, or null to record nothing
+   */
+  static void reverseBattle(Grid grid, int row, int col, MoveRecorder recorder) {
+    Card newCard = grid.getCard(row, col);
+    if (newCard == null) {
+      return;
+    }
+    NeighborTable table = grid.getNeighborTable();
+    int cell = table.indexOf(row, col);
+    Player owner = grid.getOwner(row, col);
+    int attack = newCard.getPackedStats();
+
+    for (int k = table.neighborStart(cell); k < table.neighborEnd(cell); k++) {
+      int adjacent = table.neighborCell(k);
+      int adjRow = table.rowOf(adjacent);
+      int adjCol = table.colOf(adjacent);
+      Card adjCard = grid.getCard(adjRow, adjCol);
+      if (adjCard != null && grid.getOwner(adjRow, adjCol) != owner) {
+        int battleDir = table.neighborDirectionOrdinal(k);
+        if (CardStats.side(attack, battleDir)
+                < CardStats.side(adjCard.getPackedStats(), battleDir ^ 1)) {
+          if (recorder != null) {
+            recorder.flip(adjacent, table, grid.getOwner(adjRow, adjCol), owner,
+                    BattleRule.REVERSE);
+          }
+          grid.setOwner(adjRow, adjCol, owner);
+        }
+      }
+    }
+  }
+
+  /**
+   * Gives every listed cell to the player. Cells the player already owns, such as ones the
+   * base battle flipped after they were listed, are left alone.
+   *
+   * @param grid   the grid the cells are on
+   * @param cells  the buffer of cells to flip
+   * @param count  the number of cells in the buffer
+   * @param player the new owner
+   */
+  static void flipAll(Grid grid, int[] cells, int count, Player player) {
+    flipAll(grid, cells, count, player, null, null);
+  }
+
+  /**
+   * Gives every listed cell to the player, recording each flip of a game's move.
+   *
+   * @param grid     the grid the cells are on
+   * @param cells    the buffer of cells to flip
+   * @param count    the number of cells in the buffer
+   * @param player   the new owner
+   * @param rule     the rule the cells are flipped by
+   * @param recorder the recorder of the move, or null to record nothing
+   */
+  static void flipAll(Grid grid, int[] cells, int count, Player player, BattleRule rule,
+                      MoveRecorder recorder) {
+    NeighborTable table = grid.getNeighborTable();
+    for (int i = 0; i < count; i++) {
+      int row = table.rowOf(cells[i]);
+      int col = table.colOf(cells[i]);
+      if (grid.getOwner(row, col) == player) {
+        continue;
+      }
+      if (recorder != null) {
+        recorder.flip(cells[i], table, grid.getOwner(row, col), player, rule);
+      }
+      grid.setOwner(row, col, player);
+    }
+  }
+
+  /**
+   * Gets the value the neighbour in a slot shows toward the cell the slot belongs to.
+   *
+   * @return the facing value, or 0 if the neighbouring cell is empty
+   */
+  private static int facingValue(Grid grid, NeighborTable table, int slot) {
+    int adjacent = table.neighborCell(slot);
+    Card adjCard = grid.getCard(table.rowOf(adjacent), table.colOf(adjacent));
+    if (adjCard == null) {
+      return 0;
+    }
+    return CardStats.side(adjCard.getPackedStats(), table.neighborDirectionOrdinal(slot) ^ 1);
+  }
+
+  /**
+   * Gets the value on which the neighbour in a slot matches the placed card for the Plus rule.
+   *
+   * @return the matching value, or 0 if the cell is empty or the sides differ
+   */
+  private static int plusValue(Grid grid, NeighborTable table, int placed, int slot) {
+    int value = facingValue(grid, table, slot);
+    int placedValue = CardStats.side(placed, table.neighborDirectionOrdinal(slot));
+    return value == placedValue ? value : 0;
+  }
+
+  private static Player ownerOf(Grid grid, NeighborTable table, int cell) {
+    return grid.getOwner(table.rowOf(cell), table.colOf(cell));
+  }
+}
@@ -0,0 +1,421 @@
+package cs3500.threetrios.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Implementation of the Grid interface that keeps the board layout as packed bitmasks.
+ * Every cell is given an index of (row * cols + col), and the hole and occupancy state of a cell
+ * is the bit at that index, stored across as many 64-bit words as the board needs.
+ * This allows whole-board questions such as isFull and getEmptyCells to be answered
+ * with a few mask operations per 64 cells instead of a scan over every cell.
+ * The axes are organized the same as ThreeTriosGrid: (row, column) with (0,0) in the top left.
+ * A snapshot shares the grid's arrays until the grid next changes, when the grid copies them
+ * for itself, so taking snapshots of a grid that has not changed since costs nothing.
+ */
+public class BitboardGrid implements Grid {
+  private final int rows;
+  private final int cols;
+  private final int words;
+  private final long[] holes;
+  private final long[] playable;
+  private long[] occupied;
+  private Card[] cards;
+  private Player[] owners;
+  private final int cardCellCount;
+  private final NeighborTable neighborTable;
+  private final OwnerCounts ownerCounts;
+  private final boolean frozen;
+  private BitboardGrid snapshot;
+  private int occupiedCount;
+  private long boardHash;
+  private long version;
+  private int[] journalCells;
+  private Player[] journalOwners;
+  private int journalSize;
+
+  /**
+   * Constructs a BitboardGrid with the specified dimensions and holes.
+   *
+   * @param rows  number of rows
+   * @param cols  number of columns
+   * @param holes an array representing the hole locations
+   * @throws IllegalArgumentException if the grid dimensions are invalid
+   *                                  or the number of card cells is even
+   */
+  public BitboardGrid(int rows, int cols, boolean[][] holes) {
+    if (rows <= 0 || cols <= 0) {
+      throw new IllegalArgumentException("Grid dimensions must be positive");
+    }
+    if (holes.length != rows || holes[0].length != cols) {
+      throw new IllegalArgumentException("Holes array dimensions do not match grid dimensions");
+    }
+
+    this.rows = rows;
+    this.cols = cols;
+    this.words = (rows * cols + 63) >>> 6;
+    this.holes = new long[words];
+    this.playable = new long[words];
+    this.occupied = new long[words];
+    this.cards = new Card[rows * cols];
+    this.owners = new Player[rows * cols];
+    this.ownerCounts = new OwnerCounts();
+    this.frozen = false;
+
+    for (int i = 0; i < rows; i++) {
+      for (int j = 0; j < cols; j++) {
+        int index = i * cols + j;
+        if (holes[i][j]) {
+          this.holes[index >>> 6] |= 1L << index;
+        } else {
+          this.playable[index >>> 6] |= 1L << index;
+        }
+      }
+    }
+
+    this.cardCellCount = popCount(playable);
+    if (cardCellCount % 2 == 0) {
+      throw new IllegalArgumentException("Grid must have odd number of card cells");
+    }
+    this.neighborTable = new NeighborTable(rows, cols, holes);
+  }
+
+  /**
+   * Constructs a copy of another BitboardGrid with the same cards and owners. The copy shares
+   * the other grid's hole layout and neighbour table, which never change, and does not copy its
+   * journal.
+   *
+   * @param other the grid to copy
+   */
+  BitboardGrid(BitboardGrid other) {
+    this(other, false);
+  }
+
+  /**
+   * Constructs a copy of another BitboardGrid, or a frozen snapshot of it that shares its card,
+   * owner and occupancy arrays until the other grid next changes.
+   */
+  private BitboardGrid(BitboardGrid other, boolean frozen) {
+    this.rows = other.rows;
+    this.cols = other.cols;
+    this.words = other.words;
+    this.holes = other.holes;
+    this.playable = other.playable;
+    this.occupied = frozen ? other.occupied : other.occupied.clone();
+    this.cards = frozen ? other.cards : other.cards.clone();
+    this.owners = frozen ? other.owners : other.owners.clone();
+    this.ownerCounts = new OwnerCounts(other.ownerCounts);
+    this.frozen = frozen;
+    this.cardCellCount = other.cardCellCount;
+    this.neighborTable = other.neighborTable;
+    this.occupiedCount = other.occupiedCount;
+    this.boardHash = other.boardHash;
+    this.version = other.version;
+  }
+
+  @Override
+  public int getRows() {
+    return rows;
+  }
+
+  @Override
+  public int getCols() {
+    return cols;
+  }
+
+  @Override
+  public boolean isHole(int row, int col) {
+    return testBit(holes, indexOf(row, col));
+  }
+
+  @Override
+  public boolean isEmpty(int row, int col) {
+    int index = indexOf(row, col);
+    return testBit(playable, index) && !testBit(occupied, index);
+  }
+
+  @Override
+  public Card getCard(int row, int col) {
+    return cards[indexOf(row, col)];
+  }
+
+  @Override
+  public void placeCard(int row, int col, Card card) {
+    placeCard(row, col, card, null);
+  }
+
+  @Override
+  public void placeCard(int row, int col, Card card, Player owner) {
+    int index = indexOf(row, col);
+    if (card == null) {
+      throw new IllegalArgumentException("Cannot place null card");
+    }
+    if (testBit(holes, index)) {
+      throw new IllegalStateException("Cannot place card in a hole");
+    }
+    if (testBit(occupied, index)) {
+      throw new IllegalStateException("Position already contains a card");
+    }
+    beforeWrite();
+    cards[index] = card;
+    owners[index] = owner;
+    occupied[index >>> 6] |= 1L << index;
+    occupiedCount++;
+    ownerCounts.move(null, owner);
+    boardHash ^= Zobrist.pieceKey(index, card) ^ Zobrist.ownerKey(index, owner);
+    version++;
+  }
+
+  @Override
+  public Player getOwner(int row, int col) {
+    return owners[indexOf(row, col)];
+  }
+
+  @Override
+  public void setOwner(int row, int col, Player owner) {
+    int index = indexOf(row, col);
+    if (owner == null) {
+      throw new IllegalArgumentException("Owner cannot be null");
+    }
+    if (!testBit(occupied, index)) {
+      throw new IllegalStateException("No card at position");
+    }
+    beforeWrite();
+    if (journalCells != null) {
+      record(index);
+    }
+    changeOwner(index, owner);
+    version++;
+  }
+
+  @Override
+  public int getCardCellCount() {
+    return cardCellCount;
+  }
+
+  @Override
+  public NeighborTable getNeighborTable() {
+    return neighborTable;
+  }
+
+  @Override
+  public long getBoardHash() {
+    return boardHash;
+  }
+
+  @Override
+  public long getVersion() {
+    return version;
+  }
+
+  @Override
+  public boolean isFull() {
+    return occupiedCount == cardCellCount;
+  }
+
+  @Override
+  public List<int[]> getEmptyCells() {
+    List<int[]> emptyCells = new ArrayList<>(cardCellCount - occupiedCount);
+    for (int w = 0; w < words; w++) {
+      long empty = playable[w] & ~occupied[w];
+      while (empty != 0) {
+        int index = (w << 6) + Long.numberOfTrailingZeros(empty);
+        emptyCells.add(new int[]{index / cols, index % cols});
+        empty &= empty - 1;
+      }
+    }
+    return emptyCells;
+  }
+
+  @Override
+  public int getEmptyCellCount() {
+    return cardCellCount - occupiedCount;
+  }
+
+  /**
+   * Checks if the cell at the given index holds a card. Indices are (row * cols + col).
+   *
+   * @param index the cell index
+   * @return true if a card has been placed at that index
+   */
+  public boolean isOccupied(int index) {
+    return testBit(occupied, index);
+  }
+
+  /**
+   * Counts the occupied orthogonal neighbours of a cell, using bit tests on the occupancy words
+   * rather than card lookups.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return the number of adjacent cells that hold a card
+   * @throws IllegalArgumentException if the coordinates are invalid
+   */
+  public int countOccupiedNeighbors(int row, int col) {
+    int index = indexOf(row, col);
+    int count = 0;
+    if (row > 0 && testBit(occupied, index - cols)) {
+      count++;
+    }
+    if (row < rows - 1 && testBit(occupied, index + cols)) {
+      count++;
+    }
+    if (col > 0 && testBit(occupied, index - 1)) {
+      count++;
+    }
+    if (col < cols - 1 && testBit(occupied, index + 1)) {
+      count++;
+    }
+    return count;
+  }
+
+  @Override
+  public int countOwnedBy(Player player) {
+    return ownerCounts.get(player);
+  }
+
+  /**
+   * Starts recording every change of owner on this grid, so that changes can later be rolled
+   * back in reverse order. Used by SearchState to undo the flips of a simulated move.
+   */
+  void startJournal() {
+    if (journalCells == null) {
+      journalCells = new int[Math.max(cardCellCount, 4)];
+      journalOwners = new Player[journalCells.length];
+    }
+  }
+
+  /**
+   * Gets the number of owner changes recorded so far, to be passed to rollbackOwners later.
+   *
+   * @return the current size of the journal
+   */
+  int getJournalSize() {
+    return journalSize;
+  }
+
+  /**
+   * Gets the cell index of a recorded owner change.
+   *
+   * @param i the position of the change in the journal, oldest first
+   * @return the cell index whose owner changed
+   */
+  int getJournalCell(int i) {
+    return journalCells[i];
+  }
+
+  /**
+   * Restores the owner of every cell changed since the journal had the given size,
+   * most recent change first. Nothing changes if no owner changed since then.
+   *
+   * @param mark a size previously returned by getJournalSize
+   */
+  void rollbackOwners(int mark) {
+    if (journalSize <= mark) {
+      return;
+    }
+    beforeWrite();
+    while (journalSize > mark) {
+      journalSize--;
+      changeOwner(journalCells[journalSize], journalOwners[journalSize]);
+      journalOwners[journalSize] = null;
+    }
+    version++;
+  }
+
+  /**
+   * Removes the card at the given cell index, leaving the cell empty.
+   * Used by SearchState to take back a simulated placement.
+   *
+   * @param index the cell index
+   * @throws IllegalStateException if there is no card at the index
+   */
+  void removeCard(int index) {
+    if (!testBit(occupied, index)) {
+      throw new IllegalStateException("No card at position");
+    }
+    beforeWrite();
+    boardHash ^= Zobrist.pieceKey(index, cards[index]) ^ Zobrist.ownerKey(index, owners[index]);
+    ownerCounts.move(owners[index], null);
+    cards[index] = null;
+    owners[index] = null;
+    occupied[index >>> 6] &= ~(1L << index);
+    occupiedCount--;
+    version++;
+  }
+
+  @Override
+  public Grid snapshot() {
+    if (frozen) {
+      return this;
+    }
+    if (snapshot == null) {
+      snapshot = new BitboardGrid(this, true);
+    }
+    return snapshot;
+  }
+
+  /**
+   * Gets this grid ready to be changed once a write has been checked: refuses if it is a
+   * snapshot, and otherwise stops sharing its arrays with its last snapshot by copying them.
+   * The write counts the change in the version once it is done, so rejected writes leave both
+   * the snapshot and the version alone.
+   *
+   * @throws UnsupportedOperationException if this grid is a snapshot
+   */
+  private void beforeWrite() {
+    if (frozen) {
+      throw new UnsupportedOperationException("A grid snapshot cannot be changed");
+    }
+    if (snapshot != null) {
+      occupied = occupied.clone();
+      cards = cards.clone();
+      owners = owners.clone();
+      snapshot = null;
+    }
+  }
+
+  private void changeOwner(int index, Player owner) {
+    boardHash ^= Zobrist.ownerKey(index, owners[index]) ^ Zobrist.ownerKey(index, owner);
+    ownerCounts.move(owners[index], owner);
+    owners[index] = owner;
+  }
+
+  private void record(int index) {
+    if (journalSize == journalCells.length) {
+      journalCells = Arrays.copyOf(journalCells, journalSize * 2);
+      journalOwners = Arrays.copyOf(journalOwners, journalSize * 2);
+    }
+    journalCells[journalSize] = index;
+    journalOwners[journalSize] = owners[index];
+    journalSize++;
+  }
+
+  /**
+   * Converts a coordinate into a cell index, checking it is within the bounds of the grid.
+   *
+   * @param row the row coordinate
+   * @param col the column coordinate
+   * @return the cell index
+   * @throws IllegalArgumentException if the coordinates are invalid
+   */
+  private int indexOf(int row, int col) {
+    if (row < 0 || row >= rows || col < 0 || col >= cols) {
+      throw new IllegalArgumentException("Position out of bounds");
+    }
+    return row * cols + col;
+  }
+
+  private static boolean testBit(long[] bits, int index) {
+    return (bits[index >>> 6] & (1L << index)) != 0;
+  }
+
+  private static int popCount(long[] bits) {
+    int count = 0;
+    for (long word : bits) {
+      count += Long.bitCount(word);
+    }
+    return count;
+  }
+}
@@ -41,7 +41,7 @@ public class BoardConfigReader {
           holes[i][j] = line.charAt(j) == 'X';
         }
       }
-      return new ThreeTriosGrid(rows, cols, holes);
+      return new BitboardGrid(rows, cols, holes);
     }
   }
 }
\ No newline at end of file
@@ -7,6 +7,9 @@ package cs3500.threetrios.model;
  * Interface for a Card in the ThreeTrios game.
  * A ThreeTrios card is different from a RedSeven card in which it not only has an attack power,
  * but 4 directions which has its distinct directional power.
+ * Cards are immutable and do not know who owns them; ownership of a placed card is tracked by
+ * the Grid, and ownership of a card in hand by whose hand it is in. This lets one deck of cards
+ * be shared between any number of games.
  */
 public interface Card {
 
@@ -25,13 +28,12 @@ public interface Card {
    */
   int getAttackPower(Direction direction);
 
-  Player getOwner();
-
   /**
-   * A method to set the Card's owner, mainly focusing on the color
-   * to determine its owner.
+   * A method to return all four of the card's values at once, packed into one int
+   * in the layout described by CardStats. Individual sides can then be read with
+   * CardStats.side without going back to the card.
    *
-   * @param newOwner the new Owner of the card
+   * @return the packed values of the card's four directions
    */
-  void setOwner(Player newOwner);
+  int getPackedStats();
 }
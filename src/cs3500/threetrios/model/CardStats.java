@@ -0,0 +1,91 @@
+package cs3500.threetrios.model;
+
+/**
+ * A utility class for reading the four attack values of a card packed into a single int.
+ * Each value takes four bits, with the value for a Direction stored at bit (ordinal * 4),
+ * so NORTH occupies bits 0-3, SOUTH bits 4-7, EAST bits 8-11 and WEST bits 12-15.
+ * Since card values are between 1 and 10 they always fit in a side, and a side can be read
+ * with a shift and a mask instead of a map lookup.
+ */
+public final class CardStats {
+  private static final int SIDE_BITS = 4;
+  private static final int SIDE_MASK = 0xF;
+
+  private CardStats() {
+  }
+
+  /**
+   * Packs four attack values into one int.
+   *
+   * @param north north value
+   * @param south south value
+   * @param east  east value
+   * @param west  west value
+   * @return the packed values
+   * @throws IllegalArgumentException if any value is not between 1 and 10
+   */
+  public static int pack(int north, int south, int east, int west) {
+    checkValue(Direction.NORTH, north);
+    checkValue(Direction.SOUTH, south);
+    checkValue(Direction.EAST, east);
+    checkValue(Direction.WEST, west);
+    return north
+            | south << SIDE_BITS
+            | east << (2 * SIDE_BITS)
+            | west << (3 * SIDE_BITS);
+  }
+
+  /**
+   * Reads the attack value of one side by the ordinal of its direction.
+   *
+   * @param stats   the packed values of a card
+   * @param ordinal the ordinal of the Direction to read
+   * @return the attack value on that side
+   */
+  public static int side(int stats, int ordinal) {
+    return (stats >>> (ordinal << 2)) & SIDE_MASK;
+  }
+
+  /**
+   * Reads the attack value of one side.
+   *
+   * @param stats     the packed values of a card
+   * @param direction the direction to read
+   * @return the attack value on that side
+   */
+  public static int side(int stats, Direction direction) {
+    return side(stats, direction.ordinal());
+  }
+
+  /**
+   * Sums the attack values of all four sides.
+   *
+   * @param stats the packed values of a card
+   * @return the total of the four attack values
+   */
+  public static int total(int stats) {
+    return (stats & SIDE_MASK)
+            + (stats >>> SIDE_BITS & SIDE_MASK)
+            + (stats >>> (2 * SIDE_BITS) & SIDE_MASK)
+            + (stats >>> (3 * SIDE_BITS) & SIDE_MASK);
+  }
+
+  /**
+   * Finds the largest attack value among the four sides.
+   *
+   * @param stats the packed values of a card
+   * @return the highest attack value
+   */
+  public static int max(int stats) {
+    return Math.max(
+            Math.max(stats & SIDE_MASK, stats >>> SIDE_BITS & SIDE_MASK),
+            Math.max(stats >>> (2 * SIDE_BITS) & SIDE_MASK, stats >>> (3 * SIDE_BITS) & SIDE_MASK));
+  }
+
+  private static void checkValue(Direction direction, int value) {
+    if (value < 1 || value > 10) {
+      throw new IllegalArgumentException("Card value for " + direction + " "
+              + "must be between 1 and 10, but was " + value);
+    }
+  }
+}
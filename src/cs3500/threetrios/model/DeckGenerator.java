@@ -0,0 +1,77 @@
+package cs3500.threetrios.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates decks of cards with random attack values. The values come from the generator's own
+ * random number generator, so generators made with the same seed give the same decks, and
+ * generators on different threads never share random state.
+ */
+public class DeckGenerator {
+  private final RandomGenerator random;
+
+  /**
+   * Constructs a deck generator whose decks are determined by a seed.
+   *
+   * @param seed the seed
+   */
+  public DeckGenerator(long seed) {
+    this(new SplittableRandom(seed));
+  }
+
+  /**
+   * Constructs a deck generator that draws values from the given random number generator.
+   *
+   * @param random the random number generator
+   * @throws IllegalArgumentException if random is null
+   */
+  public DeckGenerator(RandomGenerator random) {
+    if (random == null) {
+      throw new IllegalArgumentException("Random generator cannot be null");
+    }
+    this.random = random;
+  }
+
+  /**
+   * Generates a deck of cards named card1 to cardN, each with attack values from 1 to 10.
+   *
+   * @param size the number of cards
+   * @return the deck
+   * @throws IllegalArgumentException if size is negative
+   */
+  public List<Card> generate(int size) {
+    return generate(size, 0);
+  }
+
+  /**
+   * Generates a deck as generate does, except that each of the first few cards has a 10 on one
+   * side, so that the deck has aces for the Fallen Ace rule. Card i gets its 10 on the north,
+   * south, east or west side as i % 4 is 0, 1, 2 or 3.
+   *
+   * @param size the number of cards
+   * @param aces the number of cards, from the first, that get a 10
+   * @return the deck
+   * @throws IllegalArgumentException if size or aces is negative
+   */
+  public List<Card> generate(int size, int aces) {
+    if (size < 0 || aces < 0) {
+      throw new IllegalArgumentException("Deck size and aces cannot be negative");
+    }
+    List<Card> deck = new ArrayList<>(size);
+    for (int i = 1; i <= size; i++) {
+      int[] sides = {nextValue(), nextValue(), nextValue(), nextValue()};
+      if (i <= aces) {
+        sides[i % 4] = 10;
+      }
+      deck.add(new ThreeTriosCard("card" + i, sides[0], sides[1], sides[2], sides[3]));
+    }
+    return deck;
+  }
+
+  private int nextValue() {
+    return random.nextInt(10) + 1;
+  }
+}
@@ -1,8 +1,6 @@
 package cs3500.threetrios.model;
 
 import cs3500.threetrios.strategy.Position;
-import java.util.ArrayList;
-import java.util.List;
 
 
 public class FallenAceDecorator extends ModelDecorator {
@@ -12,28 +10,19 @@ public class FallenAceDecorator extends ModelDecorator {
 
   @Override
   public void executeBattlePhase(Position newCardPosition) {
-    Card newCard = grid.getCard(newCardPosition.row, newCardPosition.col);
-    List<Position> adjacent = getAdjacentPositions(newCardPosition);
-    List<Card> toFlip = new ArrayList<>();
-
-    for (Position pos : adjacent) {
-      Card adjCard = grid.getCard(pos.row, pos.col);
-      if (adjCard != null && adjCard.getOwner() != getCurrentPlayer()) {
-        Direction battleDir = getBattleDirection(newCardPosition, pos);
-        int attackValue = newCard.getAttackPower(battleDir);
-        int defenseValue = adjCard.getAttackPower(battleDir.getOpposite());
-
-        if ((attackValue == 1 && defenseValue == 10) || attackValue > defenseValue) {
-          toFlip.add(adjCard);
-        }
-      }
-    }
+    int[] toFlip = new int[4];
+    int count = BattleRules.fallenAceFlips(grid, newCardPosition.row, newCardPosition.col,
+            getCurrentPlayer(), toFlip);
 
     base.executeBattlePhase(newCardPosition);  // Call base implementation
 
-    for (Card card : toFlip) {
-      card.setOwner(getCurrentPlayer());
-    }
+    BattleRules.flipAll(grid, toFlip, count, getCurrentPlayer(), BattleRule.FALLEN_ACE,
+            getMoveRecorder());
+  }
+
+  @Override
+  public RuleSet getRuleSet() {
+    return base.getRuleSet().with(BattleRule.FALLEN_ACE);
   }
 
   @Override
@@ -42,13 +31,17 @@ public class FallenAceDecorator extends ModelDecorator {
       return 0;
     }
     int flippableCount = 0;
-    List<Position> adjacent = getAdjacentPositions(new Position(row, col));
-    for (Position pos : adjacent) {
-      Card adjacentCard = getCardAt(pos.row, pos.col);
-      if (adjacentCard != null && adjacentCard.getOwner() != getCurrentPlayer()) {
-        Direction battleDir = getBattleDirection(new Position(row, col), pos);
-        int attackValue = card.getAttackPower(battleDir);
-        int defenseValue = adjacentCard.getAttackPower(battleDir.getOpposite());
+    NeighborTable table = getNeighborTable();
+    int cell = table.indexOf(row, col);
+    for (int k = table.neighborStart(cell); k < table.neighborEnd(cell); k++) {
+      int adjacent = table.neighborCell(k);
+      int adjRow = table.rowOf(adjacent);
+      int adjCol = table.colOf(adjacent);
+      Card adjacentCard = getCardAt(adjRow, adjCol);
+      if (adjacentCard != null && getCardOwnerAt(adjRow, adjCol) != getCurrentPlayer()) {
+        int battleDir = table.neighborDirectionOrdinal(k);
+        int attackValue = CardStats.side(card.getPackedStats(), battleDir);
+        int defenseValue = CardStats.side(adjacentCard.getPackedStats(), battleDir ^ 1);
         if ((attackValue == 1 && defenseValue == 10) || attackValue > defenseValue) {
           flippableCount++;
         }
@@ -56,31 +49,4 @@ public class FallenAceDecorator extends ModelDecorator {
     }
     return flippableCount;
   }
-
-  private List<Position> getAdjacentPositions(Position position) {
-    List<Position> positions = new ArrayList<>();
-    int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
-
-    for (int[] dir : directions) {
-      int newRow = position.row + dir[0];
-      int newCol = position.col + dir[1];
-      if (isValidPosition(newRow, newCol)) {
-        positions.add(new Position(newRow, newCol));
-      }
-    }
-    return positions;
-  }
-
-  private Direction getBattleDirection(Position from, Position to) {
-    if (from.row < to.row) return Direction.SOUTH;
-    if (from.row > to.row) return Direction.NORTH;
-    if (from.col < to.col) return Direction.EAST;
-    return Direction.WEST;
-  }
-
-  private boolean isValidPosition(int row, int col) {
-    return row >= 0 && row < grid.getRows()
-            && col >= 0 && col < grid.getCols()
-            && !isHole(row, col);
-  }
-}
\ No newline at end of file
+}
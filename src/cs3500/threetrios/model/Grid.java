@@ -53,7 +53,7 @@ public interface Grid {
   Card getCard(int row, int col);
 
   /**
-   * Places a card at a sepcific cell.
+   * Places a card at a sepcific cell without an owner.
    *
    * @param row  the row of the cell
    * @param col  the column of the cell
@@ -61,9 +61,47 @@ public interface Grid {
    * @throws IllegalArgumentException if the coordinates are invalid,
    *                                  the cell is a hole,
    *                                  or already occupied
+   * @throws UnsupportedOperationException if the grid is a snapshot or a read-only view
    */
   void placeCard(int row, int col, Card card);
 
+  /**
+   * Places a card at a specific cell on behalf of a player, who becomes the owner of that cell.
+   * Ownership is kept by the grid rather than the card, so the same card may be shared
+   * between grids.
+   *
+   * @param row   the row of the cell
+   * @param col   the column of the cell
+   * @param card  the card to place
+   * @param owner the player placing the card
+   * @throws IllegalArgumentException if the coordinates are invalid or the card is null
+   * @throws IllegalStateException    if the cell is a hole or already occupied
+   * @throws UnsupportedOperationException if the grid is a snapshot or a read-only view
+   */
+  void placeCard(int row, int col, Card card, Player owner);
+
+  /**
+   * Gets the owner of the card at the specified cell.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return the owner of the cell, or null if the cell is empty or its card has no owner
+   * @throws IllegalArgumentException if the coordinates are invalid
+   */
+  Player getOwner(int row, int col);
+
+  /**
+   * Changes the owner of the card at the specified cell, such as when it is flipped.
+   *
+   * @param row   the row of the cell
+   * @param col   the column of the cell
+   * @param owner the new owner of the cell
+   * @throws IllegalArgumentException if the coordinates are invalid or the owner is null
+   * @throws IllegalStateException    if there is no card at the cell
+   * @throws UnsupportedOperationException if the grid is a snapshot or a read-only view
+   */
+  void setOwner(int row, int col, Player owner);
+
   /**
    * Returns the count of cells, excluding cells with holes.
    *
@@ -78,10 +116,62 @@ public interface Grid {
    */
   boolean isFull();
 
+  /**
+   * Gets the number of card cells that are still empty. The count is updated as cards are
+   * placed, so reading it takes constant time.
+   *
+   * @return the number of empty card cells
+   */
+  int getEmptyCellCount();
+
+  /**
+   * Counts the cards on the grid owned by the given player. The counts are updated as cards are
+   * placed and flipped, so reading one takes constant time.
+   *
+   * @param player the player whose cards to count
+   * @return the number of cards on the grid owned by the player
+   */
+  int countOwnedBy(Player player);
+
   /**
    * Get a list of all empty card cells.
    *
    * @return a list of coordinates of empty card cells
    */
   List<int[]> getEmptyCells();
-}
\ No newline at end of file
+
+  /**
+   * Gets a frozen copy of this grid as it is now. Later changes to this grid do not show in the
+   * snapshot, and the snapshot itself cannot be changed. Snapshots share their state with the
+   * grid until it next changes, so taking one costs constant time, and taking another before
+   * the grid changes returns the same snapshot.
+   *
+   * @return the snapshot
+   */
+  Grid snapshot();
+
+  /**
+   * Gets the neighbour table of this grid, computed once when the grid is constructed.
+   * It lists the non-hole neighbours of every cell and the battle direction toward each.
+   *
+   * @return the neighbour table for this grid's layout
+   */
+  NeighborTable getNeighborTable();
+
+  /**
+   * Gets the Zobrist hash of the cards and owners on this grid, as described in Zobrist.
+   * The hash is updated as cards are placed and flipped, so reading it takes constant time.
+   *
+   * @return the board hash
+   */
+  long getBoardHash();
+
+  /**
+   * Gets the version of this grid, a count that goes up every time a card is placed, flipped or
+   * removed, so that anything worked out from the grid can be kept until the version changes.
+   * Copies start at the version of the grid they copy, and a snapshot's version never changes.
+   *
+   * @return the version
+   */
+  long getVersion();
+}
@@ -2,6 +2,7 @@ package cs3500.threetrios.model;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 import cs3500.threetrios.features.ModelFeatures;
 
@@ -19,6 +20,18 @@ public interface MainModelInterface extends ReadOnlyThreeTriosModel {
    */
   void startGame(Grid grid, List<Card> deck);
 
+  /**
+   * Starts a new game with the given grid and deck of cards, shuffling the deck with the given
+   * random number generator before dealing. Games started with generators in the same state
+   * are dealt the same hands.
+   *
+   * @param grid   the game grid
+   * @param deck   the deck of cards
+   * @param random the generator the deck is shuffled with
+   * @throws IllegalArgumentException if grid or deck is invalid, or random is null
+   */
+  void startGame(Grid grid, List<Card> deck, RandomGenerator random);
+
   /**
    * Starts a new game using configuration files.
    *
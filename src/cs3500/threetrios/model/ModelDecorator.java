@@ -2,15 +2,47 @@ package cs3500.threetrios.model;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.random.RandomGenerator;
 import cs3500.threetrios.strategy.Position;
 import cs3500.threetrios.features.ModelFeatures;
 
 public abstract class ModelDecorator implements MainModelInterface {
   protected final MainModelInterface base;
   protected Grid grid;
+  private final ThreeTriosGameModel game;
+  private final MoveRecorder moveRecorder;
 
   protected ModelDecorator(MainModelInterface base) {
     this.base = base;
+    this.game = gameOf(base);
+    this.moveRecorder = game == null ? null : game.getMoveRecorder();
+  }
+
+  /**
+   * Finds the game at the bottom of a chain of decorators, whose hands and move recorder every
+   * decorator in the chain shares, so that a played card leaves the real hand and the flips of
+   * every rule in the chain are told to the game's listeners in one delta.
+   *
+   * @param base the model being decorated
+   * @return the game, or null if the model is not one of ours
+   */
+  private static ThreeTriosGameModel gameOf(MainModelInterface base) {
+    if (base instanceof ModelDecorator) {
+      return ((ModelDecorator) base).game;
+    }
+    if (base instanceof ThreeTriosGameModel) {
+      return (ThreeTriosGameModel) base;
+    }
+    return null;
+  }
+
+  /**
+   * Gets the recorder the decorator's battles record their flips with.
+   *
+   * @return the recorder, or null if the decorated model has none
+   */
+  MoveRecorder getMoveRecorder() {
+    return moveRecorder;
   }
 
   @Override
@@ -20,14 +52,23 @@ public abstract class ModelDecorator implements MainModelInterface {
     }
 
     // Place card directly on grid
-    card.setOwner(player);
-    grid.placeCard(row, col, card);
+    grid.placeCard(row, col, card, player);
+    if (moveRecorder != null) {
+      moveRecorder.begin(row, col, card, player);
+    }
 
-    // Remove from player's hand using base model (which modifies the actual hand)
-    base.getPlayerHand(player).remove(card);
+    // Remove from the game's own hand; getPlayerHand only returns a copy
+    if (game != null) {
+      game.removeFromHand(player, card);
+    } else {
+      base.getPlayerHand(player).remove(card);
+    }
 
     // Execute only our battle phase
     executeBattlePhase(new Position(row, col));
+    if (moveRecorder != null) {
+      moveRecorder.publish();
+    }
 
     // Change turns
     String nextPlayer = player.getColor().equals("RED") ? "BLUE" : "RED";
@@ -46,6 +87,12 @@ public abstract class ModelDecorator implements MainModelInterface {
     this.grid = grid;
   }
 
+  @Override
+  public void startGame(Grid grid, List<Card> deck, RandomGenerator random) {
+    base.startGame(grid, deck, random);
+    this.grid = grid;
+  }
+
   @Override
   public void startGameFromConfig(String boardFile, String cardFile) throws IOException {
     base.startGameFromConfig(boardFile, cardFile);
@@ -86,6 +133,26 @@ public abstract class ModelDecorator implements MainModelInterface {
     return base.getWinner();
   }
 
+  @Override
+  public NeighborTable getNeighborTable() {
+    return base.getNeighborTable();
+  }
+
+  @Override
+  public long getStateHash() {
+    return base.getStateHash();
+  }
+
+  @Override
+  public long getVersion() {
+    return base.getVersion();
+  }
+
+  @Override
+  public RuleSet getRuleSet() {
+    return base.getRuleSet();
+  }
+
   @Override
   public int[] getGridDimensions() {
     return base.getGridDimensions();
@@ -0,0 +1,214 @@
+package cs3500.threetrios.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Remembers the answers a game gives to queries that are asked many times a turn, like whether
+ * a card can be placed on a cell, how many cards it would flip there, the players' scores and
+ * the legal moves of a hand, until the game's version changes. Views repaint and strategies
+ * rank moves over and over between two moves; with a memo only the first of those asks the
+ * game, and every later one is an array lookup.
+ *
+ * <p>Every query first reads the version, so a memo never gives an answer older than the game.
+ * Cards and players are told apart the way the game tells them apart in hands. Like the game,
+ * a memo should only be used by one thread at a time.
+ */
+public final class ModelMemo {
+  private static final int UNKNOWN = -1;
+
+  private final ReadOnlyThreeTriosModel model;
+  private final Map<Card, int[]> placeable;
+  private final Map<Card, int[]> flips;
+  private final Map<Player, Integer> scores;
+  private List<Card> legalHand;
+  private int[] legalMoves;
+  private boolean stale;
+  private long version;
+  private int rows;
+  private int cols;
+  private long hits;
+
+  /**
+   * Constructs an empty memo of a game, which may not have been started yet.
+   *
+   * @param model the game
+   * @throws IllegalArgumentException if the model is null
+   */
+  public ModelMemo(ReadOnlyThreeTriosModel model) {
+    if (model == null) {
+      throw new IllegalArgumentException("Model cannot be null");
+    }
+    this.model = model;
+    this.placeable = new HashMap<>();
+    this.flips = new HashMap<>();
+    this.scores = new HashMap<>();
+    this.stale = true;
+  }
+
+  /**
+   * Gets the game this memo answers for.
+   *
+   * @return the game
+   */
+  public ReadOnlyThreeTriosModel getModel() {
+    return model;
+  }
+
+  /**
+   * Checks if the current player can place a card on a cell, as canPlaceCard on the game does.
+   *
+   * @param row  row coordinate
+   * @param col  column coordinate
+   * @param card the card to check
+   * @return true if the move is legal, false otherwise
+   */
+  public boolean canPlaceCard(int row, int col, Card card) {
+    refresh();
+    int cell = cellOf(row, col);
+    if (cell < 0) {
+      return model.canPlaceCard(row, col, card);
+    }
+    int[] known = placeable.computeIfAbsent(card, c -> unknownCells());
+    if (known[cell] == UNKNOWN) {
+      known[cell] = model.canPlaceCard(row, col, card) ? 1 : 0;
+    } else {
+      hits++;
+    }
+    return known[cell] == 1;
+  }
+
+  /**
+   * Gets the number of cards a card would flip on a cell, as getFlippableCards on the game does.
+   *
+   * @param row  row coordinate
+   * @param col  column coordinate
+   * @param card the card to check
+   * @return number of cards that would be flipped
+   */
+  public int getFlippableCards(int row, int col, Card card) {
+    refresh();
+    int cell = cellOf(row, col);
+    if (cell < 0) {
+      return model.getFlippableCards(row, col, card);
+    }
+    int[] known = flips.computeIfAbsent(card, c -> unknownCells());
+    if (known[cell] == UNKNOWN) {
+      known[cell] = model.getFlippableCards(row, col, card);
+    } else {
+      hits++;
+    }
+    return known[cell];
+  }
+
+  /**
+   * Gets the score of a player, as getPlayerScore on the game does.
+   *
+   * @param player the player whose score to get
+   * @return the player's current score
+   * @throws IllegalArgumentException if player is null
+   */
+  public int getPlayerScore(Player player) {
+    if (player == null) {
+      throw new IllegalArgumentException("Player cannot be null");
+    }
+    refresh();
+    Integer score = scores.get(player);
+    if (score == null) {
+      score = model.getPlayerScore(player);
+      scores.put(player, score);
+    } else {
+      hits++;
+    }
+    return score;
+  }
+
+  /**
+   * Gets every legal move of a hand: each card of the hand that the current player can place on
+   * each empty cell. A move is given as cell * handSize + slot, where cell is row * cols + col
+   * and slot is the card's index in the hand, the way AIStrategy.scoreMoves indexes moves.
+   *
+   * @param hand the hand whose moves to list
+   * @return the legal moves in increasing order, in a new array the caller may change
+   * @throws IllegalArgumentException if the hand is null
+   */
+  public int[] getLegalMoves(List<Card> hand) {
+    if (hand == null) {
+      throw new IllegalArgumentException("Hand cannot be null");
+    }
+    refresh();
+    if (legalMoves != null && legalHand.equals(hand)) {
+      hits++;
+      return legalMoves.clone();
+    }
+    int handSize = hand.size();
+    int[] moves = new int[rows * cols * handSize];
+    int count = 0;
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        if (model.isHole(row, col) || model.getCardAt(row, col) != null) {
+          continue;
+        }
+        int cell = row * cols + col;
+        for (int slot = 0; slot < handSize; slot++) {
+          if (canPlaceCard(row, col, hand.get(slot))) {
+            moves[count++] = cell * handSize + slot;
+          }
+        }
+      }
+    }
+    legalHand = new ArrayList<>(hand);
+    legalMoves = Arrays.copyOf(moves, count);
+    return legalMoves.clone();
+  }
+
+  /**
+   * Gets the number of queries answered from the memo rather than by the game.
+   *
+   * @return the hit count
+   */
+  public long getHitCount() {
+    return hits;
+  }
+
+  /**
+   * Forgets every answer if the game's version has changed since they were given.
+   */
+  private void refresh() {
+    long current = model.getVersion();
+    if (!stale && current == version) {
+      return;
+    }
+    placeable.clear();
+    flips.clear();
+    scores.clear();
+    legalHand = null;
+    legalMoves = null;
+    if (model.getPlayers().isEmpty()) {
+      rows = 0;
+      cols = 0;
+    } else {
+      int[] dimensions = model.getGridDimensions();
+      rows = dimensions[0];
+      cols = dimensions[1];
+    }
+    version = current;
+    stale = false;
+  }
+
+  private int cellOf(int row, int col) {
+    if (row < 0 || row >= rows || col < 0 || col >= cols) {
+      return -1;
+    }
+    return row * cols + col;
+  }
+
+  private int[] unknownCells() {
+    int[] cells = new int[rows * cols];
+    Arrays.fill(cells, UNKNOWN);
+    return cells;
+  }
+}
@@ -0,0 +1,178 @@
+package cs3500.threetrios.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The cells one move changed: the cell a card was placed on and every card flipped by the
+ * battles that followed, in the order they flipped, with their old and new owners and the rule
+ * that flipped them. Listeners can apply a delta to what they show in time proportional to the
+ * number of changes, rather than reading the whole board again. A delta is immutable.
+ */
+public final class MoveDelta {
+  private final Player player;
+  private final Card card;
+  private final int row;
+  private final int col;
+  private final List<Flip> flips;
+
+  /**
+   * Constructs a delta of one move.
+   *
+   * @param player the player who placed the card
+   * @param card   the card placed
+   * @param row    the row the card was placed on
+   * @param col    the column the card was placed on
+   * @param flips  the flips that followed, in order
+   * @throws IllegalArgumentException if the card or flips are null
+   */
+  public MoveDelta(Player player, Card card, int row, int col, List<Flip> flips) {
+    if (card == null || flips == null) {
+      throw new IllegalArgumentException("Card and flips cannot be null");
+    }
+    this.player = player;
+    this.card = card;
+    this.row = row;
+    this.col = col;
+    this.flips = Collections.unmodifiableList(new ArrayList<>(flips));
+  }
+
+  /**
+   * Gets the player who placed the card.
+   *
+   * @return the player
+   */
+  public Player getPlayer() {
+    return player;
+  }
+
+  /**
+   * Gets the card placed.
+   *
+   * @return the card
+   */
+  public Card getCard() {
+    return card;
+  }
+
+  /**
+   * Gets the row the card was placed on.
+   *
+   * @return the row
+   */
+  public int getRow() {
+    return row;
+  }
+
+  /**
+   * Gets the column the card was placed on.
+   *
+   * @return the column
+   */
+  public int getCol() {
+    return col;
+  }
+
+  /**
+   * Gets the cards the move flipped, in the order they flipped. Each card flips at most once
+   * per move.
+   *
+   * @return an unmodifiable list of flips
+   */
+  public List<Flip> getFlips() {
+    return flips;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder text = new StringBuilder(String.format("%s placed %s at (%d,%d)",
+            player == null ? "nobody" : player.getColor(), card.getName(), row, col));
+    for (Flip flip : flips) {
+      text.append(", ").append(flip);
+    }
+    return text.toString();
+  }
+
+  /**
+   * One card flipped by a move.
+   */
+  public static final class Flip {
+    private final int row;
+    private final int col;
+    private final Player oldOwner;
+    private final Player newOwner;
+    private final BattleRule rule;
+
+    /**
+     * Constructs a flip.
+     *
+     * @param row      the row of the flipped card
+     * @param col      the column of the flipped card
+     * @param oldOwner the owner before the flip
+     * @param newOwner the owner after the flip
+     * @param rule     the rule that flipped the card, or null for a battle of the base rules
+     */
+    public Flip(int row, int col, Player oldOwner, Player newOwner, BattleRule rule) {
+      this.row = row;
+      this.col = col;
+      this.oldOwner = oldOwner;
+      this.newOwner = newOwner;
+      this.rule = rule;
+    }
+
+    /**
+     * Gets the row of the flipped card.
+     *
+     * @return the row
+     */
+    public int getRow() {
+      return row;
+    }
+
+    /**
+     * Gets the column of the flipped card.
+     *
+     * @return the column
+     */
+    public int getCol() {
+      return col;
+    }
+
+    /**
+     * Gets the owner of the card before the flip.
+     *
+     * @return the old owner
+     */
+    public Player getOldOwner() {
+      return oldOwner;
+    }
+
+    /**
+     * Gets the owner of the card after the flip.
+     *
+     * @return the new owner
+     */
+    public Player getNewOwner() {
+      return newOwner;
+    }
+
+    /**
+     * Gets the rule that flipped the card. Battles of the base rules, including the combos
+     * that follow every other rule's flips, have no rule.
+     *
+     * @return the rule, or null for a battle of the base rules
+     */
+    public BattleRule getRule() {
+      return rule;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("(%d,%d) %s to %s by %s", row, col,
+              oldOwner == null ? "nobody" : oldOwner.getColor(),
+              newOwner == null ? "nobody" : newOwner.getColor(),
+              rule == null ? "battle" : rule);
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package cs3500.threetrios.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import cs3500.threetrios.features.ModelFeatures;
+
+/**
+ * Builds the MoveDelta of the move being made and hands it to the game's listeners. A game owns
+ * one recorder, which the rule decorators wrapped around it share, so that every battle of a
+ * move, whichever decorator runs it, lands in the same delta. While the game has no listeners
+ * nothing is recorded.
+ */
+final class MoveRecorder {
+  private final List<ModelFeatures> listeners;
+  private final List<MoveDelta.Flip> flips;
+  private boolean recording;
+  private Player player;
+  private Card card;
+  private int row;
+  private int col;
+
+  /**
+   * Constructs a recorder that notifies the given listeners, which may change later.
+   *
+   * @param listeners the game's listeners
+   */
+  MoveRecorder(List<ModelFeatures> listeners) {
+    this.listeners = listeners;
+    this.flips = new ArrayList<>();
+  }
+
+  /**
+   * Starts the delta of a move whose card has just been placed.
+   *
+   * @param row    the row the card was placed on
+   * @param col    the column the card was placed on
+   * @param card   the card placed
+   * @param player the player who placed it
+   */
+  void begin(int row, int col, Card card, Player player) {
+    this.recording = !listeners.isEmpty();
+    this.row = row;
+    this.col = col;
+    this.card = card;
+    this.player = player;
+    flips.clear();
+  }
+
+  /**
+   * Checks if the flips of the current move are being recorded.
+   *
+   * @return true if a move has begun and the game has listeners
+   */
+  boolean isRecording() {
+    return recording;
+  }
+
+  /**
+   * Records a card flipped by the current move, unless its owner did not change.
+   *
+   * @param cell     the cell index of the card
+   * @param table    the neighbour table the index belongs to
+   * @param oldOwner the owner before the flip
+   * @param newOwner the owner after the flip
+   * @param rule     the rule that flipped the card, or null for a battle of the base rules
+   */
+  void flip(int cell, NeighborTable table, Player oldOwner, Player newOwner, BattleRule rule) {
+    if (recording && oldOwner != newOwner) {
+      flips.add(new MoveDelta.Flip(table.rowOf(cell), table.colOf(cell), oldOwner, newOwner,
+              rule));
+    }
+  }
+
+  /**
+   * Ends the current move and notifies every listener of its delta.
+   */
+  void publish() {
+    if (!recording) {
+      return;
+    }
+    recording = false;
+    MoveDelta delta = new MoveDelta(player, card, row, col, flips);
+    flips.clear();
+    for (ModelFeatures listener : listeners) {
+      if (listener != null) {
+        listener.notifyCellsChanged(delta);
+      }
+    }
+  }
+}
@@ -0,0 +1,222 @@
+package cs3500.threetrios.model;
+
+/**
+ * A precomputed table of the adjacent card cells of every cell on a grid.
+ * Cells are identified by their index of (row * cols + col). For each cell the table lists
+ * only the neighbours that are on the board and are not holes, together with the Direction
+ * a card at the cell battles in to reach that neighbour.
+ * The neighbours of a cell are read by walking the slots from neighborStart to neighborEnd:
+ * <pre>
+ *   for (int k = table.neighborStart(cell); k &lt; table.neighborEnd(cell); k++) {
+ *     int adjacent = table.neighborCell(k);
+ *     Direction battleDir = table.neighborDirection(k);
+ *   }
+ * </pre>
+ * A table is immutable once built, so one table can be shared by every user of a board layout.
+ */
+public final class NeighborTable {
+  private static final Direction[] DIRECTIONS = Direction.values();
+  private static final int[] ROW_STEP = {-1, 1, 0, 0};
+  private static final int[] COL_STEP = {0, 0, 1, -1};
+
+  private final int rows;
+  private final int cols;
+  private final boolean[] holes;
+  private final int[] cellRow;
+  private final int[] cellCol;
+  private final int[] first;
+  private final int[] neighbors;
+  private final byte[] directions;
+
+  /**
+   * Builds the neighbour table for a board with the given dimensions and holes.
+   *
+   * @param rows  number of rows
+   * @param cols  number of columns
+   * @param holes an array representing the hole locations
+   * @throws IllegalArgumentException if the dimensions are invalid or do not match the holes
+   */
+  public NeighborTable(int rows, int cols, boolean[][] holes) {
+    if (rows <= 0 || cols <= 0) {
+      throw new IllegalArgumentException("Grid dimensions must be positive");
+    }
+    if (holes == null || holes.length != rows || holes[0].length != cols) {
+      throw new IllegalArgumentException("Holes array dimensions do not match grid dimensions");
+    }
+    this.rows = rows;
+    this.cols = cols;
+    int cells = rows * cols;
+    this.holes = new boolean[cells];
+    this.cellRow = new int[cells];
+    this.cellCol = new int[cells];
+    this.first = new int[cells + 1];
+
+    for (int i = 0; i < rows; i++) {
+      for (int j = 0; j < cols; j++) {
+        int cell = i * cols + j;
+        this.holes[cell] = holes[i][j];
+        this.cellRow[cell] = i;
+        this.cellCol[cell] = j;
+      }
+    }
+
+    int[] scratch = new int[cells * 4];
+    byte[] scratchDirs = new byte[cells * 4];
+    int count = 0;
+    for (int cell = 0; cell < cells; cell++) {
+      first[cell] = count;
+      if (this.holes[cell]) {
+        continue;
+      }
+      for (int d = 0; d < 4; d++) {
+        int adjRow = cellRow[cell] + ROW_STEP[d];
+        int adjCol = cellCol[cell] + COL_STEP[d];
+        if (adjRow >= 0 && adjRow < rows && adjCol >= 0 && adjCol < cols
+                && !holes[adjRow][adjCol]) {
+          scratch[count] = adjRow * cols + adjCol;
+          scratchDirs[count] = (byte) d;
+          count++;
+        }
+      }
+    }
+    first[cells] = count;
+    this.neighbors = new int[count];
+    this.directions = new byte[count];
+    System.arraycopy(scratch, 0, neighbors, 0, count);
+    System.arraycopy(scratchDirs, 0, directions, 0, count);
+  }
+
+  /**
+   * Gets the number of rows of the board.
+   *
+   * @return number of rows
+   */
+  public int getRows() {
+    return rows;
+  }
+
+  /**
+   * Gets the number of columns of the board.
+   *
+   * @return number of columns
+   */
+  public int getCols() {
+    return cols;
+  }
+
+  /**
+   * Gets the number of cells on the board, holes included.
+   *
+   * @return rows * cols
+   */
+  public int getCellCount() {
+    return holes.length;
+  }
+
+  /**
+   * Converts a coordinate to its cell index.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return the cell index
+   * @throws IllegalArgumentException if the coordinates are invalid
+   */
+  public int indexOf(int row, int col) {
+    if (row < 0 || row >= rows || col < 0 || col >= cols) {
+      throw new IllegalArgumentException("Position out of bounds");
+    }
+    return row * cols + col;
+  }
+
+  /**
+   * Gets the row of a cell index.
+   *
+   * @param cell the cell index
+   * @return the row of the cell
+   */
+  public int rowOf(int cell) {
+    return cellRow[cell];
+  }
+
+  /**
+   * Gets the column of a cell index.
+   *
+   * @param cell the cell index
+   * @return the column of the cell
+   */
+  public int colOf(int cell) {
+    return cellCol[cell];
+  }
+
+  /**
+   * Checks if a cell index is a hole.
+   *
+   * @param cell the cell index
+   * @return true if the cell is a hole
+   */
+  public boolean isHole(int cell) {
+    return holes[cell];
+  }
+
+  /**
+   * Gets the first neighbour slot of a cell.
+   *
+   * @param cell the cell index
+   * @return the first slot holding a neighbour of the cell
+   */
+  public int neighborStart(int cell) {
+    return first[cell];
+  }
+
+  /**
+   * Gets the slot just past the last neighbour of a cell.
+   *
+   * @param cell the cell index
+   * @return the end slot, exclusive
+   */
+  public int neighborEnd(int cell) {
+    return first[cell + 1];
+  }
+
+  /**
+   * Gets the number of non-hole neighbours of a cell.
+   *
+   * @param cell the cell index
+   * @return the neighbour count, between 0 and 4
+   */
+  public int neighborCount(int cell) {
+    return first[cell + 1] - first[cell];
+  }
+
+  /**
+   * Gets the cell index of the neighbour in the given slot.
+   *
+   * @param slot a slot between neighborStart and neighborEnd of some cell
+   * @return the index of the neighbouring cell
+   */
+  public int neighborCell(int slot) {
+    return neighbors[slot];
+  }
+
+  /**
+   * Gets the direction a card at the owning cell battles in to reach the neighbour in a slot.
+   *
+   * @param slot a slot between neighborStart and neighborEnd of some cell
+   * @return the battle direction toward the neighbour
+   */
+  public Direction neighborDirection(int slot) {
+    return DIRECTIONS[directions[slot]];
+  }
+
+  /**
+   * Gets the ordinal of the direction a card at the owning cell battles in to reach the
+   * neighbour in a slot. The defending side is the opposite direction, whose ordinal is
+   * (ordinal ^ 1) since Direction lists each opposite pair next to each other.
+   *
+   * @param slot a slot between neighborStart and neighborEnd of some cell
+   * @return the ordinal of the battle direction toward the neighbour
+   */
+  public int neighborDirectionOrdinal(int slot) {
+    return directions[slot];
+  }
+}
@@ -0,0 +1,82 @@
+package cs3500.threetrios.model;
+
+import java.util.Arrays;
+
+/**
+ * Counts the cards each owner has on a grid, updated by the grid as cards are placed, flipped
+ * and removed, so that scores can be read in constant time. Owners are told apart by identity,
+ * as they are on the grid itself, and a game only ever has two, so they are kept in small
+ * arrays that are searched in order.
+ */
+final class OwnerCounts {
+  private Player[] owners;
+  private int[] counts;
+  private int size;
+
+  /**
+   * Constructs counts with no cards.
+   */
+  OwnerCounts() {
+    this.owners = new Player[2];
+    this.counts = new int[2];
+  }
+
+  /**
+   * Constructs a copy of other counts.
+   *
+   * @param other the counts to copy
+   */
+  OwnerCounts(OwnerCounts other) {
+    this.owners = other.owners.clone();
+    this.counts = other.counts.clone();
+    this.size = other.size;
+  }
+
+  /**
+   * Gets the number of cards an owner has.
+   *
+   * @param owner the owner
+   * @return the card count, or 0 for an owner never counted or null
+   */
+  int get(Player owner) {
+    for (int i = 0; i < size; i++) {
+      if (owners[i] == owner) {
+        return counts[i];
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Moves one card from one owner to another. Either may be null, for a card being placed or
+   * removed, or for a card with no owner.
+   *
+   * @param from the owner losing the card, or null
+   * @param to   the owner gaining the card, or null
+   */
+  void move(Player from, Player to) {
+    if (from == to) {
+      return;
+    }
+    if (from != null) {
+      counts[indexOf(from)]--;
+    }
+    if (to != null) {
+      counts[indexOf(to)]++;
+    }
+  }
+
+  private int indexOf(Player owner) {
+    for (int i = 0; i < size; i++) {
+      if (owners[i] == owner) {
+        return i;
+      }
+    }
+    if (size == owners.length) {
+      owners = Arrays.copyOf(owners, size * 2);
+      counts = Arrays.copyOf(counts, size * 2);
+    }
+    owners[size] = owner;
+    return size++;
+  }
+}
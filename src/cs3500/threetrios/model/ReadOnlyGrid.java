@@ -0,0 +1,116 @@
+package cs3500.threetrios.model;
+
+import java.util.List;
+
+/**
+ * A read-only view of a grid. Every question is passed straight to the grid, so the view always
+ * shows the grid as it is now without copying it, and it costs nothing to hand out. The view
+ * cannot place cards or change owners. Callers that need the grid to stay as it was should take
+ * a snapshot instead.
+ */
+public final class ReadOnlyGrid implements Grid {
+  private final Grid grid;
+
+  /**
+   * Constructs a read-only view of a grid.
+   *
+   * @param grid the grid to view
+   * @throws IllegalArgumentException if the grid is null
+   */
+  public ReadOnlyGrid(Grid grid) {
+    if (grid == null) {
+      throw new IllegalArgumentException("Grid cannot be null");
+    }
+    this.grid = grid;
+  }
+
+  @Override
+  public int getRows() {
+    return grid.getRows();
+  }
+
+  @Override
+  public int getCols() {
+    return grid.getCols();
+  }
+
+  @Override
+  public boolean isHole(int row, int col) {
+    return grid.isHole(row, col);
+  }
+
+  @Override
+  public boolean isEmpty(int row, int col) {
+    return grid.isEmpty(row, col);
+  }
+
+  @Override
+  public Card getCard(int row, int col) {
+    return grid.getCard(row, col);
+  }
+
+  @Override
+  public void placeCard(int row, int col, Card card) {
+    throw new UnsupportedOperationException("Grid view is read-only");
+  }
+
+  @Override
+  public void placeCard(int row, int col, Card card, Player owner) {
+    throw new UnsupportedOperationException("Grid view is read-only");
+  }
+
+  @Override
+  public Player getOwner(int row, int col) {
+    return grid.getOwner(row, col);
+  }
+
+  @Override
+  public void setOwner(int row, int col, Player owner) {
+    throw new UnsupportedOperationException("Grid view is read-only");
+  }
+
+  @Override
+  public int getCardCellCount() {
+    return grid.getCardCellCount();
+  }
+
+  @Override
+  public boolean isFull() {
+    return grid.isFull();
+  }
+
+  @Override
+  public int getEmptyCellCount() {
+    return grid.getEmptyCellCount();
+  }
+
+  @Override
+  public int countOwnedBy(Player player) {
+    return grid.countOwnedBy(player);
+  }
+
+  @Override
+  public List<int[]> getEmptyCells() {
+    return grid.getEmptyCells();
+  }
+
+  @Override
+  public Grid snapshot() {
+    return grid.snapshot();
+  }
+
+  @Override
+  public NeighborTable getNeighborTable() {
+    return grid.getNeighborTable();
+  }
+
+  @Override
+  public long getBoardHash() {
+    return grid.getBoardHash();
+  }
+
+  @Override
+  public long getVersion() {
+    return grid.getVersion();
+  }
+}
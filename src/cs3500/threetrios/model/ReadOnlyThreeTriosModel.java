@@ -8,7 +8,8 @@ import java.util.List;
  */
 public interface ReadOnlyThreeTriosModel {
   /**
-   * Gets the current state of the grid without allowing modifications.
+   * Gets the current state of the grid without allowing modifications. The grid returned may be
+   * a live view that shows later moves; call snapshot on it for a copy that stays as it is.
    *
    * @return the current Grid
    */
@@ -21,6 +22,41 @@ public interface ReadOnlyThreeTriosModel {
    */
   int[] getGridDimensions();
 
+  /**
+   * Gets the neighbour table of the grid, listing the non-hole neighbours of every cell
+   * and the battle direction toward each one.
+   *
+   * @return the neighbour table of the current grid
+   * @throws IllegalStateException if the game has not been started
+   */
+  NeighborTable getNeighborTable();
+
+  /**
+   * Gets the battle rules this game is played with, in the order they wrap the base rules.
+   *
+   * @return the rule set of the game
+   */
+  RuleSet getRuleSet();
+
+  /**
+   * Gets the Zobrist hash of the game state, covering the cards and owners on the grid,
+   * both hands and the side to move. The hash is kept up to date as moves are made,
+   * so reading it takes constant time.
+   *
+   * @return the state hash
+   * @throws IllegalStateException if the game has not been started
+   */
+  long getStateHash();
+
+  /**
+   * Gets the version of the game state, a number that goes up on every change to the grid, the
+   * hands or the turn and never goes down, even when a new game is started. Anything worked out
+   * from the state, like the cards a move would flip, stays right until the version changes.
+   *
+   * @return the version, 0 before the game has been started
+   */
+  long getVersion();
+
   /**
    * Gets the card at the specified cell coordinates.
    *
@@ -1,8 +1,6 @@
 package cs3500.threetrios.model;
 
 import cs3500.threetrios.strategy.Position;
-import java.util.ArrayList;
-import java.util.List;
 
 public class ReverseRuleDecorator extends ModelDecorator {
   public ReverseRuleDecorator(MainModelInterface base) {
@@ -11,53 +9,13 @@ public class ReverseRuleDecorator extends ModelDecorator {
 
   @Override
   public void executeBattlePhase(Position newCardPosition) {
-    List<Position> adjacent = getAdjacentPositions(newCardPosition);
-    Card newCard = getCardAt(newCardPosition.row, newCardPosition.col);
-
-    if (newCard == null) {
-      return;
-    }
-
-    for (Position pos : adjacent) {
-      Card adjCard = getCardAt(pos.row, pos.col);
-      if (adjCard != null && adjCard.getOwner() != newCard.getOwner()) {
-        Direction battleDir = getBattleDirection(newCardPosition, pos);
-        int attackValue = newCard.getAttackPower(battleDir);
-        int defenseValue = adjCard.getAttackPower(battleDir.getOpposite());
-
-        // Only flip when attack is LESS than defense
-        if (attackValue < defenseValue) {
-          adjCard.setOwner(newCard.getOwner());
-        }
-      }
-    }
+    // Only flips when attack is LESS than defense, and never combos
+    BattleRules.reverseBattle(grid, newCardPosition.row, newCardPosition.col, getMoveRecorder());
   }
 
-  private List<Position> getAdjacentPositions(Position position) {
-    List<Position> positions = new ArrayList<>();
-    int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
-
-    for (int[] dir : directions) {
-      int newRow = position.row + dir[0];
-      int newCol = position.col + dir[1];
-      if (isValidPosition(newRow, newCol)) {
-        positions.add(new Position(newRow, newCol));
-      }
-    }
-    return positions;
-  }
-
-  private Direction getBattleDirection(Position from, Position to) {
-    if (from.row < to.row) return Direction.SOUTH;
-    if (from.row > to.row) return Direction.NORTH;
-    if (from.col < to.col) return Direction.EAST;
-    return Direction.WEST;
-  }
-
-  private boolean isValidPosition(int row, int col) {
-    return row >= 0 && row < grid.getRows()
-            && col >= 0 && col < grid.getCols()
-            && !isHole(row, col);
+  @Override
+  public RuleSet getRuleSet() {
+    return base.getRuleSet().with(BattleRule.REVERSE);
   }
 
   @Override
@@ -67,14 +25,18 @@ public class ReverseRuleDecorator extends ModelDecorator {
     }
 
     int flippableCount = 0;
-    List<Position> adjacent = getAdjacentPositions(new Position(row, col));
-
-    for (Position pos : adjacent) {
-      Card adjacentCard = getCardAt(pos.row, pos.col);
-      if (adjacentCard != null && adjacentCard.getOwner() != getCurrentPlayer()) {
-        Direction battleDir = getBattleDirection(new Position(row, col), pos);
-        int attackValue = card.getAttackPower(battleDir);
-        int defenseValue = adjacentCard.getAttackPower(battleDir.getOpposite());
+    NeighborTable table = getNeighborTable();
+    int cell = table.indexOf(row, col);
+
+    for (int k = table.neighborStart(cell); k < table.neighborEnd(cell); k++) {
+      int adjacent = table.neighborCell(k);
+      int adjRow = table.rowOf(adjacent);
+      int adjCol = table.colOf(adjacent);
+      Card adjacentCard = getCardAt(adjRow, adjCol);
+      if (adjacentCard != null && getCardOwnerAt(adjRow, adjCol) != getCurrentPlayer()) {
+        int battleDir = table.neighborDirectionOrdinal(k);
+        int attackValue = CardStats.side(card.getPackedStats(), battleDir);
+        int defenseValue = CardStats.side(adjacentCard.getPackedStats(), battleDir ^ 1);
 
         if (attackValue < defenseValue) {
           flippableCount++;
@@ -83,4 +45,4 @@ public class ReverseRuleDecorator extends ModelDecorator {
     }
     return flippableCount;
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,71 @@
+package cs3500.threetrios.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The battle rules a game is played with, listed in the order their decorators wrap the model.
+ * The first rule is the innermost decorator and the last rule is the outermost one, which
+ * matters because each decorator runs its own battles before or after those beneath it.
+ * A RuleSet is immutable; with returns a new set with one more rule wrapped around it.
+ */
+public final class RuleSet {
+  public static final RuleSet NORMAL = new RuleSet(new ArrayList<>());
+
+  private final List<BattleRule> rules;
+
+  private RuleSet(List<BattleRule> rules) {
+    this.rules = Collections.unmodifiableList(rules);
+  }
+
+  /**
+   * Returns a new rule set with the given rule wrapped around this one as the outermost rule.
+   *
+   * @param rule the rule to add
+   * @return the combined rule set
+   * @throws IllegalArgumentException if the rule is null
+   */
+  public RuleSet with(BattleRule rule) {
+    if (rule == null) {
+      throw new IllegalArgumentException("Rule cannot be null");
+    }
+    List<BattleRule> combined = new ArrayList<>(rules);
+    combined.add(rule);
+    return new RuleSet(combined);
+  }
+
+  /**
+   * Gets the rules in this set, innermost first.
+   *
+   * @return an unmodifiable list of rules
+   */
+  public List<BattleRule> getRules() {
+    return rules;
+  }
+
+  /**
+   * Checks if this set uses the given rule.
+   *
+   * @param rule the rule to look for
+   * @return true if the rule is in this set
+   */
+  public boolean has(BattleRule rule) {
+    return rules.contains(rule);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof RuleSet && rules.equals(((RuleSet) other).rules);
+  }
+
+  @Override
+  public int hashCode() {
+    return rules.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return rules.isEmpty() ? "NORMAL" : rules.toString();
+  }
+}
@@ -0,0 +1,536 @@
+package cs3500.threetrios.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A private copy of a game that AI strategies can play moves on and take them back again.
+ * The state is copied from a model once, after which makeMove places a card from the current
+ * player's hand, resolves its battles under the game's full RuleSet, and passes the turn, while
+ * unmakeMove restores exactly the state before the last move. Each move records only the cell
+ * it used, the hand slot its card came from and the cells it flipped, so taking a move back
+ * costs time in proportion to its flips instead of copying the whole game.
+ * A SearchState is not thread safe; each thread of a search should use its own.
+ */
+public final class SearchState {
+  private final BitboardGrid grid;
+  private final NeighborTable table;
+  private final RuleSet rules;
+  private final BattleRule[] layers;
+  private final BattleEngine engine;
+  private final int[][] scratch;
+  private final Player[] players;
+  private final Card[][] hands;
+  private final int[] handSizes;
+  private int current;
+  private long handHash;
+
+  private final int[] moveCells;
+  private final int[] moveHandSlots;
+  private final Card[] moveCards;
+  private final int[] moveJournalMarks;
+  private final int[] moveFlips;
+  private int moveCount;
+
+  /**
+   * Copies the state of a started game, including its grid, owners, hands, turn and rules.
+   *
+   * @param model the game to copy
+   * @throws IllegalArgumentException if the model is null or does not have two players
+   * @throws IllegalStateException    if the game has not been started
+   */
+  public SearchState(ReadOnlyThreeTriosModel model) {
+    if (model == null) {
+      throw new IllegalArgumentException("Model cannot be null");
+    }
+    int[] dims = model.getGridDimensions();
+    int rows = dims[0];
+    int cols = dims[1];
+    boolean[][] holes = new boolean[rows][cols];
+    for (int i = 0; i < rows; i++) {
+      for (int j = 0; j < cols; j++) {
+        holes[i][j] = model.isHole(i, j);
+      }
+    }
+    this.grid = new BitboardGrid(rows, cols, holes);
+    for (int i = 0; i < rows; i++) {
+      for (int j = 0; j < cols; j++) {
+        Card card = model.getCardAt(i, j);
+        if (card != null) {
+          grid.placeCard(i, j, card, model.getCardOwnerAt(i, j));
+        }
+      }
+    }
+    grid.startJournal();
+    this.table = grid.getNeighborTable();
+
+    this.rules = model.getRuleSet();
+    this.layers = rules.getRules().toArray(new BattleRule[0]);
+    this.engine = new BattleEngine(table);
+    this.scratch = new int[layers.length][4];
+
+    List<Player> gamePlayers = model.getPlayers();
+    if (gamePlayers.size() != 2) {
+      throw new IllegalArgumentException("Search requires exactly two players");
+    }
+    this.players = gamePlayers.toArray(new Player[0]);
+    this.hands = new Card[2][];
+    this.handSizes = new int[2];
+    for (int p = 0; p < 2; p++) {
+      List<Card> hand = model.getPlayerHand(players[p]);
+      hands[p] = hand.toArray(new Card[0]);
+      handSizes[p] = hands[p].length;
+      for (Card card : hands[p]) {
+        handHash += Zobrist.handKey(players[p], card);
+      }
+    }
+    this.current = indexOfColor(model.getCurrentPlayer().getColor());
+
+    int maxMoves = grid.getEmptyCellCount();
+    this.moveCells = new int[maxMoves];
+    this.moveHandSlots = new int[maxMoves];
+    this.moveCards = new Card[maxMoves];
+    this.moveJournalMarks = new int[maxMoves];
+    this.moveFlips = new int[maxMoves];
+  }
+
+  /**
+   * Copies the current position of another search state, so that separate threads can each
+   * search from it. The copy starts with no moves to take back.
+   */
+  private SearchState(SearchState other) {
+    this.grid = new BitboardGrid(other.grid);
+    grid.startJournal();
+    this.table = other.table;
+    this.rules = other.rules;
+    this.layers = other.layers;
+    this.engine = new BattleEngine(table);
+    this.scratch = new int[layers.length][4];
+    this.players = other.players;
+    this.hands = new Card[2][];
+    this.handSizes = other.handSizes.clone();
+    for (int p = 0; p < 2; p++) {
+      hands[p] = other.hands[p].clone();
+    }
+    this.current = other.current;
+    this.handHash = other.handHash;
+
+    int maxMoves = grid.getEmptyCellCount();
+    this.moveCells = new int[maxMoves];
+    this.moveHandSlots = new int[maxMoves];
+    this.moveCards = new Card[maxMoves];
+    this.moveJournalMarks = new int[maxMoves];
+    this.moveFlips = new int[maxMoves];
+  }
+
+  /**
+   * Makes an independent copy of the current position, with no moves to take back. Used to
+   * give each thread of a parallel search its own state.
+   *
+   * @return the copy
+   */
+  public SearchState copy() {
+    return new SearchState(this);
+  }
+
+  /**
+   * Places the card in the given slot of the current player's hand at the given cell,
+   * resolves the battles it causes, and passes the turn to the other player.
+   *
+   * @param handSlot the index of the card in the current player's hand
+   * @param row      the row to place the card at
+   * @param col      the column to place the card at
+   * @return the number of cards flipped by the move
+   * @throws IllegalStateException    if the game is over or the cell is a hole or occupied
+   * @throws IllegalArgumentException if the hand slot or coordinates are invalid
+   */
+  public int makeMove(int handSlot, int row, int col) {
+    if (isGameOver()) {
+      throw new IllegalStateException("Game is over");
+    }
+    if (handSlot < 0 || handSlot >= handSizes[current]) {
+      throw new IllegalArgumentException("Invalid hand index");
+    }
+    Player mover = players[current];
+    Card card = hands[current][handSlot];
+    grid.placeCard(row, col, card, mover);
+
+    int mark = grid.getJournalSize();
+    removeFromHand(current, handSlot);
+    resolve(layers.length - 1, row, col, mover);
+    int flips = grid.getJournalSize() - mark;
+
+    moveCells[moveCount] = table.indexOf(row, col);
+    moveHandSlots[moveCount] = handSlot;
+    moveCards[moveCount] = card;
+    moveJournalMarks[moveCount] = mark;
+    moveFlips[moveCount] = flips;
+    moveCount++;
+    current ^= 1;
+    return flips;
+  }
+
+  /**
+   * Takes back the last move made, restoring the grid, owners, hands and turn exactly as they
+   * were before it.
+   *
+   * @throws IllegalStateException if no moves have been made
+   */
+  public void unmakeMove() {
+    if (moveCount == 0) {
+      throw new IllegalStateException("No move to undo");
+    }
+    moveCount--;
+    current ^= 1;
+    grid.rollbackOwners(moveJournalMarks[moveCount]);
+    grid.removeCard(moveCells[moveCount]);
+    insertIntoHand(current, moveHandSlots[moveCount], moveCards[moveCount]);
+    moveCards[moveCount] = null;
+  }
+
+  /**
+   * Checks if the current player could place a card at the given cell.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return true if the game is not over and the cell is in bounds, not a hole and empty
+   */
+  public boolean canPlace(int row, int col) {
+    return !isGameOver() && row >= 0 && row < getRows() && col >= 0 && col < getCols()
+            && grid.isEmpty(row, col);
+  }
+
+  /**
+   * Gets the Zobrist hash of this state. It is computed the same way as the model's
+   * getStateHash, so a state and the game it was copied from hash equally, and it is updated
+   * in constant time per placement and flip.
+   *
+   * @return the state hash
+   */
+  public long getHash() {
+    return grid.getBoardHash() ^ handHash ^ Zobrist.sideKey(players[current]);
+  }
+
+  /**
+   * Gets the number of moves made on this state that can still be taken back.
+   *
+   * @return the number of moves made
+   */
+  public int getMoveCount() {
+    return moveCount;
+  }
+
+  /**
+   * Gets the number of cards flipped by the last move made.
+   *
+   * @return the flips of the last move, or 0 if no moves have been made
+   */
+  public int getLastFlipCount() {
+    return moveCount == 0 ? 0 : moveFlips[moveCount - 1];
+  }
+
+  /**
+   * Gets a card flipped by the last move made, in the order the flips happened.
+   *
+   * @param i the position of the flip, from 0 to getLastFlipCount() - 1
+   * @return the cell index of the flipped card
+   * @throws IllegalArgumentException if i is out of range
+   */
+  public int getLastFlippedCell(int i) {
+    if (i < 0 || i >= getLastFlipCount()) {
+      throw new IllegalArgumentException("Invalid flip index");
+    }
+    return grid.getJournalCell(moveJournalMarks[moveCount - 1] + i);
+  }
+
+  /**
+   * Gets the number of rows of the grid.
+   *
+   * @return number of rows
+   */
+  public int getRows() {
+    return grid.getRows();
+  }
+
+  /**
+   * Gets the number of columns of the grid.
+   *
+   * @return number of columns
+   */
+  public int getCols() {
+    return grid.getCols();
+  }
+
+  /**
+   * Gets the neighbour table of the grid.
+   *
+   * @return the neighbour table
+   */
+  public NeighborTable getNeighborTable() {
+    return table;
+  }
+
+  /**
+   * Gets the rules moves on this state are resolved with.
+   *
+   * @return the rule set
+   */
+  public RuleSet getRuleSet() {
+    return rules;
+  }
+
+  /**
+   * Checks if a cell is a hole.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return true if the cell is a hole
+   * @throws IllegalArgumentException if the coordinates are invalid
+   */
+  public boolean isHole(int row, int col) {
+    return grid.isHole(row, col);
+  }
+
+  /**
+   * Checks if a card cell is empty.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return true if the cell is not a hole and holds no card
+   * @throws IllegalArgumentException if the coordinates are invalid
+   */
+  public boolean isEmpty(int row, int col) {
+    return grid.isEmpty(row, col);
+  }
+
+  /**
+   * Gets the card at a cell.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return the card, or null if there is none
+   * @throws IllegalArgumentException if the coordinates are invalid
+   */
+  public Card getCard(int row, int col) {
+    return grid.getCard(row, col);
+  }
+
+  /**
+   * Gets the owner of the card at a cell.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return the owner, or null if there is no card
+   * @throws IllegalArgumentException if the coordinates are invalid
+   */
+  public Player getOwner(int row, int col) {
+    return grid.getOwner(row, col);
+  }
+
+  /**
+   * Gets the number of card cells that are still empty.
+   *
+   * @return the number of empty card cells
+   */
+  public int getEmptyCellCount() {
+    return grid.getEmptyCellCount();
+  }
+
+  /**
+   * Gets the two players of the game, in the order the model listed them.
+   *
+   * @return a list of the players
+   */
+  public List<Player> getPlayers() {
+    return Arrays.asList(players.clone());
+  }
+
+  /**
+   * Gets the player of this state with the given color. Strategies are often handed a wrapper
+   * around a player rather than the model's own player, so they look players up by color.
+   *
+   * @param color the player's color
+   * @return the player with that color
+   * @throws IllegalArgumentException if no player has that color
+   */
+  public Player getPlayer(String color) {
+    return players[indexOfColor(color)];
+  }
+
+  /**
+   * Gets the player whose turn it is.
+   *
+   * @return the current player
+   */
+  public Player getCurrentPlayer() {
+    return players[current];
+  }
+
+  /**
+   * Gets the player who is not the given player.
+   *
+   * @param player one of the players of the game
+   * @return the other player
+   * @throws IllegalArgumentException if the player is not in this game
+   */
+  public Player getOpponent(Player player) {
+    return players[indexOf(player) ^ 1];
+  }
+
+  /**
+   * Gets the number of cards in a player's hand.
+   *
+   * @param player the player
+   * @return the player's hand size
+   * @throws IllegalArgumentException if the player is not in this game
+   */
+  public int getHandSize(Player player) {
+    return handSizes[indexOf(player)];
+  }
+
+  /**
+   * Gets the card in a slot of a player's hand.
+   *
+   * @param player the player
+   * @param slot   the index of the card in the hand
+   * @return the card in that slot
+   * @throws IllegalArgumentException if the player is not in this game or the slot is invalid
+   */
+  public Card getHandCard(Player player, int slot) {
+    int p = indexOf(player);
+    if (slot < 0 || slot >= handSizes[p]) {
+      throw new IllegalArgumentException("Invalid hand index");
+    }
+    return hands[p][slot];
+  }
+
+  /**
+   * Gets a copy of a player's hand, in hand order.
+   *
+   * @param player the player
+   * @return a list of the cards in the player's hand
+   * @throws IllegalArgumentException if the player is not in this game
+   */
+  public List<Card> getHand(Player player) {
+    int p = indexOf(player);
+    return new ArrayList<>(Arrays.asList(hands[p]).subList(0, handSizes[p]));
+  }
+
+  /**
+   * Gets a player's score, counted the same way as the model: the cards they own on the grid,
+   * plus the cards in their hand while the game is still going.
+   *
+   * @param player the player
+   * @return the player's score
+   * @throws IllegalArgumentException if the player is not in this game
+   */
+  public int getScore(Player player) {
+    int score = grid.countOwnedBy(player);
+    if (!isGameOver()) {
+      score += handSizes[indexOf(player)];
+    }
+    return score;
+  }
+
+  /**
+   * Checks if the game is over, which is when every card cell is filled.
+   *
+   * @return true if the game is over
+   */
+  public boolean isGameOver() {
+    return grid.isFull();
+  }
+
+  /**
+   * Gets the winner of the game.
+   *
+   * @return the player with the higher score, or null if the game is not over or is tied
+   */
+  public Player getWinner() {
+    if (!isGameOver()) {
+      return null;
+    }
+    int first = getScore(players[0]);
+    int second = getScore(players[1]);
+    if (first == second) {
+      return null;
+    }
+    return first > second ? players[0] : players[1];
+  }
+
+  /**
+   * Resolves the battles of a placed card, running the rule at the given level of the rule set
+   * around the levels beneath it in the same order as the rule decorators do.
+   *
+   * @param level  the index of the rule to run, or -1 for the normal combo battle
+   * @param row    the row of the placed card
+   * @param col    the column of the placed card
+   * @param player the player who placed the card
+   */
+  private void resolve(int level, int row, int col, Player player) {
+    if (level < 0) {
+      engine.resolveCombo(grid, row, col);
+      return;
+    }
+    int[] buffer = scratch[level];
+    int count;
+    switch (layers[level]) {
+      case REVERSE:
+        BattleRules.reverseBattle(grid, row, col);
+        break;
+      case FALLEN_ACE:
+        count = BattleRules.fallenAceFlips(grid, row, col, player, buffer);
+        resolve(level - 1, row, col, player);
+        BattleRules.flipAll(grid, buffer, count, player);
+        break;
+      case SAME:
+        count = BattleRules.sameFlips(grid, row, col, player, buffer);
+        resolve(level - 1, row, col, player);
+        BattleRules.flipAll(grid, buffer, count, player);
+        break;
+      case PLUS:
+        count = BattleRules.plusFlips(grid, row, col, player, buffer);
+        BattleRules.flipAll(grid, buffer, count, player);
+        resolve(level - 1, row, col, player);
+        break;
+      default:
+        throw new IllegalStateException("Unknown rule: " + layers[level]);
+    }
+  }
+
+  private void removeFromHand(int p, int slot) {
+    Card[] hand = hands[p];
+    handHash -= Zobrist.handKey(players[p], hand[slot]);
+    System.arraycopy(hand, slot + 1, hand, slot, handSizes[p] - slot - 1);
+    handSizes[p]--;
+    hand[handSizes[p]] = null;
+  }
+
+  private void insertIntoHand(int p, int slot, Card card) {
+    Card[] hand = hands[p];
+    System.arraycopy(hand, slot, hand, slot + 1, handSizes[p] - slot);
+    hand[slot] = card;
+    handSizes[p]++;
+    handHash += Zobrist.handKey(players[p], card);
+  }
+
+  private int indexOf(Player player) {
+    if (player == players[0]) {
+      return 0;
+    }
+    if (player == players[1]) {
+      return 1;
+    }
+    throw new IllegalArgumentException("Player is not in this game");
+  }
+
+  private int indexOfColor(String color) {
+    for (int p = 0; p < 2; p++) {
+      if (players[p].getColor().equals(color)) {
+        return p;
+      }
+    }
+    throw new IllegalArgumentException("Player is not in this game");
+  }
+}
@@ -1,14 +1,13 @@
 package cs3500.threetrios.model;
 
-import java.util.EnumMap;
-
 /**
  * Class to represent a Card in the ThreeTrios Game.
+ * The four attack values are kept packed in a single int, as described in CardStats.
+ * A card is immutable, so a single instance can be shared by many games at once.
  */
 public class ThreeTriosCard implements Card {
   private final String name;
-  private final EnumMap<Direction, Integer> values; // [NORTH, SOUTH, EAST, WEST]
-  private Player owner;
+  private final int stats; // [NORTH, SOUTH, EAST, WEST], four bits each
 
   /**
    * Constructor for a card in the ThreeTrios game, throwing exceptions if name is null.
@@ -18,32 +17,14 @@ public class ThreeTriosCard implements Card {
    * @param south south value
    * @param east  east value
    * @param west  west value
+   * @throws IllegalArgumentException if any value is not between 1 and 10
    */
   public ThreeTriosCard(String name, int north, int south, int east, int west) {
     if (name == null || name.trim().isEmpty()) {
       throw new IllegalArgumentException("Card name cannot be null or empty");
     }
     this.name = name;
-    this.values = new EnumMap<>(Direction.class);
-    values.put(Direction.NORTH, north);
-    values.put(Direction.SOUTH, south);
-    values.put(Direction.EAST, east);
-    values.put(Direction.WEST, west);
-    validateValues();
-  }
-
-  /**
-   * A method that validates the value of a card, throwing an exceptions if the value
-   * is less than one or greater than ten.
-   */
-  private void validateValues() {
-    for (Direction direction : Direction.values()) {
-      int value = values.get(direction);
-      if (value < 1 || value > 10) {
-        throw new IllegalArgumentException("Card value for " + direction + " "
-                + "must be between 1 and 10, but was " + value);
-      }
-    }
+    this.stats = CardStats.pack(north, south, east, west);
   }
 
   @Override
@@ -53,19 +34,11 @@ public class ThreeTriosCard implements Card {
 
   @Override
   public int getAttackPower(Direction direction) {
-    return values.get(direction);
+    return CardStats.side(stats, direction.ordinal());
   }
 
   @Override
-  public Player getOwner() {
-    return owner;
-  }
-
-  @Override
-  public void setOwner(Player newOwner) {
-    if (newOwner == null) {
-      throw new IllegalArgumentException("Owner cannot be null");
-    }
-    this.owner = newOwner;
+  public int getPackedStats() {
+    return stats;
   }
 }
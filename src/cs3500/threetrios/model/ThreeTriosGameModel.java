@@ -4,10 +4,10 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 import cs3500.threetrios.features.ModelFeatures;
 
@@ -17,14 +17,19 @@ import cs3500.threetrios.features.ModelFeatures;
  */
 public class ThreeTriosGameModel implements MainModelInterface {
   private Grid grid;
+  private Grid gridView;
   private Player redPlayer;
   private Player bluePlayer;
   private Player currentPlayer;
   private final Map<Player, List<Card>> playerHands;
   private boolean gameStarted;
   private boolean gameOver;
-  private boolean isScoring = false;
   private List<ModelFeatures> featureListeners = new ArrayList<>();
+  private final MoveRecorder moveRecorder;
+  private BattleEngine battleEngine;
+  private long handHash;
+  private long version;
+  private long gridVersionAtStart;
 
   /**
    * Constructs a new ThreeTriosGameModel with an initial state.
@@ -33,14 +38,27 @@ public class ThreeTriosGameModel implements MainModelInterface {
     this.playerHands = new HashMap<>();
     this.gameStarted = false;
     this.gameOver = false;
+    this.moveRecorder = new MoveRecorder(featureListeners);
   }
 
   @Override
   public void startGame(Grid grid, List<Card> deck) {
+    startGame(grid, deck, new SplittableRandom());
+  }
+
+  @Override
+  public void startGame(Grid grid, List<Card> deck, RandomGenerator random) {
     validateGameSetup(grid, deck);
+    if (random == null) {
+      throw new IllegalArgumentException("Random generator cannot be null");
+    }
+    this.version = getVersion() + 1;
     this.grid = grid;
+    this.gridVersionAtStart = grid.getVersion();
+    this.gridView = new ReadOnlyGrid(grid);
+    this.battleEngine = new BattleEngine(grid.getNeighborTable());
     initialize(grid);
-    dealCards(deck);
+    dealCards(deck, random);
     this.gameStarted = true;
     this.gameOver = false;
     setCurrentPlayer("RED");
@@ -98,6 +116,7 @@ public class ThreeTriosGameModel implements MainModelInterface {
     playerHands.clear();
     playerHands.put(redPlayer, new ArrayList<>());
     playerHands.put(bluePlayer, new ArrayList<>());
+    version++;
   }
 
   /**
@@ -106,6 +125,17 @@ public class ThreeTriosGameModel implements MainModelInterface {
    * @param deck the deck to draw from
    */
   public void dealCards(List<Card> deck) {
+    dealCards(deck, new SplittableRandom());
+  }
+
+  /**
+   * Deals cards from a deck to a hand, setting up the hand, after shuffling the deck with the
+   * given generator.
+   *
+   * @param deck   the deck to draw from
+   * @param random the generator the deck is shuffled with
+   */
+  public void dealCards(List<Card> deck, RandomGenerator random) {
     int totalRequiredCards = grid.getCardCellCount() + 1;
     int handSize = (totalRequiredCards + 1) / 2;
 
@@ -116,26 +146,34 @@ public class ThreeTriosGameModel implements MainModelInterface {
     }
 
     List<Card> shuffledDeck = new ArrayList<>(deck);
-    Collections.shuffle(shuffledDeck);
+    for (int i = shuffledDeck.size() - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      Card swapped = shuffledDeck.get(i);
+      shuffledDeck.set(i, shuffledDeck.get(j));
+      shuffledDeck.set(j, swapped);
+    }
     playerHands.get(redPlayer).clear();
     playerHands.get(bluePlayer).clear();
+    handHash = 0L;
+    version++;
 
     for (int i = 0; i < handSize; i++) {
       Card redCard = shuffledDeck.get(i);
       Card blueCard = shuffledDeck.get(i + handSize);
-      redCard.setOwner(redPlayer);
-      blueCard.setOwner(bluePlayer);
       playerHands.get(redPlayer).add(redCard);
       playerHands.get(bluePlayer).add(blueCard);
+      handHash += Zobrist.handKey(redPlayer, redCard) + Zobrist.handKey(bluePlayer, blueCard);
     }
   }
 
   @Override
   public void placeCard(Player player, int row, int col, Card card) {
     validateMove(player, row, col, card);
-    grid.placeCard(row, col, card);
-    playerHands.get(player).remove(card);
-    executeBattlePhase(new Position(row, col));
+    grid.placeCard(row, col, card, player);
+    moveRecorder.begin(row, col, card, player);
+    removeFromHand(player, card);
+    executeBattlePhase(row, col);
+    moveRecorder.publish();
     String nextPlayer = (currentPlayer == redPlayer) ? "BLUE" : "RED";
     setCurrentPlayer(nextPlayer);
     gameOver = isGridFull();
@@ -149,9 +187,11 @@ public class ThreeTriosGameModel implements MainModelInterface {
   @Override
   public void placeCard(int row, int col, Card card) {
     validateMove(getCurrentPlayer(), row, col, card);
-    grid.placeCard(row, col, card);
-    playerHands.get(currentPlayer).remove(card);
-    executeBattlePhase(new Position(row, col));
+    grid.placeCard(row, col, card, currentPlayer);
+    moveRecorder.begin(row, col, card, currentPlayer);
+    removeFromHand(currentPlayer, card);
+    executeBattlePhase(row, col);
+    moveRecorder.publish();
     String nextPlayerColor = (currentPlayer == redPlayer) ? "BLUE" : "RED";
     boolean isGameFinished = isGridFull();
     setCurrentPlayer(nextPlayerColor);
@@ -229,122 +269,48 @@ public class ThreeTriosGameModel implements MainModelInterface {
   }
 
   /**
-   * Executes the battle phase of the game after a card has been placed.
-   * This method implements a search algorithm to process card battles.
-   *
-   * @param newCardPosition the new card position
-   */
-  public void executeBattlePhase(Position newCardPosition) {
-    Set<Position> toProcess = new HashSet<>();
-    Set<Position> processed = new HashSet<>();
-    toProcess.add(newCardPosition);
-
-    while (!toProcess.isEmpty()) {
-      Position currentPos = toProcess.iterator().next();
-      toProcess.remove(currentPos);
-      processed.add(currentPos);
-
-      Card currentCard = grid.getCard(currentPos.row, currentPos.col);
-      if (currentCard == null) {
-        continue;
-      }
-
-      List<Position> adjacentPositions = getAdjacentPositions(currentPos);
-
-      for (Position adjPos : adjacentPositions) {
-        if (processed.contains(adjPos)) {
-          continue;
-        }
-
-        Card adjacentCard = grid.getCard(adjPos.row, adjPos.col);
-        if (adjacentCard == null) {
-          continue;
-        }
-
-        if (adjacentCard.getOwner() != currentCard.getOwner()) {
-          if (checkCardWinsBattle(currentPos, adjPos)) {
-            adjacentCard.setOwner(currentCard.getOwner());
-            toProcess.add(adjPos);
-          }
-        }
-      }
-    }
-  }
-
-
-  /**
-   * Checks if a card wins the battle in comparison to another card.
+   * Removes a played card from a player's hand, keeping the hand part of the state hash in step.
+   * The rule decorators place cards themselves and remove them through here.
    *
-   * @param attackerPos attacker position
-   * @param defenderPos defender position
-   * @return true if attacker wins.
+   * @param player the player who played the card
+   * @param card   the card played
    */
-  private boolean checkCardWinsBattle(Position attackerPos, Position defenderPos) {
-    Card attacker = grid.getCard(attackerPos.row, attackerPos.col);
-    Card defender = grid.getCard(defenderPos.row, defenderPos.col);
-
-    if (attacker == null || defender == null) {
-      return false;
+  void removeFromHand(Player player, Card card) {
+    if (playerHands.get(player).remove(card)) {
+      handHash -= Zobrist.handKey(player, card);
+      version++;
     }
-
-    Direction battleDir = getBattleDirection(attackerPos, defenderPos);
-    int attackValue = attacker.getAttackPower(battleDir);
-    int defenseValue = defender.getAttackPower(battleDir.getOpposite());
-
-    return attackValue > defenseValue;
   }
 
   /**
-   * Returns the list adjacent positions to the cards.
+   * Executes the battle phase of the game after a card has been placed at the given cell.
+   * The combo chain is walked by the battle engine over cell indices, so no positions
+   * or collections are created while the battles are resolved. The flips are only listed
+   * in the move's delta when some listener will be told of it.
    *
-   * @param position position
-   * @return a list of adjacent positions
+   * @param row the row of the newly placed card
+   * @param col the column of the newly placed card
    */
-  private List<Position> getAdjacentPositions(Position position) {
-    List<Position> positions = new ArrayList<>();
-    int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
-
-    for (int[] dir : directions) {
-      int newRow = position.row + dir[0];
-      int newCol = position.col + dir[1];
-      if (isValidPosition(newRow, newCol)) {
-        positions.add(new Position(newRow, newCol));
+  private void executeBattlePhase(int row, int col) {
+    int flips = battleEngine.resolveCombo(grid, row, col);
+    if (moveRecorder.isRecording()) {
+      NeighborTable table = grid.getNeighborTable();
+      Player owner = grid.getOwner(row, col);
+      for (int i = 0; i < flips; i++) {
+        moveRecorder.flip(battleEngine.getFlippedCell(i), table, battleEngine.getFlippedFrom(i),
+                owner, null);
       }
     }
-    return positions;
-  }
-
-  /**
-   * Checks if the row and column is valid.
-   *
-   * @param row row
-   * @param col column
-   * @return true if position is valid, false otherwise
-   */
-  private boolean isValidPosition(int row, int col) {
-    return row >= 0 && row < grid.getRows()
-            && col >= 0 && col < grid.getCols()
-            && !grid.isHole(row, col);
   }
 
   /**
-   * Checks the direction of the battle taking place.
+   * Gets the recorder of this game's moves, which the rule decorators wrapped around it
+   * record their flips with.
    *
-   * @param from original position
-   * @param to   final position
-   * @return direction
+   * @return the move recorder
    */
-  private Direction getBattleDirection(Position from, Position to) {
-    if (from.row < to.row) {
-      return Direction.SOUTH;
-    }
-    if (from.row > to.row) {
-      return Direction.NORTH;
-    }
-    if (from.col < to.col) {
-      return Direction.EAST;
-    }
-    return Direction.WEST;
+  MoveRecorder getMoveRecorder() {
+    return moveRecorder;
   }
 
   @Override
@@ -353,19 +319,12 @@ public class ThreeTriosGameModel implements MainModelInterface {
   }
 
   /**
-   * Checks to see if a grid is full.
+   * Checks to see if a grid is full, which the grid tracks as cards are placed.
    *
    * @return true if grid is full, false otherwise
    */
   private boolean isGridFull() {
-    for (int i = 0; i < grid.getRows(); i++) {
-      for (int j = 0; j < grid.getCols(); j++) {
-        if (!grid.isHole(i, j) && grid.getCard(i, j) == null) {
-          return false;
-        }
-      }
-    }
-    return true;
+    return grid.isFull();
   }
 
   /**
@@ -392,59 +351,30 @@ public class ThreeTriosGameModel implements MainModelInterface {
   }
 
   /**
-   * Counts and returns the number of cards a player has.
+   * Counts and returns the number of cards a player has: the cards they own on the grid, plus
+   * the cards in their hand while the game is still going. The grid keeps its owner counts up
+   * to date as cards are placed and flipped, so this takes constant time.
    *
    * @param player player
    * @return returns count
    */
-
   private int countPlayerCards(Player player) {
-    if (isScoring) {
-      return 0;
-    }
-
-    isScoring = true;
-    int count = 0;
-
+    int count = grid.countOwnedBy(player);
     if (!isGameOver()) {
       count += playerHands.get(player).size();
     }
-
-    for (int i = 0; i < grid.getRows(); i++) {
-      for (int j = 0; j < grid.getCols(); j++) {
-        Card card = grid.getCard(i, j);
-        if (card != null && card.getOwner() == player) {
-          count++;
-        }
-      }
-    }
-
-    isScoring = false;
     return count;
   }
 
+  /**
+   * Gets a read-only view of the live grid, which shows every later move without being copied.
+   * Call snapshot on it to keep the grid as it is now.
+   *
+   * @return the grid view, or null if the game has not been started
+   */
   @Override
   public Grid getGrid() {
-    ThreeTriosGrid newGrid = new ThreeTriosGrid(grid.getRows(), grid.getCols(), getHoles());
-    for (int i = 0; i < grid.getRows(); i++) {
-      for (int j = 0; j < grid.getCols(); j++) {
-        Card card = grid.getCard(i, j);
-        if (card != null) {
-          newGrid.placeCard(i, j, card);
-        }
-      }
-    }
-    return newGrid;
-  }
-
-  private boolean[][] getHoles() {
-    boolean[][] holes = new boolean[grid.getRows()][grid.getCols()];
-    for (int i = 0; i < grid.getRows(); i++) {
-      for (int j = 0; j < grid.getCols(); j++) {
-        holes[i][j] = grid.isHole(i, j);
-      }
-    }
-    return holes;
+    return gridView;
   }
 
   @Override
@@ -462,25 +392,43 @@ public class ThreeTriosGameModel implements MainModelInterface {
     if (!canPlaceCard(row, col, card)) {
       return 0;
     }
+    return battleEngine.countDirectFlips(grid, row, col, card, currentPlayer);
+  }
 
-    int flippableCount = 0;
-    List<Position> adjacent = getAdjacentPositions(new Position(row, col));
+  @Override
+  public NeighborTable getNeighborTable() {
+    if (grid == null) {
+      throw new IllegalStateException("Game has not been started");
+    }
+    return grid.getNeighborTable();
+  }
 
-    for (Position pos : adjacent) {
-      Card adjacentCard = grid.getCard(pos.row, pos.col);
-      if (adjacentCard != null && adjacentCard.getOwner() != currentPlayer) {
-        // Simulate placing the card to check if it would win the battle
-        Direction battleDir = getBattleDirection(new Position(row, col), pos);
-        int attackValue = card.getAttackPower(battleDir);
-        int defenseValue = adjacentCard.getAttackPower(battleDir.getOpposite());
+  @Override
+  public long getStateHash() {
+    if (grid == null) {
+      throw new IllegalStateException("Game has not been started");
+    }
+    return grid.getBoardHash() ^ handHash ^ Zobrist.sideKey(currentPlayer);
+  }
 
-        if (attackValue > defenseValue) {
-          flippableCount++;
-        }
-      }
+  /**
+   * Gets the version of the game state. The grid counts its own changes, including the flips
+   * rule decorators make on it directly, and the model counts the changes to the hands and the
+   * turn, so the version is the sum of both, measured from when the grid was handed to the game.
+   *
+   * @return the version
+   */
+  @Override
+  public long getVersion() {
+    if (grid == null) {
+      return version;
     }
+    return version + grid.getVersion() - gridVersionAtStart;
+  }
 
-    return flippableCount;
+  @Override
+  public RuleSet getRuleSet() {
+    return RuleSet.NORMAL;
   }
 
   @Override
@@ -510,8 +458,7 @@ public class ThreeTriosGameModel implements MainModelInterface {
     if (row < 0 || row >= grid.getRows() || col < 0 || col >= grid.getCols()) {
       throw new IllegalArgumentException("Invalid grid coordinates");
     }
-    Card card = grid.getCard(row, col);
-    return card != null ? card.getOwner() : null;
+    return grid.getOwner(row, col);
   }
 
   @Override
@@ -557,6 +504,7 @@ public class ThreeTriosGameModel implements MainModelInterface {
     this.currentPlayer = newPlayer;
 
     if (changed) {
+      version++;
       for (ModelFeatures listener : featureListeners) {
         if (listener != null) {
           listener.notifyTurnChange(this.currentPlayer);
@@ -569,30 +517,8 @@ public class ThreeTriosGameModel implements MainModelInterface {
     featureListeners.add(listener);
   }
 
-  /**
-   * Represents a position on the game grid.
-   */
-  static class Position {
-    final int row;
-    final int col;
-
-    /**
-     * Constructs a position given a row and column.
-     *
-     * @param row row
-     * @param col column
-     */
-    Position(int row, int col) {
-      this.row = row;
-      this.col = col;
-    }
-  }
-
   @Override
   public void executeBattlePhase(cs3500.threetrios.strategy.Position newCardPosition) {
-    // Convert the strategy.Position to our internal Position class
-    Position internalPos = new Position(newCardPosition.row, newCardPosition.col);
-    // Call our existing implementation
-    executeBattlePhase(internalPos);
+    executeBattlePhase(newCardPosition.row, newCardPosition.col);
   }
 }
\ No newline at end of file
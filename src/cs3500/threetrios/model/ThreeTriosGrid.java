@@ -9,13 +9,23 @@ import java.util.List;
  * The axes are organized by: (row, column).
  * Row coordinates are the first index that increase downwards.
  * Column coordinates are the second index that increase towards the right.
+ * A snapshot shares the grid's card and owner rows until the grid next changes, when the grid
+ * copies them for itself.
  */
 public class ThreeTriosGrid implements Grid {
   private final int rows;
   private final int cols;
   private final boolean[][] holes;
-  private final Card[][] cards;
+  private Card[][] cards;
+  private Player[][] owners;
   private final int cardCellCount;
+  private final NeighborTable neighborTable;
+  private final OwnerCounts ownerCounts;
+  private final boolean frozen;
+  private ThreeTriosGrid snapshot;
+  private int occupiedCount;
+  private long boardHash;
+  private long version;
 
   /**
    * Constructs a ThreeTriosGrid with the specified dimensions and holes.
@@ -38,6 +48,8 @@ public class ThreeTriosGrid implements Grid {
     this.cols = cols;
     this.holes = new boolean[rows][cols];
     this.cards = new Card[rows][cols];
+    this.owners = new Player[rows][cols];
+    this.ownerCounts = new OwnerCounts();
 
     for (int i = 0; i < rows; i++) {
       System.arraycopy(holes[i], 0, this.holes[i], 0, cols);
@@ -47,6 +59,29 @@ public class ThreeTriosGrid implements Grid {
     if (cardCellCount % 2 == 0) {
       throw new IllegalArgumentException("Grid must have odd number of card cells");
     }
+    this.neighborTable = new NeighborTable(rows, cols, holes);
+    this.frozen = false;
+  }
+
+  /**
+   * Constructs a frozen snapshot of another grid, sharing its card and owner rows until the
+   * other grid next changes.
+   *
+   * @param other the grid to take a snapshot of
+   */
+  private ThreeTriosGrid(ThreeTriosGrid other) {
+    this.rows = other.rows;
+    this.cols = other.cols;
+    this.holes = other.holes;
+    this.cards = other.cards;
+    this.owners = other.owners;
+    this.cardCellCount = other.cardCellCount;
+    this.neighborTable = other.neighborTable;
+    this.ownerCounts = new OwnerCounts(other.ownerCounts);
+    this.frozen = true;
+    this.occupiedCount = other.occupiedCount;
+    this.boardHash = other.boardHash;
+    this.version = other.version;
   }
 
   @Override
@@ -78,6 +113,11 @@ public class ThreeTriosGrid implements Grid {
 
   @Override
   public void placeCard(int row, int col, Card card) {
+    placeCard(row, col, card, null);
+  }
+
+  @Override
+  public void placeCard(int row, int col, Card card, Player owner) {
     validatePosition(row, col);
     if (card == null) {
       throw new IllegalArgumentException("Cannot place null card");
@@ -88,7 +128,37 @@ public class ThreeTriosGrid implements Grid {
     if (cards[row][col] != null) {
       throw new IllegalStateException("Position already contains a card");
     }
+    beforeWrite();
     cards[row][col] = card;
+    owners[row][col] = owner;
+    occupiedCount++;
+    ownerCounts.move(null, owner);
+    int cell = row * cols + col;
+    boardHash ^= Zobrist.pieceKey(cell, card) ^ Zobrist.ownerKey(cell, owner);
+    version++;
+  }
+
+  @Override
+  public Player getOwner(int row, int col) {
+    validatePosition(row, col);
+    return owners[row][col];
+  }
+
+  @Override
+  public void setOwner(int row, int col, Player owner) {
+    validatePosition(row, col);
+    if (owner == null) {
+      throw new IllegalArgumentException("Owner cannot be null");
+    }
+    if (cards[row][col] == null) {
+      throw new IllegalStateException("No card at position");
+    }
+    beforeWrite();
+    int cell = row * cols + col;
+    boardHash ^= Zobrist.ownerKey(cell, owners[row][col]) ^ Zobrist.ownerKey(cell, owner);
+    ownerCounts.move(owners[row][col], owner);
+    owners[row][col] = owner;
+    version++;
   }
 
   @Override
@@ -96,16 +166,34 @@ public class ThreeTriosGrid implements Grid {
     return cardCellCount;
   }
 
+  @Override
+  public NeighborTable getNeighborTable() {
+    return neighborTable;
+  }
+
+  @Override
+  public long getBoardHash() {
+    return boardHash;
+  }
+
+  @Override
+  public long getVersion() {
+    return version;
+  }
+
   @Override
   public boolean isFull() {
-    for (int i = 0; i < rows; i++) {
-      for (int j = 0; j < cols; j++) {
-        if (!holes[i][j] && cards[i][j] == null) {
-          return false;
-        }
-      }
-    }
-    return true;
+    return occupiedCount == cardCellCount;
+  }
+
+  @Override
+  public int getEmptyCellCount() {
+    return cardCellCount - occupiedCount;
+  }
+
+  @Override
+  public int countOwnedBy(Player player) {
+    return ownerCounts.get(player);
   }
 
   @Override
@@ -121,6 +209,42 @@ public class ThreeTriosGrid implements Grid {
     return emptyCells;
   }
 
+  @Override
+  public Grid snapshot() {
+    if (frozen) {
+      return this;
+    }
+    if (snapshot == null) {
+      snapshot = new ThreeTriosGrid(this);
+    }
+    return snapshot;
+  }
+
+  /**
+   * Gets this grid ready to be changed once a write has been checked: refuses if it is a
+   * snapshot, and otherwise stops sharing its rows with its last snapshot by copying them.
+   * The write counts the change in the version once it is done, so rejected writes leave both
+   * the snapshot and the version alone.
+   *
+   * @throws UnsupportedOperationException if this grid is a snapshot
+   */
+  private void beforeWrite() {
+    if (frozen) {
+      throw new UnsupportedOperationException("A grid snapshot cannot be changed");
+    }
+    if (snapshot != null) {
+      Card[][] cardRows = new Card[rows][];
+      Player[][] ownerRows = new Player[rows][];
+      for (int i = 0; i < rows; i++) {
+        cardRows[i] = cards[i].clone();
+        ownerRows[i] = owners[i].clone();
+      }
+      cards = cardRows;
+      owners = ownerRows;
+      snapshot = null;
+    }
+  }
+
   /**
    * Checks to see if the coordinate is valid within the bounds of the set game.
    *
@@ -76,8 +76,7 @@ public class ThreeTriosPlayer implements Player {
     int count = hand.size();
     for (int i = 0; i < grid.getRows(); i++) {
       for (int j = 0; j < grid.getCols(); j++) {
-        Card card = grid.getCard(i, j);
-        if (card != null && card.getOwner() == this) {
+        if (grid.getCard(i, j) != null && grid.getOwner(i, j) == this) {
           count++;
         }
       }
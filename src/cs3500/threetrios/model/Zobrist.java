@@ -0,0 +1,108 @@
+package cs3500.threetrios.model;
+
+/**
+ * A utility class for the Zobrist keys used to hash ThreeTrios game states.
+ * A state hash is the XOR of a key for each placed card and its cell, a key for the owner of
+ * each occupied cell, a key for the side to move, and the sum of a key for each card in each
+ * hand. Hand keys are added rather than XORed so that two identical cards in one hand do not
+ * cancel out. Each part can be updated in constant time when a card is placed, flipped or
+ * played from a hand.
+ * Keys are derived from a card's name and values and a player's color instead of being drawn
+ * at random, so equal positions hash equally across games, decks and threads on the same board.
+ */
+public final class Zobrist {
+  private static final long CELL_SALT = 0x9E3779B97F4A7C15L;
+  private static final long OWNER_SALT = 0xC2B2AE3D27D4EB4FL;
+  private static final long HAND_SALT = 0x165667B19E3779F9L;
+  private static final long SIDE_SALT = 0x27D4EB2F165667C5L;
+
+  private Zobrist() {
+  }
+
+  /**
+   * Gets the key of a card placed at a cell.
+   *
+   * @param cell the cell index
+   * @param card the card
+   * @return the key for that card at that cell
+   */
+  public static long pieceKey(int cell, Card card) {
+    return mix(cardKey(card) + (cell + 1) * CELL_SALT);
+  }
+
+  /**
+   * Gets the key of a player owning a cell.
+   *
+   * @param cell  the cell index
+   * @param owner the owner, or null for no owner
+   * @return the key for that owner at that cell, or 0 for no owner
+   */
+  public static long ownerKey(int cell, Player owner) {
+    if (owner == null) {
+      return 0L;
+    }
+    return mix(colorKey(owner) + (cell + 1) * OWNER_SALT);
+  }
+
+  /**
+   * Gets the key of a card held in a player's hand.
+   *
+   * @param owner the player holding the card
+   * @param card  the card
+   * @return the key to add to the hand sum
+   */
+  public static long handKey(Player owner, Card card) {
+    return mix(cardKey(card) ^ colorKey(owner) * HAND_SALT);
+  }
+
+  /**
+   * Gets the key of a player being the side to move.
+   *
+   * @param player the player whose turn it is
+   * @return the side key, or 0 if there is no current player
+   */
+  public static long sideKey(Player player) {
+    if (player == null) {
+      return 0L;
+    }
+    return mix(colorKey(player) ^ SIDE_SALT);
+  }
+
+  /**
+   * Hashes the cards and owners of a grid from scratch. Grids keep this value up to date
+   * themselves; this is for checking them.
+   *
+   * @param grid the grid to hash
+   * @return the board hash of the grid
+   */
+  public static long hashBoard(Grid grid) {
+    long hash = 0L;
+    for (int i = 0; i < grid.getRows(); i++) {
+      for (int j = 0; j < grid.getCols(); j++) {
+        Card card = grid.getCard(i, j);
+        if (card != null) {
+          int cell = i * grid.getCols() + j;
+          hash ^= pieceKey(cell, card) ^ ownerKey(cell, grid.getOwner(i, j));
+        }
+      }
+    }
+    return hash;
+  }
+
+  private static long cardKey(Card card) {
+    return ((long) card.getName().hashCode() << 32) ^ card.getPackedStats();
+  }
+
+  private static long colorKey(Player player) {
+    return player.getColor().hashCode();
+  }
+
+  /**
+   * Scrambles a value so that nearby inputs give unrelated keys (the SplitMix64 finalizer).
+   */
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -1,5 +1,8 @@
 package cs3500.threetrios.strategy;
 
+import java.util.List;
+
+import cs3500.threetrios.model.Card;
 import cs3500.threetrios.model.MainModelInterface;
 import cs3500.threetrios.model.Player;
 
@@ -9,5 +12,40 @@ import cs3500.threetrios.model.Player;
  * for selecting the best possible move given the current game state.
  */
 public interface AIStrategy {
+  /**
+   * The score given by scoreMoves to moves that cannot be played.
+   */
+  int ILLEGAL_MOVE = Integer.MIN_VALUE;
+
   AIMove findBestMove(MainModelInterface model, Player player);
+
+  /**
+   * Scores every move the player could make, in one pass. The scores are kept in a dense array
+   * with one entry per cell and hand slot, at index cell * handSize + slot, where cell is
+   * row * cols + col and slot is the card's index in the player's hand as given by
+   * StrategyUtil.getHand. Legal moves get a score of at least 0, higher being better, and every
+   * other entry holds ILLEGAL_MOVE. By default only the move chosen by findBestMove is scored,
+   * and every other legal move gets 0.
+   *
+   * @param model  the game model
+   * @param player the player to move
+   * @return the score of every move
+   * @throws IllegalArgumentException if the model or player is null
+   */
+  default int[] scoreMoves(MainModelInterface model, Player player) {
+    List<Card> hand = StrategyUtil.getHand(model, player);
+    int[] scores = StrategyUtil.legalMoveScores(model, hand);
+    int[] dimensions = model.getGridDimensions();
+    AIMove best = findBestMove(model, player);
+    int row = best.getRow();
+    int col = best.getCol();
+    int slot = StrategyUtil.slotOf(hand, best.getCard());
+    if (slot >= 0 && row >= 0 && row < dimensions[0] && col >= 0 && col < dimensions[1]) {
+      int index = (row * dimensions[1] + col) * hand.size() + slot;
+      if (scores[index] != ILLEGAL_MOVE) {
+        scores[index] = best.getScore();
+      }
+    }
+    return scores;
+  }
 }
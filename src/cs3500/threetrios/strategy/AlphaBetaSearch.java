@@ -0,0 +1,419 @@
+package cs3500.threetrios.strategy;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.MainModelInterface;
+import cs3500.threetrios.model.NeighborTable;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.SearchState;
+import cs3500.threetrios.strategy.TranspositionTable.Bound;
+
+/**
+ * The negamax search with alpha-beta pruning shared by the searching strategies. A search owns
+ * one SearchState and the per-ply buffers for it, so it allocates nothing while searching and
+ * must only be used by one thread. Moves are encoded as handSlot * cellCount + cell.
+ * A search can be given a deadline, or a flag that another thread sets to stop it, after which
+ * it abandons the iteration it is in and reports that it was aborted, and a first move to try
+ * at the root before any other. Interrupting the searching thread aborts it the same way.
+ * When a parallel search splits the moves of a node between workers, each worker's search can
+ * also be given the alpha of that node, which the workers raise as they finish so that the
+ * others can prune more.
+ */
+final class AlphaBetaSearch {
+  static final int NO_MOVE = -1;
+  static final int INFINITY = MinimaxStrat.WIN_VALUE << 2;
+  private static final int SCORE_OFFSET = MinimaxStrat.WIN_VALUE << 1;
+  private static final int CLOCK_INTERVAL = 1023;
+
+  private final SearchState state;
+  private final Evaluator evaluator;
+  private final TranspositionTable table;
+  private final NeighborTable cells;
+  private final int cellCount;
+  private final int[][] moves;
+  private final int[][] keys;
+  private long deadline;
+  private AtomicBoolean stop;
+  private int firstMove;
+  private AtomicInteger parentAlpha;
+  private int rootMove;
+  private boolean aborted;
+  private long nodes;
+
+  /**
+   * Prepares a search of the given state.
+   *
+   * @param state     the state to search, which is played on and restored
+   * @param evaluator the evaluator used where the search stops
+   * @param table     the table to store results in, or null
+   * @param maxDepth  the deepest search that will be run
+   */
+  AlphaBetaSearch(SearchState state, Evaluator evaluator, TranspositionTable table,
+                  int maxDepth) {
+    this.state = state;
+    this.evaluator = evaluator;
+    this.table = table;
+    this.cells = state.getNeighborTable();
+    this.cellCount = cells.getCellCount();
+    int plies = Math.max(1, Math.min(maxDepth, state.getEmptyCellCount()));
+    int maxHand = 0;
+    for (Player player : state.getPlayers()) {
+      maxHand = Math.max(maxHand, state.getHandSize(player));
+    }
+    this.moves = new int[plies][maxHand * cellCount];
+    this.keys = new int[plies][maxHand * cellCount];
+    this.deadline = Long.MAX_VALUE;
+    this.firstMove = NO_MOVE;
+    this.rootMove = NO_MOVE;
+  }
+
+  /**
+   * Copies the game into a search state after checking it is the player's turn.
+   *
+   * @param model  the game
+   * @param player the player to search for, matched by color
+   * @return the search state
+   * @throws IllegalArgumentException if the model or player is null
+   * @throws IllegalStateException    if it is not the player's turn
+   */
+  static SearchState stateFor(MainModelInterface model, Player player) {
+    if (model == null || player == null) {
+      throw new IllegalArgumentException("Model and player cannot be null");
+    }
+    SearchState state = new SearchState(model);
+    if (state.getPlayer(player.getColor()) != state.getCurrentPlayer()) {
+      throw new IllegalStateException("It is not the player's turn");
+    }
+    return state;
+  }
+
+  /**
+   * Checks if the player to move in a state has any move to search.
+   *
+   * @param state the state
+   * @return true if a card can be placed
+   */
+  static boolean hasMoves(SearchState state) {
+    return !state.isGameOver() && state.getHandSize(state.getCurrentPlayer()) > 0;
+  }
+
+  /**
+   * Checks if a card in a player's hand has the same values as an earlier card in the hand,
+   * in which case playing it leads to the same positions and searches can skip it.
+   *
+   * @param state the state
+   * @param mover the player whose hand to check
+   * @param slot  the hand slot of the card
+   * @return true if an earlier card has the same values
+   */
+  static boolean isDuplicate(SearchState state, Player mover, int slot) {
+    int stats = state.getHandCard(mover, slot).getPackedStats();
+    for (int earlier = 0; earlier < slot; earlier++) {
+      if (state.getHandCard(mover, earlier).getPackedStats() == stats) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Sets the time after which the search is abandoned.
+   *
+   * @param deadline the deadline in System.nanoTime units, or Long.MAX_VALUE for none
+   */
+  void setDeadline(long deadline) {
+    this.deadline = deadline;
+  }
+
+  /**
+   * Sets a flag that abandons the search once it is set, checked as often as the deadline.
+   *
+   * @param stop the flag, or null for none
+   */
+  void setStop(AtomicBoolean stop) {
+    this.stop = stop;
+  }
+
+  /**
+   * Sets a move to try at the root before any other, such as the best move of the last
+   * iteration.
+   *
+   * @param move the encoded move, or NO_MOVE
+   */
+  void setFirstMove(int move) {
+    this.firstMove = move;
+  }
+
+  /**
+   * Shares the alpha of the node above this search's root with other workers. While the root's
+   * moves are searched, its beta is kept at or below the negation of that alpha.
+   *
+   * @param parentAlpha the shared alpha of the parent node, or null
+   */
+  void setParentAlpha(AtomicInteger parentAlpha) {
+    this.parentAlpha = parentAlpha;
+  }
+
+  /**
+   * Generates the moves of the root in the order they would be searched.
+   *
+   * @return the encoded moves, best first
+   */
+  int[] orderedRootMoves() {
+    int count = generateMoves(0, firstMove, true);
+    int[] ordered = new int[count];
+    for (int i = 0; i < count; i++) {
+      ordered[i] = nextMove(0, i, count);
+    }
+    return ordered;
+  }
+
+  /**
+   * Searches the state to the given depth with the given window.
+   *
+   * @param depth the number of moves to look ahead
+   * @param alpha the lower bound of the window
+   * @param beta  the upper bound of the window
+   * @return the value of the state for the player to move, meaningless if aborted
+   */
+  int search(int depth, int alpha, int beta) {
+    aborted = false;
+    return negamax(0, depth, alpha, beta);
+  }
+
+  /**
+   * Checks if the last search passed its deadline before finishing.
+   *
+   * @return true if the last search was abandoned
+   */
+  boolean isAborted() {
+    return aborted;
+  }
+
+  /**
+   * Gets the best root move of the last completed search.
+   *
+   * @return the encoded move, or NO_MOVE
+   */
+  int getBestMove() {
+    return rootMove;
+  }
+
+  /**
+   * Gets the number of positions visited by every search so far.
+   *
+   * @return the node count
+   */
+  long getNodeCount() {
+    return nodes;
+  }
+
+  /**
+   * Builds the AIMove for an encoded root move and its value. Values are shifted so that they
+   * are never negative, keeping the order of moves.
+   *
+   * @param move  the encoded move
+   * @param value the value of the move for the player to move
+   * @return the move to play
+   */
+  AIMove toAIMove(int move, int value) {
+    int cell = move % cellCount;
+    Card card = state.getHandCard(state.getCurrentPlayer(), move / cellCount);
+    return new AIMove(card, new Position(cells.rowOf(cell), cells.colOf(cell)),
+            Math.max(0, value + SCORE_OFFSET));
+  }
+
+  /**
+   * Plays an encoded move on the state.
+   *
+   * @param move the encoded move
+   * @return the number of cards it flipped
+   */
+  int play(int move) {
+    int cell = move % cellCount;
+    return state.makeMove(move / cellCount, cells.rowOf(cell), cells.colOf(cell));
+  }
+
+  /**
+   * Scores a finished game for the player to move in it.
+   */
+  static int terminalValue(SearchState state) {
+    Player mover = state.getCurrentPlayer();
+    int margin = state.getScore(mover) - state.getScore(state.getOpponent(mover));
+    if (margin > 0) {
+      return MinimaxStrat.WIN_VALUE + margin;
+    }
+    if (margin < 0) {
+      return -MinimaxStrat.WIN_VALUE + margin;
+    }
+    return 0;
+  }
+
+  /**
+   * Searches the current position, returning its value for the player to move. Values at
+   * or below alpha are only upper bounds and values at or above beta only lower bounds.
+   */
+  private int negamax(int ply, int remaining, int alpha, int beta) {
+    if ((++nodes & CLOCK_INTERVAL) == 0
+            && (System.nanoTime() > deadline || (stop != null && stop.get())
+            || Thread.currentThread().isInterrupted())) {
+      aborted = true;
+    }
+    if (aborted) {
+      return 0;
+    }
+    if (state.isGameOver()) {
+      return terminalValue(state);
+    }
+    Player mover = state.getCurrentPlayer();
+    if (remaining == 0 || state.getHandSize(mover) == 0) {
+      return evaluator.evaluate(state, mover);
+    }
+
+    int alphaStart = alpha;
+    int hashMove = ply == 0 ? firstMove : NO_MOVE;
+    long hash = 0L;
+    if (table != null) {
+      hash = state.getHash();
+      long entry = table.probe(hash);
+      if (entry != TranspositionTable.NO_ENTRY) {
+        if (hashMove == NO_MOVE) {
+          hashMove = decodeHashMove(entry);
+        }
+        if (ply > 0 && TranspositionTable.depthOf(entry) >= remaining) {
+          int score = TranspositionTable.scoreOf(entry);
+          Bound bound = TranspositionTable.boundOf(entry);
+          if (bound == Bound.EXACT) {
+            return score;
+          } else if (bound == Bound.LOWER) {
+            alpha = Math.max(alpha, score);
+          } else {
+            beta = Math.min(beta, score);
+          }
+          if (alpha >= beta) {
+            return score;
+          }
+        }
+      }
+    }
+
+    int count = generateMoves(ply, hashMove, remaining > 1);
+    int best = -INFINITY;
+    int bestMove = NO_MOVE;
+    for (int i = 0; i < count; i++) {
+      if (ply == 0 && parentAlpha != null) {
+        beta = Math.min(beta, -parentAlpha.get());
+        if (alpha >= beta) {
+          break;
+        }
+      }
+      int move = nextMove(ply, i, count);
+      play(move);
+      int score = -negamax(ply + 1, remaining - 1, -beta, -alpha);
+      state.unmakeMove();
+      if (aborted) {
+        return 0;
+      }
+      if (score > best) {
+        best = score;
+        bestMove = move;
+      }
+      alpha = Math.max(alpha, best);
+      if (alpha >= beta) {
+        break;
+      }
+    }
+
+    if (bestMove == NO_MOVE) {
+      return beta;
+    }
+    if (ply == 0) {
+      rootMove = bestMove;
+    }
+    if (table != null) {
+      Bound bound = best <= alphaStart ? Bound.UPPER : best >= beta ? Bound.LOWER : Bound.EXACT;
+      int slot = bestMove / cellCount;
+      int cell = bestMove % cellCount;
+      if (!TranspositionTable.fitsMove(slot, cell)) {
+        slot = TranspositionTable.NO_MOVE;
+        cell = TranspositionTable.NO_MOVE;
+      }
+      table.store(hash, remaining, bound, best, slot, cell);
+    }
+    return best;
+  }
+
+  /**
+   * Fills the move list of a ply with every placement for the player to move, skipping cards
+   * whose values match an earlier card in the hand since they lead to the same positions.
+   * The hash move is keyed to be tried first, followed by the moves that flip the most cards
+   * when ordering is requested.
+   *
+   * @return the number of moves generated
+   */
+  private int generateMoves(int ply, int hashMove, boolean order) {
+    Player mover = state.getCurrentPlayer();
+    int handSize = state.getHandSize(mover);
+    int[] list = moves[ply];
+    int[] key = keys[ply];
+    int count = 0;
+    for (int slot = 0; slot < handSize; slot++) {
+      if (isDuplicate(state, mover, slot)) {
+        continue;
+      }
+      for (int cell = 0; cell < cellCount; cell++) {
+        int row = cells.rowOf(cell);
+        int col = cells.colOf(cell);
+        if (!state.isEmpty(row, col)) {
+          continue;
+        }
+        int move = slot * cellCount + cell;
+        list[count] = move;
+        if (move == hashMove) {
+          key[count] = Integer.MAX_VALUE;
+        } else if (order) {
+          key[count] = state.makeMove(slot, row, col);
+          state.unmakeMove();
+        } else {
+          key[count] = 0;
+        }
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Moves the best remaining move of a ply into position i and returns it, so that moves
+   * after a cutoff never need to be sorted.
+   */
+  private int nextMove(int ply, int i, int count) {
+    int[] list = moves[ply];
+    int[] key = keys[ply];
+    int best = i;
+    for (int j = i + 1; j < count; j++) {
+      if (key[j] > key[best]) {
+        best = j;
+      }
+    }
+    int move = list[best];
+    list[best] = list[i];
+    list[i] = move;
+    int bestKey = key[best];
+    key[best] = key[i];
+    key[i] = bestKey;
+    return move;
+  }
+
+  private int decodeHashMove(long entry) {
+    int slot = TranspositionTable.slotOf(entry);
+    int cell = TranspositionTable.cellOf(entry);
+    if (slot == TranspositionTable.NO_MOVE || cell == TranspositionTable.NO_MOVE
+            || cell >= cellCount) {
+      return NO_MOVE;
+    }
+    return slot * cellCount + cell;
+  }
+}
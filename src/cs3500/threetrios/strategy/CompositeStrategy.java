@@ -11,6 +11,8 @@ import cs3500.threetrios.model.Player;
  * A composite strategy that combines multiple strategies with weights.
  * This allows for creating complex strategies by combining simpler ones.
  * In combining multiple strategies this helps determine the best move in a game.
+ * Each strategy scores every move once, and the move with the highest weighted sum of scores
+ * is played, the earliest by row, column and hand slot on ties.
  */
 public class CompositeStrategy implements AIStrategy {
   private final List<WeightedStrategy> strategies;
@@ -47,31 +49,51 @@ public class CompositeStrategy implements AIStrategy {
 
   @Override
   public AIMove findBestMove(MainModelInterface model, Player player) {
-    List<AIMove> allMoves = new ArrayList<>();
-    for (int row = 0; row < model.getGridDimensions()[0]; row++) {
-      for (int col = 0; col < model.getGridDimensions()[1]; col++) {
-        for (Card card : model.getPlayerHand(player)) {
-          if (model.canPlaceCard(row, col, card)) {
-            int totalScore = 0;
-            for (WeightedStrategy ws : strategies) {
-              AIMove move = ws.strategy.findBestMove(model, player);
-              if (move.getPosition().row == row && move.getPosition().col == col
-                      && move.getCard().equals(card)) {
-                totalScore += move.getScore() * ws.weight;
-              }
-            }
-            allMoves.add(new AIMove(card, new Position(row, col), totalScore));
-          }
-        }
+    List<Card> hand = StrategyUtil.getHand(model, player);
+    int[] scores = scoreMoves(model, player);
+    int cols = model.getGridDimensions()[1];
+    int best = -1;
+    for (int i = 0; i < scores.length; i++) {
+      if (scores[i] != ILLEGAL_MOVE && (best < 0 || scores[i] > scores[best])) {
+        best = i;
       }
     }
 
-    if (allMoves.isEmpty()) {
+    if (best < 0) {
       return StrategyUtil.getDefaultMove(model, player);
     }
 
-    allMoves.sort(new MoveComparator());
-    return allMoves.get(0);
+    int cell = best / hand.size();
+    return new AIMove(hand.get(best % hand.size()), new Position(cell / cols, cell % cols),
+            scores[best]);
+  }
+
+  /**
+   * Scores every move as the weighted sum of the scores the strategies give it, asking each
+   * strategy with a nonzero weight to score all moves once.
+   */
+  @Override
+  public int[] scoreMoves(MainModelInterface model, Player player) {
+    List<Card> hand = StrategyUtil.getHand(model, player);
+    int[] scores = StrategyUtil.legalMoveScores(model, hand);
+    long[] totals = new long[scores.length];
+    for (WeightedStrategy ws : strategies) {
+      if (ws.weight == 0) {
+        continue;
+      }
+      int[] strategyScores = ws.strategy.scoreMoves(model, player);
+      for (int i = 0; i < totals.length; i++) {
+        if (strategyScores[i] > 0) {
+          totals[i] += (long) strategyScores[i] * ws.weight;
+        }
+      }
+    }
+    for (int i = 0; i < scores.length; i++) {
+      if (scores[i] != ILLEGAL_MOVE) {
+        scores[i] = (int) Math.min(totals[i], Integer.MAX_VALUE);
+      }
+    }
+    return scores;
   }
 
   /**
@@ -4,7 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import cs3500.threetrios.model.Card;
-import cs3500.threetrios.model.Direction;
+import cs3500.threetrios.model.CardStats;
 import cs3500.threetrios.model.MainModelInterface;
 import cs3500.threetrios.model.Player;
 
@@ -33,6 +33,28 @@ public class CornerStrat implements AIStrategy {
     return StrategyUtil.getDefaultMove(model, player);
   }
 
+  /**
+   * Scores every move by the strength of its card, with a bonus for corners, the same way
+   * findBestMove ranks them.
+   */
+  @Override
+  public int[] scoreMoves(MainModelInterface model, Player player) {
+    List<Card> hand = StrategyUtil.getHand(model, player);
+    int[] scores = StrategyUtil.legalMoveScores(model, hand);
+    int[] dimensions = model.getGridDimensions();
+    for (int i = 0; i < scores.length; i++) {
+      if (scores[i] != ILLEGAL_MOVE) {
+        int cell = i / hand.size();
+        int row = cell / dimensions[1];
+        int col = cell % dimensions[1];
+        boolean corner = (row == 0 || row == dimensions[0] - 1)
+                && (col == 0 || col == dimensions[1] - 1);
+        scores[i] = calculateCardStrengthScore(hand.get(i % hand.size())) + (corner ? 1000 : 0);
+      }
+    }
+    return scores;
+  }
+
   private List<Card> getPlayerHandFromModel(MainModelInterface model, Player player) {
     List<Card> hand = null;
     for (Player p : model.getPlayers()) {
@@ -89,7 +111,7 @@ public class CornerStrat implements AIStrategy {
     AIMove bestMove = null;
 
     for (Card card : hand) {
-      if (model.canPlaceCard(pos.row, pos.col, card)) {
+      if (StrategyUtil.memoOf(model).canPlaceCard(pos.row, pos.col, card)) {
         int score = calculateCardStrengthScore(card) + bonus;
         if (score > bestScore) {
           bestScore = score;
@@ -124,15 +146,7 @@ public class CornerStrat implements AIStrategy {
    * @return the card strength-based score component
    */
   private int calculateCardStrengthScore(Card card) {
-    int maxAttack = Math.max(
-            Math.max(card.getAttackPower(Direction.NORTH), card.getAttackPower(Direction.SOUTH)),
-            Math.max(card.getAttackPower(Direction.EAST), card.getAttackPower(Direction.WEST))
-    );
-
-    return (maxAttack * 2) +
-            card.getAttackPower(Direction.NORTH) +
-            card.getAttackPower(Direction.SOUTH) +
-            card.getAttackPower(Direction.EAST) +
-            card.getAttackPower(Direction.WEST);
+    int stats = card.getPackedStats();
+    return (CardStats.max(stats) * 2) + CardStats.total(stats);
   }
 }
\ No newline at end of file
@@ -4,8 +4,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 import cs3500.threetrios.model.Card;
-import cs3500.threetrios.model.Direction;
+import cs3500.threetrios.model.CardStats;
 import cs3500.threetrios.model.MainModelInterface;
+import cs3500.threetrios.model.NeighborTable;
 import cs3500.threetrios.model.Player;
 
 /**
@@ -39,9 +40,9 @@ public class DefensiveStrat implements AIStrategy {
         }
 
         for (Card card : hand) {
-          if (model.canPlaceCard(row, col, card)) {
+          if (StrategyUtil.memoOf(model).canPlaceCard(row, col, card)) {
             int defensibility = calculateDefensibility(model, new Position(row, col), card, player);
-            int adjustedScore = defensibility + 1000;
+            int adjustedScore = Math.max(defensibility + 1000, 0);
             possibleMoves.add(new AIMove(card, new Position(row, col), adjustedScore));
           }
         }
@@ -56,6 +57,25 @@ public class DefensiveStrat implements AIStrategy {
     return possibleMoves.get(0);
   }
 
+  /**
+   * Scores every move by how defensible it is, the same way findBestMove ranks them.
+   */
+  @Override
+  public int[] scoreMoves(MainModelInterface model, Player player) {
+    List<Card> hand = StrategyUtil.getHand(model, player);
+    int[] scores = StrategyUtil.legalMoveScores(model, hand);
+    int cols = model.getGridDimensions()[1];
+    for (int i = 0; i < scores.length; i++) {
+      if (scores[i] != ILLEGAL_MOVE) {
+        int cell = i / hand.size();
+        Position pos = new Position(cell / cols, cell % cols);
+        int defensibility = calculateDefensibility(model, pos, hand.get(i % hand.size()), player);
+        scores[i] = Math.max(defensibility + 1000, 0);
+      }
+    }
+    return scores;
+  }
+
   /**
    * Calculates a defensibility score for a potential card placement. Higher scores indicates
    * more defensible positions.
@@ -86,27 +106,24 @@ public class DefensiveStrat implements AIStrategy {
     }
 
     List<Card> opponentHand = model.getPlayerHand(opponent);
-    Direction[] directions = {Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST};
-
-    score += (card.getAttackPower(Direction.NORTH) +
-            card.getAttackPower(Direction.SOUTH) +
-            card.getAttackPower(Direction.EAST) +
-            card.getAttackPower(Direction.WEST)) * 5;
-
-    for (Direction dir : directions) {
-      Position adjPos = getAdjacentPosition(pos, dir);
-      if (isValidPosition(adjPos, model)) {
-        int vulnerableToFlips = 0;
-        for (Card oppCard : opponentHand) {
-          if (canBeFlippedBy(card, oppCard, dir)) {
-            vulnerableToFlips++;
-          }
+    NeighborTable table = model.getNeighborTable();
+    int cell = table.indexOf(pos.row, pos.col);
+
+    int stats = card.getPackedStats();
+
+    score += CardStats.total(stats) * 5;
+
+    for (int k = table.neighborStart(cell); k < table.neighborEnd(cell); k++) {
+      int dir = table.neighborDirectionOrdinal(k);
+      int vulnerableToFlips = 0;
+      for (Card oppCard : opponentHand) {
+        if (canBeFlippedBy(stats, oppCard.getPackedStats(), dir)) {
+          vulnerableToFlips++;
         }
-        score -= vulnerableToFlips * 50;
-      } else {
-        score += 25;
       }
+      score -= vulnerableToFlips * 50;
     }
+    score += (4 - table.neighborCount(cell)) * 25;
 
     return score;
   }
@@ -114,69 +131,12 @@ public class DefensiveStrat implements AIStrategy {
   /**
    * Determines whether a placed card can be flipped by an opponents card.
    *
-   * @param placedCard   placed card
-   * @param opponentCard opponents card
-   * @param dir          direction
-   * @return
-   */
-  private boolean canBeFlippedBy(Card placedCard, Card opponentCard, Direction dir) {
-    Direction opposite = getOppositeDirection(dir);
-    return placedCard.getAttackPower(dir) < opponentCard.getAttackPower(opposite);
-  }
-
-  /**
-   * Returns the adjacent position to the given position.
-   *
-   * @param pos position
-   * @param dir direction
-   * @return the adjacent position of the give position
-   */
-  private Position getAdjacentPosition(Position pos, Direction dir) {
-    switch (dir) {
-      case NORTH:
-        return new Position(pos.row - 1, pos.col);
-      case SOUTH:
-        return new Position(pos.row + 1, pos.col);
-      case EAST:
-        return new Position(pos.row, pos.col + 1);
-      case WEST:
-        return new Position(pos.row, pos.col - 1);
-      default:
-        throw new IllegalArgumentException("Invalid direction");
-    }
-  }
-
-  /**
-   * Returns the opposite direction of the given direction.
-   *
-   * @param dir direction
-   * @return the opposite direction of the given direction
-   */
-  private Direction getOppositeDirection(Direction dir) {
-    switch (dir) {
-      case NORTH:
-        return Direction.SOUTH;
-      case SOUTH:
-        return Direction.NORTH;
-      case EAST:
-        return Direction.WEST;
-      case WEST:
-        return Direction.EAST;
-      default:
-        throw new IllegalArgumentException("Invalid direction");
-    }
-  }
-
-  /**
-   * Checks if a position is valid within the game's rules and grid bounds.
-   *
-   * @param pos   position
-   * @param model game model
-   * @return true if position is valid, false otherwise
+   * @param placedStats   packed values of the placed card
+   * @param opponentStats packed values of the opponents card
+   * @param dir           ordinal of the direction from the placed card to the opponent
+   * @return true if the opponents card would win the battle
    */
-  private boolean isValidPosition(Position pos, MainModelInterface model) {
-    return pos.row >= 0 && pos.row < model.getGridDimensions()[0]
-            && pos.col >= 0 && pos.col < model.getGridDimensions()[1]
-            && !model.isHole(pos.row, pos.col);
+  private boolean canBeFlippedBy(int placedStats, int opponentStats, int dir) {
+    return CardStats.side(placedStats, dir) < CardStats.side(opponentStats, dir ^ 1);
   }
 }
\ No newline at end of file
@@ -0,0 +1,175 @@
+package cs3500.threetrios.strategy;
+
+import cs3500.threetrios.model.MainModelInterface;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.SearchState;
+
+/**
+ * A strategy that plays perfectly once few empty cells remain. Below its threshold it searches
+ * every remaining line to the end of the game with alpha-beta pruning, trying each group of
+ * cards with identical values only once, and proves whether the player to move wins, draws or
+ * loses and by exactly how many cards. Positions it has solved are kept in its own memo table,
+ * so later moves of the same game are usually answered straight from the table. Above the
+ * threshold it plays whatever its fallback strategy chooses.
+ */
+public class EndgameSolver implements AIStrategy {
+  /**
+   * The number of entries in the memo table made when no size is given.
+   */
+  public static final int DEFAULT_TABLE_SIZE = 1 << 18;
+
+  /**
+   * The proven result of a game for the player to move.
+   */
+  public enum Outcome {
+    WIN, DRAW, LOSS
+  }
+
+  /**
+   * The result of solving a position: the outcome with best play by both sides, the final
+   * score margin it ends with, and a move that achieves it.
+   */
+  public static final class Solution {
+    private final Outcome outcome;
+    private final int margin;
+    private final AIMove move;
+
+    private Solution(Outcome outcome, int margin, AIMove move) {
+      this.outcome = outcome;
+      this.margin = margin;
+      this.move = move;
+    }
+
+    /**
+     * Gets the outcome of the game with best play.
+     *
+     * @return the outcome for the player to move
+     */
+    public Outcome getOutcome() {
+      return outcome;
+    }
+
+    /**
+     * Gets the final score of the player to move minus that of their opponent, with best play.
+     *
+     * @return the final score margin
+     */
+    public int getMargin() {
+      return margin;
+    }
+
+    /**
+     * Gets a move that achieves the outcome and margin.
+     *
+     * @return the best move
+     */
+    public AIMove getMove() {
+      return move;
+    }
+  }
+
+  private final AIStrategy fallback;
+  private final int maxEmptyCells;
+  private final TranspositionTable memo;
+  private final Evaluator evaluator;
+
+  /**
+   * Constructs an endgame solver with a memo table of the default size.
+   *
+   * @param fallback      the strategy used while more cells are empty than the threshold
+   * @param maxEmptyCells the largest number of empty cells at which the solver takes over
+   * @throws IllegalArgumentException if fallback is null or maxEmptyCells is negative
+   */
+  public EndgameSolver(AIStrategy fallback, int maxEmptyCells) {
+    this(fallback, maxEmptyCells, new TranspositionTable(DEFAULT_TABLE_SIZE));
+  }
+
+  /**
+   * Constructs an endgame solver that keeps solved positions in the given table. Solved values
+   * are exact, so the table can be shared by solvers playing games on the same board, but not
+   * with searches that store estimated values.
+   *
+   * @param fallback      the strategy used while more cells are empty than the threshold
+   * @param maxEmptyCells the largest number of empty cells at which the solver takes over
+   * @param memo          the table of solved positions
+   * @throws IllegalArgumentException if an argument is null or maxEmptyCells is negative
+   */
+  public EndgameSolver(AIStrategy fallback, int maxEmptyCells, TranspositionTable memo) {
+    if (fallback == null || memo == null) {
+      throw new IllegalArgumentException("Fallback strategy and memo table cannot be null");
+    }
+    if (maxEmptyCells < 0) {
+      throw new IllegalArgumentException("Empty cell threshold cannot be negative");
+    }
+    this.fallback = fallback;
+    this.maxEmptyCells = maxEmptyCells;
+    this.memo = memo;
+    this.evaluator = new ScoreEvaluator();
+  }
+
+  @Override
+  public AIMove findBestMove(MainModelInterface model, Player player) {
+    SearchState state = AlphaBetaSearch.stateFor(model, player);
+    if (state.getEmptyCellCount() > maxEmptyCells || !AlphaBetaSearch.hasMoves(state)) {
+      return fallback.findBestMove(model, player);
+    }
+    return solve(state).getMove();
+  }
+
+  /**
+   * Solves the game from the current position, however many cells are empty.
+   *
+   * @param model  the game
+   * @param player the player to move
+   * @return the proven outcome, margin and best move
+   * @throws IllegalArgumentException if the model or player is null
+   * @throws IllegalStateException    if it is not the player's turn or the game is over
+   */
+  public Solution solve(MainModelInterface model, Player player) {
+    SearchState state = AlphaBetaSearch.stateFor(model, player);
+    if (!AlphaBetaSearch.hasMoves(state)) {
+      throw new IllegalStateException("No moves to solve");
+    }
+    return solve(state);
+  }
+
+  /**
+   * Proves the outcome with a null-window search around a draw, then narrows down the exact
+   * margin with further null-window searches, which prune far more than one full-window search
+   * would, and finally searches a window around the proven value to find the move.
+   */
+  private Solution solve(SearchState state) {
+    int empty = state.getEmptyCellCount();
+    int maxMargin = state.getNeighborTable().getCellCount() + 1;
+    AlphaBetaSearch search = new AlphaBetaSearch(state, evaluator, memo, empty);
+    int value = search.search(empty, -1, 1);
+    if (value != 0) {
+      int low = value > 0 ? MinimaxStrat.WIN_VALUE + 1 : -MinimaxStrat.WIN_VALUE - maxMargin;
+      int high = value > 0 ? MinimaxStrat.WIN_VALUE + maxMargin : -MinimaxStrat.WIN_VALUE - 1;
+      while (low < high) {
+        int middle = low + (high - low + 1) / 2;
+        if (search.search(empty, middle - 1, middle) >= middle) {
+          low = middle;
+        } else {
+          high = middle - 1;
+        }
+      }
+      value = low;
+    }
+    search.search(empty, value - 1, value + 1);
+
+    int margin;
+    Outcome outcome;
+    if (value > 0) {
+      margin = value - MinimaxStrat.WIN_VALUE;
+      outcome = Outcome.WIN;
+    } else if (value < 0) {
+      margin = value + MinimaxStrat.WIN_VALUE;
+      outcome = Outcome.LOSS;
+    } else {
+      margin = 0;
+      outcome = Outcome.DRAW;
+    }
+    return new Solution(outcome, margin, search.toAIMove(search.getBestMove(), value));
+  }
+}
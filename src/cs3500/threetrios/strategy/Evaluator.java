@@ -0,0 +1,24 @@
+package cs3500.threetrios.strategy;
+
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.SearchState;
+
+/**
+ * Interface for the scoring of unfinished positions at the leaves of a search.
+ * Searching strategies call an evaluator when they stop looking ahead, so swapping the
+ * evaluator changes what the search aims for without changing how it searches.
+ */
+public interface Evaluator {
+
+  /**
+   * Scores a position from one player's point of view. Higher is better for that player, and
+   * scoring the same position for the other player should give the negated value. Scores must
+   * stay between -MinimaxStrat.WIN_VALUE and MinimaxStrat.WIN_VALUE so that finished games
+   * always outrank them.
+   *
+   * @param state  the position to score
+   * @param player the player to score it for
+   * @return the score of the position for the player
+   */
+  int evaluate(SearchState state, Player player);
+}
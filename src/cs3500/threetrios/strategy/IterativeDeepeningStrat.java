@@ -0,0 +1,138 @@
+package cs3500.threetrios.strategy;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import cs3500.threetrios.model.MainModelInterface;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.SearchState;
+
+/**
+ * A strategy that searches as deep as it can within a time budget. It runs the alpha-beta
+ * search of MinimaxStrat one move deeper at a time, and when the budget runs out it abandons
+ * the unfinished iteration and plays the best move of the deepest iteration that completed.
+ * Each iteration tries the previous iteration's best move first at the root, and the
+ * transposition table carries the rest of the previous principal variation into the move
+ * ordering of the next, so the shallow iterations cost little compared to the deepest one.
+ * The first iteration is never cut short by the budget, so a searched move is returned however
+ * small it is. Only an interrupt of the searching thread can stop the first iteration, and
+ * then the default move is played.
+ * During the opponent's turn it can ponder by searching the opponent's position the same way
+ * for as long as they take, which leaves results for the positions after each of their likely
+ * replies in the table for the next move's search to start from.
+ */
+public class IterativeDeepeningStrat implements PonderingStrategy {
+  /**
+   * The number of entries in the transposition table made when none is given.
+   */
+  public static final int DEFAULT_TABLE_SIZE = 1 << 16;
+
+  private final long budgetMillis;
+  private final Evaluator evaluator;
+  private final TranspositionTable table;
+  private volatile int lastDepth;
+
+  /**
+   * Constructs a time-bounded strategy that scores positions by the difference in the players'
+   * scores and keeps its own transposition table.
+   *
+   * @param budgetMillis the time to search for each move, in milliseconds
+   * @throws IllegalArgumentException if the budget is not positive
+   */
+  public IterativeDeepeningStrat(long budgetMillis) {
+    this(budgetMillis, new ScoreEvaluator(), new TranspositionTable(DEFAULT_TABLE_SIZE));
+  }
+
+  /**
+   * Constructs a time-bounded strategy with the given evaluator and transposition table.
+   *
+   * @param budgetMillis the time to search for each move, in milliseconds
+   * @param evaluator    the evaluator used to score positions where the search stops
+   * @param table        the table that carries results between iterations and moves
+   * @throws IllegalArgumentException if the budget is not positive or an argument is null
+   */
+  public IterativeDeepeningStrat(long budgetMillis, Evaluator evaluator,
+                                 TranspositionTable table) {
+    if (budgetMillis <= 0) {
+      throw new IllegalArgumentException("Time budget must be positive");
+    }
+    if (evaluator == null || table == null) {
+      throw new IllegalArgumentException("Evaluator and table cannot be null");
+    }
+    this.budgetMillis = budgetMillis;
+    this.evaluator = evaluator;
+    this.table = table;
+  }
+
+  @Override
+  public AIMove findBestMove(MainModelInterface model, Player player) {
+    long start = System.nanoTime();
+    long deadline = budgetMillis >= Long.MAX_VALUE / 2_000_000L
+            ? Long.MAX_VALUE : start + budgetMillis * 1_000_000L;
+    SearchState state = AlphaBetaSearch.stateFor(model, player);
+    if (!AlphaBetaSearch.hasMoves(state)) {
+      return StrategyUtil.getDefaultMove(model, player);
+    }
+
+    int maxDepth = state.getEmptyCellCount();
+    AlphaBetaSearch search = new AlphaBetaSearch(state, evaluator, table, maxDepth);
+    int bestMove = AlphaBetaSearch.NO_MOVE;
+    int bestValue = 0;
+    int completed = 0;
+    for (int depth = 1; depth <= maxDepth; depth++) {
+      if (depth > 1 && System.nanoTime() >= deadline) {
+        break;
+      }
+      search.setFirstMove(bestMove);
+      search.setDeadline(depth == 1 ? Long.MAX_VALUE : deadline);
+      int value = search.search(depth, -AlphaBetaSearch.INFINITY, AlphaBetaSearch.INFINITY);
+      if (search.isAborted()) {
+        break;
+      }
+      bestMove = search.getBestMove();
+      bestValue = value;
+      completed = depth;
+    }
+    lastDepth = completed;
+    if (bestMove == AlphaBetaSearch.NO_MOVE) {
+      return StrategyUtil.getDefaultMove(model, player);
+    }
+    return search.toAIMove(bestMove, bestValue);
+  }
+
+  @Override
+  public Runnable ponder(MainModelInterface model, Player player, AtomicBoolean stop) {
+    if (model == null || player == null || stop == null) {
+      throw new IllegalArgumentException("Model, player and stop flag cannot be null");
+    }
+    SearchState state = new SearchState(model);
+    if (state.getPlayer(player.getColor()) == state.getCurrentPlayer()) {
+      throw new IllegalStateException("It is the player's turn");
+    }
+    return () -> {
+      if (!AlphaBetaSearch.hasMoves(state)) {
+        return;
+      }
+      int maxDepth = state.getEmptyCellCount();
+      AlphaBetaSearch search = new AlphaBetaSearch(state, evaluator, table, maxDepth);
+      search.setStop(stop);
+      int bestMove = AlphaBetaSearch.NO_MOVE;
+      for (int depth = 1; depth <= maxDepth && !stop.get(); depth++) {
+        search.setFirstMove(bestMove);
+        search.search(depth, -AlphaBetaSearch.INFINITY, AlphaBetaSearch.INFINITY);
+        if (search.isAborted()) {
+          break;
+        }
+        bestMove = search.getBestMove();
+      }
+    };
+  }
+
+  /**
+   * Gets the depth of the deepest iteration completed by the most recent search.
+   *
+   * @return the depth reached, or 0 if nothing has been searched yet
+   */
+  public int getLastDepth() {
+    return lastDepth;
+  }
+}
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.CardStats;
 import cs3500.threetrios.model.Direction;
 import cs3500.threetrios.model.MainModelInterface;
 import cs3500.threetrios.model.Player;
@@ -32,6 +33,26 @@ public class MaxFlipsStrat implements AIStrategy {
     return bestMove;
   }
 
+  /**
+   * Scores every move by the cards it flips, the strength of its card and its position, the
+   * same way findBestMove ranks them.
+   */
+  @Override
+  public int[] scoreMoves(MainModelInterface model, Player player) {
+    validateInputs(model, player);
+    List<Card> hand = StrategyUtil.getHand(model, player);
+    int[] scores = StrategyUtil.legalMoveScores(model, hand);
+    int cols = model.getGridDimensions()[1];
+    for (int i = 0; i < scores.length; i++) {
+      if (scores[i] != ILLEGAL_MOVE) {
+        int cell = i / hand.size();
+        scores[i] = Math.max(calculateScore(model, hand.get(i % hand.size()),
+                cell / cols, cell % cols), 0);
+      }
+    }
+    return scores;
+  }
+
   /**
    * Validates the input parameters for the strategy.
    *
@@ -107,7 +128,7 @@ public class MaxFlipsStrat implements AIStrategy {
     AIMove bestMove = null;
 
     for (Card card : hand) {
-      if (model.canPlaceCard(row, col, card)) {
+      if (StrategyUtil.memoOf(model).canPlaceCard(row, col, card)) {
         int score = calculateScore(model, card, row, col);
         if (score > bestScore) {
           Card moveCard = new MockCard(card.getName(),
@@ -135,7 +156,7 @@ public class MaxFlipsStrat implements AIStrategy {
    * @return the calculated score for the move
    */
   private int calculateScore(MainModelInterface model, Card card, int row, int col) {
-    int flips = model.getFlippableCards(row, col, card);
+    int flips = StrategyUtil.memoOf(model).getFlippableCards(row, col, card);
     int cardStrength = calculateCardStrength(card);
     int score = flips * 1000;
     score += cardStrength * 10;
@@ -151,10 +172,7 @@ public class MaxFlipsStrat implements AIStrategy {
    * @return the sum of all attack values
    */
   private int calculateCardStrength(Card card) {
-    return card.getAttackPower(Direction.NORTH) +
-            card.getAttackPower(Direction.SOUTH) +
-            card.getAttackPower(Direction.EAST) +
-            card.getAttackPower(Direction.WEST);
+    return CardStats.total(card.getPackedStats());
   }
 
   /**
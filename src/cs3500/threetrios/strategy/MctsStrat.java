@@ -0,0 +1,329 @@
+package cs3500.threetrios.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.MainModelInterface;
+import cs3500.threetrios.model.NeighborTable;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.SearchState;
+
+/**
+ * A strategy that chooses moves with Monte Carlo tree search. Each iteration walks down a tree
+ * of explored moves using the UCT rule, adds one new move to the tree, plays the game out to
+ * the end with quick playout moves, and credits the result to every move on the path. The
+ * move explored most often at the root is played. Games are played on a SearchState, so every
+ * rule variant battles exactly as it does in the model, and no evaluation function is needed.
+ * Searching can use several independent trees at once (root parallelism), each grown on its
+ * own thread from its own copy of the game, whose root statistics are added together at the
+ * end. The search stops after a number of playouts, a time limit, or whichever comes first.
+ */
+public class MctsStrat implements AIStrategy {
+  /**
+   * How moves are chosen during playouts.
+   */
+  public enum Playout {
+    /**
+     * Play a uniformly random card at a uniformly random empty cell.
+     */
+    RANDOM,
+    /**
+     * Play whichever of a few random moves flips the most cards.
+     */
+    GREEDY
+  }
+
+  private static final double EXPLORATION = Math.sqrt(2);
+  private static final int GREEDY_SAMPLES = 4;
+
+  private final int playouts;
+  private final long timeLimitMillis;
+  private final Playout playout;
+  private final int trees;
+  private final SplittableRandom random;
+
+  /**
+   * Constructs a single-threaded MCTS strategy with random playouts.
+   *
+   * @param playouts the number of playouts per move
+   * @param seed     the seed of the strategy's random numbers
+   * @throws IllegalArgumentException if playouts is not positive
+   */
+  public MctsStrat(int playouts, long seed) {
+    this(playouts, 0, Playout.RANDOM, 1, seed);
+  }
+
+  /**
+   * Constructs an MCTS strategy. Either limit may be 0 for none, but not both.
+   *
+   * @param playouts        the number of playouts per move, shared between the trees
+   * @param timeLimitMillis the time to search for each move, in milliseconds
+   * @param playout         how moves are chosen during playouts
+   * @param trees           the number of trees grown in parallel
+   * @param seed            the seed of the strategy's random numbers
+   * @throws IllegalArgumentException if a limit is negative, both limits are 0, the playout is
+   *                                  null, or trees is not positive
+   */
+  public MctsStrat(int playouts, long timeLimitMillis, Playout playout, int trees, long seed) {
+    if (playouts < 0 || timeLimitMillis < 0 || (playouts == 0 && timeLimitMillis == 0)) {
+      throw new IllegalArgumentException("Must give a positive playout count or time limit");
+    }
+    if (playout == null) {
+      throw new IllegalArgumentException("Playout cannot be null");
+    }
+    if (trees <= 0) {
+      throw new IllegalArgumentException("Must use at least one tree");
+    }
+    this.playouts = playouts;
+    this.timeLimitMillis = timeLimitMillis;
+    this.playout = playout;
+    this.trees = trees;
+    this.random = new SplittableRandom(seed);
+  }
+
+  @Override
+  public AIMove findBestMove(MainModelInterface model, Player player) {
+    long deadline = timeLimitMillis == 0 ? Long.MAX_VALUE
+            : System.nanoTime() + timeLimitMillis * 1_000_000L;
+    SearchState state = AlphaBetaSearch.stateFor(model, player);
+    if (!AlphaBetaSearch.hasMoves(state)) {
+      return StrategyUtil.getDefaultMove(model, player);
+    }
+
+    int perTree = playouts == 0 ? Integer.MAX_VALUE : Math.max(1, playouts / trees);
+    List<Tree> grown = new ArrayList<>();
+    synchronized (random) {
+      for (int t = 0; t < trees; t++) {
+        grown.add(new Tree(t == 0 ? state : state.copy(), random.split(), perTree, deadline));
+      }
+    }
+    if (trees == 1) {
+      grown.get(0).grow();
+    } else {
+      List<ForkJoinTask<?>> tasks = new ArrayList<>();
+      for (Tree tree : grown) {
+        tasks.add(ForkJoinTask.adapt(tree::grow));
+      }
+      ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+    }
+
+    NeighborTable cells = state.getNeighborTable();
+    int cellCount = cells.getCellCount();
+    int moveCount = state.getHandSize(state.getCurrentPlayer()) * cellCount;
+    int[] visits = new int[moveCount];
+    double[] wins = new double[moveCount];
+    for (Tree tree : grown) {
+      for (int i = 0; i < tree.root.childCount; i++) {
+        Node child = tree.root.children[i];
+        visits[child.move] += child.visits;
+        wins[child.move] += child.wins;
+      }
+    }
+    int best = 0;
+    for (int move = 1; move < moveCount; move++) {
+      if (visits[move] > visits[best]) {
+        best = move;
+      }
+    }
+    Card card = state.getHandCard(state.getCurrentPlayer(), best / cellCount);
+    int cell = best % cellCount;
+    int score = visits[best] == 0 ? 0 : (int) (1000 * wins[best] / visits[best]);
+    return new AIMove(card, new Position(cells.rowOf(cell), cells.colOf(cell)), score);
+  }
+
+  /**
+   * A move in the search tree, with the results of the playouts that went through it, counted
+   * for the player who made the move.
+   */
+  private static final class Node {
+    private final int move;
+    private final Player mover;
+    private Node[] children;
+    private int childCount;
+    private int[] untried;
+    private int untriedCount;
+    private int visits;
+    private double wins;
+
+    Node(int move, Player mover) {
+      this.move = move;
+      this.mover = mover;
+    }
+  }
+
+  /**
+   * One search tree and the copy of the game it is grown on. Moves are encoded as
+   * handSlot * cellCount + cell, as in AlphaBetaSearch.
+   */
+  private final class Tree {
+    private final SearchState state;
+    private final SplittableRandom random;
+    private final int budget;
+    private final long deadline;
+    private final NeighborTable cells;
+    private final int cellCount;
+    private final Node root;
+    private final Node[] path;
+
+    Tree(SearchState state, SplittableRandom random, int budget, long deadline) {
+      this.state = state;
+      this.random = random;
+      this.budget = budget;
+      this.deadline = deadline;
+      this.cells = state.getNeighborTable();
+      this.cellCount = cells.getCellCount();
+      this.root = new Node(AlphaBetaSearch.NO_MOVE, null);
+      this.path = new Node[state.getEmptyCellCount() + 1];
+    }
+
+    void grow() {
+      for (int i = 0; i < budget && (i == 0 || System.nanoTime() < deadline); i++) {
+        iterate();
+      }
+    }
+
+    private void iterate() {
+      Node node = root;
+      int depth = 0;
+      path[0] = root;
+      while (true) {
+        if (node.untried == null) {
+          expand(node);
+        }
+        if (node.untriedCount > 0 || node.childCount == 0) {
+          break;
+        }
+        node = select(node);
+        play(node.move);
+        path[++depth] = node;
+      }
+
+      if (node.untriedCount > 0) {
+        int pick = random.nextInt(node.untriedCount);
+        int move = node.untried[pick];
+        node.untried[pick] = node.untried[--node.untriedCount];
+        Node child = new Node(move, state.getCurrentPlayer());
+        node.children[node.childCount++] = child;
+        play(move);
+        path[++depth] = child;
+      }
+
+      int played = 0;
+      while (AlphaBetaSearch.hasMoves(state)) {
+        playoutMove();
+        played++;
+      }
+      Player winner = winner();
+      for (int i = 0; i < played + depth; i++) {
+        state.unmakeMove();
+      }
+
+      for (int i = 0; i <= depth; i++) {
+        Node visited = path[i];
+        visited.visits++;
+        if (winner == null) {
+          visited.wins += 0.5;
+        } else if (winner == visited.mover) {
+          visited.wins += 1;
+        }
+      }
+    }
+
+    /**
+     * Lists the untried moves of a node the first time it is reached, skipping cards whose
+     * values match an earlier card in the hand.
+     */
+    private void expand(Node node) {
+      Player mover = state.getCurrentPlayer();
+      int handSize = AlphaBetaSearch.hasMoves(state) ? state.getHandSize(mover) : 0;
+      int[] moves = new int[handSize * state.getEmptyCellCount()];
+      int count = 0;
+      for (int slot = 0; slot < handSize; slot++) {
+        if (AlphaBetaSearch.isDuplicate(state, mover, slot)) {
+          continue;
+        }
+        for (int cell = 0; cell < cellCount; cell++) {
+          if (state.isEmpty(cells.rowOf(cell), cells.colOf(cell))) {
+            moves[count++] = slot * cellCount + cell;
+          }
+        }
+      }
+      node.untried = moves;
+      node.untriedCount = count;
+      node.children = new Node[count];
+    }
+
+    private Node select(Node node) {
+      double logVisits = Math.log(node.visits);
+      Node best = null;
+      double bestValue = Double.NEGATIVE_INFINITY;
+      for (int i = 0; i < node.childCount; i++) {
+        Node child = node.children[i];
+        double value = child.wins / child.visits
+                + EXPLORATION * Math.sqrt(logVisits / child.visits);
+        if (value > bestValue) {
+          bestValue = value;
+          best = child;
+        }
+      }
+      return best;
+    }
+
+    private void playoutMove() {
+      if (playout == Playout.RANDOM) {
+        play(randomMove());
+        return;
+      }
+      int best = randomMove();
+      int bestFlips = flipsOf(best);
+      for (int i = 1; i < GREEDY_SAMPLES; i++) {
+        int move = randomMove();
+        int flips = flipsOf(move);
+        if (flips > bestFlips) {
+          best = move;
+          bestFlips = flips;
+        }
+      }
+      play(best);
+    }
+
+    private int randomMove() {
+      int slot = random.nextInt(state.getHandSize(state.getCurrentPlayer()));
+      int skip = random.nextInt(state.getEmptyCellCount());
+      for (int cell = 0; cell < cellCount; cell++) {
+        if (state.isEmpty(cells.rowOf(cell), cells.colOf(cell)) && skip-- == 0) {
+          return slot * cellCount + cell;
+        }
+      }
+      throw new IllegalStateException("No empty cell found");
+    }
+
+    private int flipsOf(int move) {
+      int flips = play(move);
+      state.unmakeMove();
+      return flips;
+    }
+
+    private int play(int move) {
+      int cell = move % cellCount;
+      return state.makeMove(move / cellCount, cells.rowOf(cell), cells.colOf(cell));
+    }
+
+    /**
+     * Gets the winner at the end of a playout, judging by score if a hand ran out early.
+     */
+    private Player winner() {
+      Player first = state.getCurrentPlayer();
+      Player second = state.getOpponent(first);
+      int margin = state.getScore(first) - state.getScore(second);
+      if (margin == 0) {
+        return null;
+      }
+      return margin > 0 ? first : second;
+    }
+  }
+}
@@ -1,191 +1,96 @@
 package cs3500.threetrios.strategy;
 
-import cs3500.threetrios.model.Card;
-import cs3500.threetrios.model.Direction;
 import cs3500.threetrios.model.MainModelInterface;
 import cs3500.threetrios.model.Player;
-
-import java.util.List;
+import cs3500.threetrios.model.SearchState;
 
 /**
- * A strategy that looks ahead to minimize the opponent's best possible moves.
- * Uses another strategy to evaluate the opponent's potential moves.
+ * A strategy that looks ahead a fixed number of moves using negamax search with alpha-beta
+ * pruning. Every line is played out on a SearchState, so placements and battles resolve
+ * exactly as they would under the game's rules. Positions where the search stops are scored by
+ * an Evaluator, and the moves that flip the most cards are tried first so that more of the
+ * tree can be pruned. A transposition table can be supplied to reuse the results of positions
+ * reached by different move orders. If the searching thread is interrupted the search stops
+ * and the default move is played.
  */
 public class MinimaxStrat implements AIStrategy {
-  private final AIStrategy opponentStrategy;
-  private static final int MAX_DEPTH = 2;
-
   /**
-   * Constructs a minimax strategy with a given opponent strategy.
-   *
-   * @param opponentStrategy the strategy used to evaluate opponent moves
-   * @throws IllegalArgumentException if opponentStrategy is null
+   * The value of a won game, which outranks the score of any unfinished position.
    */
-  public MinimaxStrat(AIStrategy opponentStrategy) {
-    if (opponentStrategy == null) {
-      throw new IllegalArgumentException("Opponent strategy cannot be null");
-    }
-    this.opponentStrategy = opponentStrategy;
-  }
-
-  @Override
-  public AIMove findBestMove(MainModelInterface model, Player player) {
-    validateInputs(model, player);
-    List<Card> hand = getPlayerHand(model, player);
-    return findBestPossibleMove(model, hand, player);
-  }
+  public static final int WIN_VALUE = 1 << 20;
 
   /**
-   * Validates the model and player inputs.
-   *
-   * @param model the game model
-   * @param player the current player
-   * @throws IllegalArgumentException if either input is null
+   * The number of moves looked ahead when no depth is given.
    */
-  private void validateInputs(MainModelInterface model, Player player) {
-    if (model == null || player == null) {
-      throw new IllegalArgumentException("Model and player cannot be null");
-    }
-  }
+  public static final int DEFAULT_DEPTH = 3;
+
+  private final int depth;
+  private final Evaluator evaluator;
+  private final TranspositionTable table;
 
   /**
-   * Retrieves the player's hand from the model.
-   *
-   * @param model the game model
-   * @param player the current player
-   * @return list of cards in player's hand
-   * @throws IllegalStateException if hand is empty or player not found
+   * Constructs a minimax strategy that looks DEFAULT_DEPTH moves ahead and scores positions
+   * by the difference in the players' scores.
    */
-  private List<Card> getPlayerHand(MainModelInterface model, Player player) {
-    for (Player p : model.getPlayers()) {
-      if (p.getColor().equals(player.getColor())) {
-        List<Card> hand = model.getPlayerHand(p);
-        if (hand == null || hand.isEmpty()) {
-          throw new IllegalStateException("No cards in player's hand");
-        }
-        return hand;
-      }
-    }
-    throw new IllegalStateException("Player not found in model");
+  public MinimaxStrat() {
+    this(DEFAULT_DEPTH);
   }
 
   /**
-   * Finds the best possible move by evaluating all valid positions.
+   * Constructs a minimax strategy that scores positions by the difference in the players'
+   * scores.
    *
-   * @param model the game model
-   * @param hand the player's hand
-   * @param player the current player
-   * @return the best move found or a default move if no valid moves exist
+   * @param depth the number of moves to look ahead
+   * @throws IllegalArgumentException if depth is less than 1
    */
-  private AIMove findBestPossibleMove(MainModelInterface model, List<Card> hand, Player player) {
-    int bestScore = Integer.MIN_VALUE;
-    AIMove bestMove = null;
-
-    for (int row = 0; row < model.getGridDimensions()[0]; row++) {
-      for (int col = 0; col < model.getGridDimensions()[1]; col++) {
-        if (model.isHole(row, col) || model.getCardAt(row, col) != null) {
-          continue;
-        }
-
-        for (Card card : hand) {
-          if (model.canPlaceCard(row, col, card)) {
-            int score = evaluateMove(model, new Position(row, col), card, player);
-            if (score > bestScore) {
-              Card moveCard = new MockCard(card.getName(),
-                      card.getAttackPower(Direction.NORTH),
-                      card.getAttackPower(Direction.SOUTH),
-                      card.getAttackPower(Direction.EAST),
-                      card.getAttackPower(Direction.WEST));
-              bestScore = score;
-              bestMove = new AIMove(moveCard, new Position(row, col), Math.max(score + 1000, 0));
-            }
-          }
-        }
-      }
-    }
-
-    return bestMove != null ? bestMove : StrategyUtil.getDefaultMove(model, player);
+  public MinimaxStrat(int depth) {
+    this(depth, new ScoreEvaluator());
   }
 
   /**
-   * Evaluates a move considering both immediate benefits and opponent's response.
+   * Constructs a minimax strategy with the given depth and evaluator.
    *
-   * @param model the game model
-   * @param pos the position to evaluate
-   * @param card the card to evaluate
-   * @param currentPlayer the current player
-   * @return the evaluated score for the move
-   * @throws IllegalArgumentException if card ownership is invalid
+   * @param depth     the number of moves to look ahead
+   * @param evaluator the evaluator used to score positions where the search stops
+   * @throws IllegalArgumentException if depth is less than 1 or evaluator is null
    */
-  private int evaluateMove(MainModelInterface model, Position pos,
-                           Card card, Player currentPlayer) {
-    Player cardOwner = model.getCardOwnerAt(pos.row, pos.col);
-    if (cardOwner != null && !cardOwner.getColor().equals(currentPlayer.getColor())) {
-      throw new IllegalArgumentException("Invalid card owner");
-    }
-
-    int immediateScore = calculateImmediateScore(model, pos, card, currentPlayer);
-    Player opponent = findOpponent(model, currentPlayer);
-
-    if (opponent == null) {
-      return immediateScore;
-    }
-    try {
-      AIMove opponentMove = opponentStrategy.findBestMove(model, opponent);
-      int opponentScore = opponentMove.getScore();
-      return immediateScore - (opponentScore / 2);
-    } catch (Exception e) {
-      return immediateScore;
-    }
+  public MinimaxStrat(int depth, Evaluator evaluator) {
+    this(depth, evaluator, null);
   }
 
   /**
-   * Finds the opponent player in the game.
+   * Constructs a minimax strategy that stores and reuses its results in a transposition table.
+   * Scores in the table depend on the evaluator, so a table should only be shared between
+   * strategies that use the same kind of evaluator.
    *
-   * @param model the game model
-   * @param currentPlayer the current player
-   * @return the opponent player or null if not found
+   * @param depth     the number of moves to look ahead
+   * @param evaluator the evaluator used to score positions where the search stops
+   * @param table     the table to store results in, or null to search without one
+   * @throws IllegalArgumentException if depth is less than 1 or evaluator is null
    */
-  private Player findOpponent(MainModelInterface model, Player currentPlayer) {
-    for (Player p : model.getPlayers()) {
-      if (!p.getColor().equals(currentPlayer.getColor())) {
-        return p;
-      }
+  public MinimaxStrat(int depth, Evaluator evaluator, TranspositionTable table) {
+    if (depth < 1) {
+      throw new IllegalArgumentException("Depth must be at least 1");
+    }
+    if (evaluator == null) {
+      throw new IllegalArgumentException("Evaluator cannot be null");
     }
-    return null;
+    this.depth = depth;
+    this.evaluator = evaluator;
+    this.table = table;
   }
 
-  /**
-   * Calculates the immediate value of a move.
-   *
-   * @param model the game model
-   * @param pos the position to evaluate
-   * @param card the card to evaluate
-   * @param player the current player
-   * @return the immediate score for the move
-   */
-  private int calculateImmediateScore(MainModelInterface model, Position pos, Card card,
-                                      Player player) {
-    int score = 0;
-
-    int flips = model.getFlippableCards(pos.row, pos.col, card);
-    if (flips < 0) {
-      throw new IllegalArgumentException("Invalid flip count");
+  @Override
+  public AIMove findBestMove(MainModelInterface model, Player player) {
+    SearchState state = AlphaBetaSearch.stateFor(model, player);
+    if (!AlphaBetaSearch.hasMoves(state)) {
+      return StrategyUtil.getDefaultMove(model, player);
     }
-
-    score += flips * 1000;
-    score += (card.getAttackPower(Direction.NORTH) +
-            card.getAttackPower(Direction.SOUTH) +
-            card.getAttackPower(Direction.EAST) +
-            card.getAttackPower(Direction.WEST)) * 10;
-
-    if ((pos.row == 0 || pos.row == model.getGridDimensions()[0] - 1) &&
-            (pos.col == 0 || pos.col == model.getGridDimensions()[1] - 1)) {
-      score += 500;
-    } else if (pos.row == 0 || pos.row == model.getGridDimensions()[0] - 1 ||
-            pos.col == 0 || pos.col == model.getGridDimensions()[1] - 1) {
-      score += 200;
+    AlphaBetaSearch search = new AlphaBetaSearch(state, evaluator, table, depth);
+    int value = search.search(depth, -AlphaBetaSearch.INFINITY, AlphaBetaSearch.INFINITY);
+    if (search.isAborted()) {
+      return StrategyUtil.getDefaultMove(model, player);
     }
-    return score;
+    return search.toAIMove(search.getBestMove(), value);
   }
-}
\ No newline at end of file
+}
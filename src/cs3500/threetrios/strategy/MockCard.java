@@ -1,8 +1,8 @@
 package cs3500.threetrios.strategy;
 
 import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.CardStats;
 import cs3500.threetrios.model.Direction;
-import cs3500.threetrios.model.Player;
 
 /**
  * A mock implementation of the Card interface used for testing strategies and game logic.
@@ -15,7 +15,6 @@ public class MockCard implements Card {
   private final int south;
   private final int east;
   private final int west;
-  private Player owner;
 
   /**
    * Constructs a new MockCard with a specified name and a power for each direction.
@@ -56,12 +55,7 @@ public class MockCard implements Card {
   }
 
   @Override
-  public Player getOwner() {
-    return owner;
-  }
-
-  @Override
-  public void setOwner(Player player) {
-    this.owner = player;
+  public int getPackedStats() {
+    return CardStats.pack(north, south, east, west);
   }
 }
\ No newline at end of file
@@ -5,12 +5,15 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.random.RandomGenerator;
 
 import cs3500.threetrios.features.ModelFeatures;
 import cs3500.threetrios.model.Card;
 import cs3500.threetrios.model.Grid;
 import cs3500.threetrios.model.MainModelInterface;
+import cs3500.threetrios.model.NeighborTable;
 import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.RuleSet;
 
 /**
  * A mock implementation of MainModelInterface used for testing game strategies and components.
@@ -24,6 +27,7 @@ public class MockThreeTriosModel implements MainModelInterface {
   private final boolean[][] holes;
   private final int rows;
   private final int cols;
+  private final NeighborTable neighborTable;
   private final List<Card> mockHand;
   private final List<Player> players;
   private Player currentPlayer;
@@ -31,6 +35,7 @@ public class MockThreeTriosModel implements MainModelInterface {
   private boolean isGameOver;
   private Grid mockGrid;
   private final List<ModelFeatures> featureListeners;
+  private long version;
 
   /**
    * Constructs a new MockThreeTriosModel with default settings and logging capability.
@@ -44,6 +49,7 @@ public class MockThreeTriosModel implements MainModelInterface {
     this.rows = 5;
     this.cols = 7;
     this.holes = new boolean[rows][cols];
+    this.neighborTable = new NeighborTable(rows, cols, holes);
     this.mockHand = new ArrayList<>();
     this.players = new ArrayList<>();
     this.players.add(new MockPlayer("RED"));
@@ -129,6 +135,33 @@ public class MockThreeTriosModel implements MainModelInterface {
     return holes[row][col];
   }
 
+  @Override
+  public NeighborTable getNeighborTable() {
+    return neighborTable;
+  }
+
+  @Override
+  public long getStateHash() {
+    return 0L;
+  }
+
+  /**
+   * Gets a new version on every call. The mock's hands belong to its players and its flip
+   * values can be set at any time, so it cannot tell when it changes, and every query it logs
+   * should reach it rather than be answered from a cache.
+   *
+   * @return a version never returned before
+   */
+  @Override
+  public long getVersion() {
+    return ++version;
+  }
+
+  @Override
+  public RuleSet getRuleSet() {
+    return RuleSet.NORMAL;
+  }
+
   @Override
   public List<Player> getPlayers() {
     return new ArrayList<>(players);
@@ -218,6 +251,11 @@ public class MockThreeTriosModel implements MainModelInterface {
     return topLeft && topRight && bottomLeft && bottomRight;
   }
 
+  @Override
+  public void startGame(Grid grid, List<Card> deck, RandomGenerator random) {
+    startGame(grid, deck);
+  }
+
   @Override
   public void startGame(Grid grid, List<Card> deck) {
     log.append("Starting game with grid and deck\n");
@@ -0,0 +1,144 @@
+package cs3500.threetrios.strategy;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import cs3500.threetrios.model.MainModelInterface;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.SearchState;
+
+/**
+ * A strategy that runs the alpha-beta search of MinimaxStrat on several threads by splitting
+ * the moves at the root between the workers of a ForkJoinPool. The most promising root move is
+ * searched first on the calling thread to set a good alpha, after which the remaining moves are
+ * searched in parallel, each on its own copy of the game. The root's alpha is shared between
+ * the workers: whenever one finds a better move it raises the alpha, and the others narrow
+ * their windows to it from their next move on. A shared transposition table lets workers reuse
+ * each other's results.
+ * Moves of equal value may be chosen in a different order than MinimaxStrat chooses them, but
+ * the value of the chosen move is always the same.
+ */
+public class ParallelMinimaxStrat implements AIStrategy {
+  private final int depth;
+  private final Evaluator evaluator;
+  private final TranspositionTable table;
+  private final ForkJoinPool pool;
+
+  /**
+   * Constructs a parallel minimax strategy that runs on the common pool and scores positions
+   * by the difference in the players' scores.
+   *
+   * @param depth the number of moves to look ahead
+   * @throws IllegalArgumentException if depth is less than 1
+   */
+  public ParallelMinimaxStrat(int depth) {
+    this(depth, new ScoreEvaluator(), null, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Constructs a parallel minimax strategy that runs on the given pool.
+   *
+   * @param depth     the number of moves to look ahead
+   * @param evaluator the evaluator used to score positions where the search stops
+   * @param table     the table shared by the workers, or null to search without one
+   * @param pool      the pool whose workers search the root moves
+   * @throws IllegalArgumentException if depth is less than 1 or evaluator or pool is null
+   */
+  public ParallelMinimaxStrat(int depth, Evaluator evaluator, TranspositionTable table,
+                              ForkJoinPool pool) {
+    if (depth < 1) {
+      throw new IllegalArgumentException("Depth must be at least 1");
+    }
+    if (evaluator == null || pool == null) {
+      throw new IllegalArgumentException("Evaluator and pool cannot be null");
+    }
+    this.depth = depth;
+    this.evaluator = evaluator;
+    this.table = table;
+    this.pool = pool;
+  }
+
+  @Override
+  public AIMove findBestMove(MainModelInterface model, Player player) {
+    SearchState state = AlphaBetaSearch.stateFor(model, player);
+    if (!AlphaBetaSearch.hasMoves(state)) {
+      return StrategyUtil.getDefaultMove(model, player);
+    }
+    AlphaBetaSearch search = new AlphaBetaSearch(state, evaluator, table, depth);
+    int[] moves = search.orderedRootMoves();
+
+    search.play(moves[0]);
+    int firstValue = -search.search(depth - 1,
+            -AlphaBetaSearch.INFINITY, AlphaBetaSearch.INFINITY);
+    state.unmakeMove();
+
+    RootResult result = new RootResult(moves[0], firstValue);
+    if (moves.length > 1) {
+      pool.invoke(new RootSplit(state, moves, 1, moves.length, result));
+    }
+    return search.toAIMove(result.bestMove, result.alpha.get());
+  }
+
+  /**
+   * The best root move found so far, shared by the workers. The alpha can be read without
+   * locking; it only changes together with the best move.
+   */
+  private static final class RootResult {
+    private final AtomicInteger alpha;
+    private int bestMove;
+
+    RootResult(int move, int value) {
+      this.alpha = new AtomicInteger(value);
+      this.bestMove = move;
+    }
+
+    /**
+     * Records a move if it beats the best so far. Values that do not beat the current alpha
+     * may only be bounds, since the window they were searched with may have narrowed.
+     */
+    synchronized void offer(int move, int value) {
+      if (value > alpha.get()) {
+        bestMove = move;
+        alpha.set(value);
+      }
+    }
+  }
+
+  /**
+   * Searches a range of root moves, splitting it in half until each task has one move. Tasks
+   * are never serialized, though RecursiveAction is Serializable.
+   */
+  @SuppressWarnings("serial")
+  private final class RootSplit extends RecursiveAction {
+    private final SearchState root;
+    private final int[] moves;
+    private final int from;
+    private final int to;
+    private final RootResult result;
+
+    RootSplit(SearchState root, int[] moves, int from, int to, RootResult result) {
+      this.root = root;
+      this.moves = moves;
+      this.from = from;
+      this.to = to;
+      this.result = result;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > 1) {
+        int mid = (from + to) >>> 1;
+        invokeAll(new RootSplit(root, moves, from, mid, result),
+                new RootSplit(root, moves, mid, to, result));
+        return;
+      }
+      AlphaBetaSearch search = new AlphaBetaSearch(root.copy(), evaluator, table, depth);
+      search.setParentAlpha(result.alpha);
+      search.play(moves[from]);
+      int alpha = result.alpha.get();
+      int value = -search.search(depth - 1, -AlphaBetaSearch.INFINITY, -alpha);
+      result.offer(moves[from], value);
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package cs3500.threetrios.strategy;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import cs3500.threetrios.model.MainModelInterface;
+import cs3500.threetrios.model.Player;
+
+/**
+ * A strategy that can think ahead while the opponent is deciding on their move, keeping what it
+ * learns so that its own next move is found faster once the opponent has played.
+ */
+public interface PonderingStrategy extends AIStrategy {
+  /**
+   * Prepares a search of the game during the opponent's turn. The game is copied before this
+   * method returns, so the task can run on another thread while the game goes on. The task
+   * runs until the stop flag is set or there is nothing more to search.
+   *
+   * @param model  the game, with the opponent to move
+   * @param player the player this strategy will next move for
+   * @param stop   the flag that ends the task once set
+   * @return the task that ponders
+   * @throws IllegalArgumentException if an argument is null
+   * @throws IllegalStateException    if it is the player's turn
+   */
+  Runnable ponder(MainModelInterface model, Player player, AtomicBoolean stop);
+}
@@ -0,0 +1,16 @@
+package cs3500.threetrios.strategy;
+
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.SearchState;
+
+/**
+ * An evaluator that scores a position by how far a player leads, counting cards owned on the
+ * grid and cards still in hand the same way the game does.
+ */
+public class ScoreEvaluator implements Evaluator {
+
+  @Override
+  public int evaluate(SearchState state, Player player) {
+    return state.getScore(player) - state.getScore(state.getOpponent(player));
+  }
+}
@@ -1,16 +1,51 @@
 package cs3500.threetrios.strategy;
 
+import java.util.Arrays;
 import java.util.List;
 
 import cs3500.threetrios.model.Card;
 import cs3500.threetrios.model.MainModelInterface;
+import cs3500.threetrios.model.ModelMemo;
 import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.ReadOnlyThreeTriosModel;
 
 /**
  * A utility class that provides helper methods for AI methods in the ThreeTrios game.
  * This provides default move scenarios for simpler functionality.
  */
 public class StrategyUtil {
+  private static final ThreadLocal<ModelMemo> MEMO = new ThreadLocal<>();
+
+  /**
+   * Gets the memo of a game's queries kept for the strategies running on this thread. The
+   * strategies of a CompositeStrategy, and findBestMove and scoreMoves of one strategy, ask the
+   * same game the same questions within a turn, so they share one memo until the thread moves
+   * on to another game or forgets it. Each thread keeps its own, as memos are not thread safe.
+   *
+   * @param model the game
+   * @return the memo of the game
+   * @throws IllegalArgumentException if the model is null
+   */
+  public static ModelMemo memoOf(ReadOnlyThreeTriosModel model) {
+    if (model == null) {
+      throw new IllegalArgumentException("Model cannot be null");
+    }
+    ModelMemo memo = MEMO.get();
+    if (memo == null || memo.getModel() != model) {
+      memo = new ModelMemo(model);
+      MEMO.set(memo);
+    }
+    return memo;
+  }
+
+  /**
+   * Forgets the memo kept for the strategies running on this thread, so that it no longer keeps
+   * its game alive. Threads that run strategies call this when their game is over, and the next
+   * strategy run on the thread starts a new memo.
+   */
+  public static void forgetMemo() {
+    MEMO.remove();
+  }
 
   /**
    * Generates a default move when a strategy cannot provide a move.
@@ -36,12 +71,13 @@ public class StrategyUtil {
     int cols = dims[1];
 
     // Find first valid move
+    ModelMemo memo = memoOf(model);
     for (int row = 0; row < rows; row++) {
       for (int col = 0; col < cols; col++) {
         if (!model.isHole(row, col) && model.getCardAt(row, col) == null) {
           // Try each card in hand
           for (Card card : hand) {
-            if (model.canPlaceCard(row, col, card)) {
+            if (memo.canPlaceCard(row, col, card)) {
               return new AIMove(card, new Position(row, col), 0);
             }
           }
@@ -50,4 +86,70 @@ public class StrategyUtil {
     }
     throw new IllegalStateException("No valid moves available");
   }
-}
\ No newline at end of file
+
+  /**
+   * Gets the hand of the game's player with the same color as the given player, or the hand of
+   * the given player itself if the game has no such player. Strategies are usually handed a
+   * wrapper around the player rather than the player the model keeps.
+   *
+   * @param model  the game model
+   * @param player the player
+   * @return the player's hand
+   * @throws IllegalArgumentException if the model or player is null
+   */
+  public static List<Card> getHand(MainModelInterface model, Player player) {
+    if (model == null || player == null) {
+      throw new IllegalArgumentException("Model and player cannot be null");
+    }
+    for (Player p : model.getPlayers()) {
+      if (p.getColor().equals(player.getColor())) {
+        return model.getPlayerHand(p);
+      }
+    }
+    return model.getPlayerHand(player);
+  }
+
+  /**
+   * Makes a move score array for AIStrategy.scoreMoves in which every legal move scores 0 and
+   * every other move scores AIStrategy.ILLEGAL_MOVE.
+   *
+   * @param model the game model
+   * @param hand  the hand of the player to move
+   * @return the scores of all moves, indexed by cell * handSize + slot
+   */
+  public static int[] legalMoveScores(MainModelInterface model, List<Card> hand) {
+    int[] dims = model.getGridDimensions();
+    int[] scores = new int[dims[0] * dims[1] * hand.size()];
+    Arrays.fill(scores, AIStrategy.ILLEGAL_MOVE);
+    for (int move : memoOf(model).getLegalMoves(hand)) {
+      scores[move] = 0;
+    }
+    return scores;
+  }
+
+  /**
+   * Finds which slot of a hand holds a card, matching a copy of the card by name and values if
+   * the card itself is not in the hand.
+   *
+   * @param hand the hand to search
+   * @param card the card to find
+   * @return the card's slot, or -1 if no card in the hand matches
+   */
+  public static int slotOf(List<Card> hand, Card card) {
+    if (card == null) {
+      return -1;
+    }
+    int slot = hand.indexOf(card);
+    if (slot >= 0) {
+      return slot;
+    }
+    for (int i = 0; i < hand.size(); i++) {
+      Card other = hand.get(i);
+      if (other.getPackedStats() == card.getPackedStats()
+              && other.getName().equals(card.getName())) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
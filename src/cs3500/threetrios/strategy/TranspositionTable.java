@@ -0,0 +1,243 @@
+package cs3500.threetrios.strategy;
+
+import cs3500.threetrios.model.SearchState;
+
+/**
+ * A fixed-size table of search results keyed by the 64-bit Zobrist hash of a game state,
+ * which any strategy can use to avoid searching the same position twice.
+ * Each entry packs its search depth, bound type, score and best move into one long, stored in
+ * a primitive array next to the position hash XORed with that long. The table takes no locks:
+ * threads may read and write entries concurrently, and an entry torn by a concurrent write
+ * fails the XOR check and is treated as a miss. Because state hashes do not depend on the
+ * game they came from, one table can be shared by every game played on the same board.
+ * Positions map to buckets of two entries; the first keeps whichever result was searched
+ * deepest and the second always takes the newest result.
+ */
+public final class TranspositionTable {
+  /**
+   * Whether a stored score is exact or only a bound on the true score.
+   */
+  public enum Bound {
+    EXACT, LOWER, UPPER
+  }
+
+  /**
+   * The value returned by probe when no entry is stored for a position.
+   */
+  public static final long NO_ENTRY = 0L;
+
+  /**
+   * The hand slot and cell of an entry stored without a best move.
+   */
+  public static final int NO_MOVE = -1;
+
+  private static final int DEPTH_SHIFT = 32;
+  private static final int BOUND_SHIFT = 39;
+  private static final int CELL_SHIFT = 41;
+  private static final int SLOT_SHIFT = 53;
+  private static final int MAX_DEPTH = 0x7F;
+  private static final int CELL_MASK = 0xFFF;
+  private static final int SLOT_MASK = 0x7FF;
+  private static final Bound[] BOUNDS = Bound.values();
+
+  private final long[] checks;
+  private final long[] entries;
+  private final int bucketMask;
+
+  /**
+   * Constructs a table that can hold at least the given number of entries,
+   * rounded up to a power of two.
+   *
+   * @param capacity the number of entries to hold
+   * @throws IllegalArgumentException if the capacity is not positive or is too large
+   */
+  public TranspositionTable(int capacity) {
+    if (capacity <= 0 || capacity > (1 << 30)) {
+      throw new IllegalArgumentException("Capacity must be between 1 and 2^30");
+    }
+    int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+    this.bucketMask = size / 2 - 1;
+    this.checks = new long[size];
+    this.entries = new long[size];
+  }
+
+  /**
+   * Gets the number of entries the table holds.
+   *
+   * @return the capacity of the table
+   */
+  public int getCapacity() {
+    return entries.length;
+  }
+
+  /**
+   * Looks up the stored result for a position.
+   *
+   * @param hash the position's hash
+   * @return the packed entry, to be read with depthOf, boundOf, scoreOf, slotOf and cellOf,
+   *         or NO_ENTRY if the position is not stored
+   */
+  public long probe(long hash) {
+    int index = bucketOf(hash);
+    for (int i = index; i < index + 2; i++) {
+      long entry = entries[i];
+      if (entry != NO_ENTRY && (checks[i] ^ entry) == hash) {
+        return entry;
+      }
+    }
+    return NO_ENTRY;
+  }
+
+  /**
+   * Looks up the stored result for the current position of a search state.
+   *
+   * @param state the state whose position to look up
+   * @return the packed entry, or NO_ENTRY if the position is not stored
+   */
+  public long probe(SearchState state) {
+    return probe(state.getHash());
+  }
+
+  /**
+   * Stores the result of searching a position. The result replaces the deep entry of its
+   * bucket if it was searched at least as deep or is for the same position, and otherwise
+   * replaces the bucket's newest entry.
+   *
+   * @param hash     the position's hash
+   * @param depth    the depth the position was searched to, capped at 127
+   * @param bound    whether the score is exact or a bound
+   * @param score    the score of the position
+   * @param handSlot the hand slot of the best move, or NO_MOVE
+   * @param cell     the cell index of the best move, or NO_MOVE
+   * @throws IllegalArgumentException if the depth is negative, the bound is null, or the move
+   *                                  does not fit in the table
+   */
+  public void store(long hash, int depth, Bound bound, int score, int handSlot, int cell) {
+    long entry = pack(depth, bound, score, handSlot, cell);
+    int index = bucketOf(hash);
+    long deep = entries[index];
+    if (deep == NO_ENTRY || (checks[index] ^ deep) == hash || depthOf(deep) <= depth) {
+      write(index, hash, entry);
+    } else {
+      write(index + 1, hash, entry);
+    }
+  }
+
+  /**
+   * Stores the result of searching the current position of a search state.
+   *
+   * @param state    the state whose position was searched
+   * @param depth    the depth the position was searched to
+   * @param bound    whether the score is exact or a bound
+   * @param score    the score of the position
+   * @param handSlot the hand slot of the best move, or NO_MOVE
+   * @param cell     the cell index of the best move, or NO_MOVE
+   */
+  public void store(SearchState state, int depth, Bound bound, int score,
+                    int handSlot, int cell) {
+    store(state.getHash(), depth, bound, score, handSlot, cell);
+  }
+
+  /**
+   * Checks if a move can be stored as an entry's best move. Cells past index 4094 and hand
+   * slots past 2046 do not fit in an entry, so searches on boards or hands that large have to
+   * store their results with NO_MOVE.
+   *
+   * @param handSlot the hand slot of the move
+   * @param cell     the cell index of the move
+   * @return true if the move fits in an entry
+   */
+  public static boolean fitsMove(int handSlot, int cell) {
+    return handSlot >= 0 && handSlot < SLOT_MASK && cell >= 0 && cell < CELL_MASK;
+  }
+
+  /**
+   * Removes every entry from the table.
+   */
+  public void clear() {
+    for (int i = 0; i < entries.length; i++) {
+      entries[i] = NO_ENTRY;
+      checks[i] = 0L;
+    }
+  }
+
+  /**
+   * Reads the search depth of an entry.
+   *
+   * @param entry an entry returned by probe
+   * @return the depth searched
+   */
+  public static int depthOf(long entry) {
+    return (int) (entry >>> DEPTH_SHIFT) & MAX_DEPTH;
+  }
+
+  /**
+   * Reads the bound type of an entry.
+   *
+   * @param entry an entry returned by probe
+   * @return the bound of the score
+   */
+  public static Bound boundOf(long entry) {
+    return BOUNDS[((int) (entry >>> BOUND_SHIFT) & 0x3) - 1];
+  }
+
+  /**
+   * Reads the score of an entry.
+   *
+   * @param entry an entry returned by probe
+   * @return the stored score
+   */
+  public static int scoreOf(long entry) {
+    return (int) entry;
+  }
+
+  /**
+   * Reads the hand slot of an entry's best move.
+   *
+   * @param entry an entry returned by probe
+   * @return the hand slot, or NO_MOVE
+   */
+  public static int slotOf(long entry) {
+    int slot = (int) (entry >>> SLOT_SHIFT) & SLOT_MASK;
+    return slot == SLOT_MASK ? NO_MOVE : slot;
+  }
+
+  /**
+   * Reads the cell index of an entry's best move.
+   *
+   * @param entry an entry returned by probe
+   * @return the cell index, or NO_MOVE
+   */
+  public static int cellOf(long entry) {
+    int cell = (int) (entry >>> CELL_SHIFT) & CELL_MASK;
+    return cell == CELL_MASK ? NO_MOVE : cell;
+  }
+
+  private static long pack(int depth, Bound bound, int score, int handSlot, int cell) {
+    if (depth < 0) {
+      throw new IllegalArgumentException("Depth cannot be negative");
+    }
+    if (bound == null) {
+      throw new IllegalArgumentException("Bound cannot be null");
+    }
+    if (handSlot < NO_MOVE || handSlot >= SLOT_MASK || cell < NO_MOVE || cell >= CELL_MASK) {
+      throw new IllegalArgumentException("Move does not fit in the table");
+    }
+    long slotBits = handSlot == NO_MOVE ? SLOT_MASK : handSlot;
+    long cellBits = cell == NO_MOVE ? CELL_MASK : cell;
+    return (score & 0xFFFFFFFFL)
+            | (long) Math.min(depth, MAX_DEPTH) << DEPTH_SHIFT
+            | (long) (bound.ordinal() + 1) << BOUND_SHIFT
+            | cellBits << CELL_SHIFT
+            | slotBits << SLOT_SHIFT;
+  }
+
+  private void write(int index, long hash, long entry) {
+    entries[index] = entry;
+    checks[index] = hash ^ entry;
+  }
+
+  private int bucketOf(long hash) {
+    return ((int) (hash ^ (hash >>> 32)) & bucketMask) << 1;
+  }
+}
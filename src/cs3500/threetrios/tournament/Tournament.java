@@ -0,0 +1,291 @@
+package cs3500.threetrios.tournament;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import cs3500.threetrios.model.BitboardGrid;
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.DeckGenerator;
+import cs3500.threetrios.model.MainModelInterface;
+import cs3500.threetrios.model.ModelFactory;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.strategy.AIMove;
+import cs3500.threetrios.strategy.AIStrategy;
+import cs3500.threetrios.strategy.CompositeStrategy;
+import cs3500.threetrios.strategy.CornerStrat;
+import cs3500.threetrios.strategy.DefensiveStrat;
+import cs3500.threetrios.strategy.MaxFlipsStrat;
+import cs3500.threetrios.strategy.MinimaxStrat;
+import cs3500.threetrios.strategy.StrategyUtil;
+
+/**
+ * Plays AI strategies against each other without any view. Every pair of strategies plays a
+ * number of games under every rule set, taking turns to move first, on a board with no holes.
+ * Each game has its own random number generator, seeded from the tournament's seed and the
+ * game's number, which generates its deck and shuffles it for dealing, so every game can be
+ * replayed exactly. Games are played in parallel on a fixed pool of threads. Every game gets
+ * new strategy objects from the strategies' suppliers, so strategies need not be thread-safe.
+ * A strategy that returns no move or a move that cannot be played fails the tournament, with an
+ * exception naming the strategy, rather than having a legal move played for it.
+ *
+ * <p>java cs3500.threetrios.tournament.Tournament [games per pairing] [seed] [threads]
+ */
+public class Tournament {
+  /**
+   * The rating every strategy starts with.
+   */
+  public static final double INITIAL_ELO = 1500;
+
+  private static final double ELO_K = 16;
+
+  private final Map<String, Supplier<AIStrategy>> strategies;
+  private final List<String[]> ruleSets;
+  private final int gamesPerPairing;
+  private final int rows;
+  private final int cols;
+  private final long seed;
+  private final int threads;
+
+  /**
+   * Constructs a tournament.
+   *
+   * @param strategies      the strategies by name, each supplying a new strategy object per game
+   * @param ruleSets        the rule variants to play, as arguments to ModelFactory.createModel
+   * @param gamesPerPairing the number of games each pair of strategies plays under each rule set
+   * @param rows            the number of rows of the board
+   * @param cols            the number of columns of the board
+   * @param seed            the seed the decks are generated from
+   * @param threads         the number of games played at once
+   * @throws IllegalArgumentException if an argument is null or contains null, fewer than two
+   *                                  strategies or no rule sets are given, a count is not
+   *                                  positive, or the board has an even number of cells
+   */
+  public Tournament(Map<String, Supplier<AIStrategy>> strategies, List<String[]> ruleSets,
+                    int gamesPerPairing, int rows, int cols, long seed, int threads) {
+    if (strategies == null || ruleSets == null) {
+      throw new IllegalArgumentException("Strategies and rule sets cannot be null");
+    }
+    if (strategies.size() < 2 || ruleSets.isEmpty()) {
+      throw new IllegalArgumentException("Need at least two strategies and one rule set");
+    }
+    if (strategies.containsKey(null) || strategies.containsValue(null)
+            || ruleSets.contains(null)) {
+      throw new IllegalArgumentException("Strategies and rule sets cannot contain null");
+    }
+    if (gamesPerPairing <= 0 || threads <= 0 || rows <= 0 || cols <= 0) {
+      throw new IllegalArgumentException("Game, thread and board counts must be positive");
+    }
+    if (rows * cols % 2 == 0) {
+      throw new IllegalArgumentException("Board must have an odd number of cells");
+    }
+    this.strategies = new LinkedHashMap<>(strategies);
+    this.ruleSets = new ArrayList<>(ruleSets);
+    this.gamesPerPairing = gamesPerPairing;
+    this.rows = rows;
+    this.cols = cols;
+    this.seed = seed;
+    this.threads = threads;
+  }
+
+  /**
+   * Lists every combination of rules that ModelFactory accepts: each of reverse and fallen ace
+   * on or off, together with no second rule, same or plus.
+   *
+   * @return the rule sets, starting with the plain game
+   */
+  public static List<String[]> ruleCombinations() {
+    List<String[]> combinations = new ArrayList<>();
+    for (String second : new String[]{null, "same", "plus"}) {
+      for (int first = 0; first < 4; first++) {
+        List<String> rules = new ArrayList<>();
+        if ((first & 1) != 0) {
+          rules.add("reverse");
+        }
+        if ((first & 2) != 0) {
+          rules.add("fallenace");
+        }
+        if (second != null) {
+          rules.add(second);
+        }
+        combinations.add(rules.toArray(new String[0]));
+      }
+    }
+    return combinations;
+  }
+
+  /**
+   * Gets the strategies the game ships with, by the names used on the command line.
+   *
+   * @return suppliers of the corner, defensive, max flips, minimax and composite strategies
+   */
+  public static Map<String, Supplier<AIStrategy>> defaultStrategies() {
+    Map<String, Supplier<AIStrategy>> defaults = new LinkedHashMap<>();
+    defaults.put("cornerstrat", CornerStrat::new);
+    defaults.put("defensivestrat", DefensiveStrat::new);
+    defaults.put("maxflipsstrat", MaxFlipsStrat::new);
+    defaults.put("minimaxstrat", () -> new MinimaxStrat(2));
+    defaults.put("compositestrat", () -> new CompositeStrategy(
+            Arrays.asList(new CornerStrat(), new DefensiveStrat(), new MaxFlipsStrat()),
+            Arrays.asList(1, 1, 1)));
+    return defaults;
+  }
+
+  /**
+   * Plays every game of the tournament and waits for them to finish.
+   *
+   * @return the standings
+   * @throws IllegalStateException if a game fails, including by a strategy making an illegal
+   *                               move, or the wait is interrupted
+   */
+  public TournamentResult run() {
+    List<String> names = new ArrayList<>(strategies.keySet());
+    List<GameRecord> pending = new ArrayList<>();
+    int number = 0;
+    for (String[] rules : ruleSets) {
+      for (int a = 0; a < names.size(); a++) {
+        for (int b = a + 1; b < names.size(); b++) {
+          for (int g = 0; g < gamesPerPairing; g++) {
+            boolean swap = g % 2 == 1;
+            pending.add(new GameRecord(number++, rules, swap ? b : a, swap ? a : b));
+          }
+        }
+      }
+    }
+
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    long start = System.nanoTime();
+    try {
+      List<Future<GameRecord>> futures = new ArrayList<>();
+      for (GameRecord game : pending) {
+        futures.add(pool.submit(() -> play(game, names)));
+      }
+      for (Future<GameRecord> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Tournament was interrupted");
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("A game failed: " + e.getCause(), e.getCause());
+    } finally {
+      pool.shutdownNow();
+    }
+    long elapsed = System.nanoTime() - start;
+
+    TournamentResult.Standing[] standings = new TournamentResult.Standing[names.size()];
+    for (int i = 0; i < standings.length; i++) {
+      standings[i] = new TournamentResult.Standing(names.get(i), INITIAL_ELO);
+    }
+    for (GameRecord game : pending) {
+      TournamentResult.Standing red = standings[game.red];
+      TournamentResult.Standing blue = standings[game.blue];
+      double redScore = game.winner == game.red ? 1 : game.winner == game.blue ? 0 : 0.5;
+      double expected = 1 / (1 + Math.pow(10, (blue.getElo() - red.getElo()) / 400));
+      double change = ELO_K * (redScore - expected);
+      red.record(redScore, change, game.moves[0], game.moveNanos[0]);
+      blue.record(1 - redScore, -change, game.moves[1], game.moveNanos[1]);
+    }
+    return new TournamentResult(Arrays.asList(standings), pending.size(), elapsed);
+  }
+
+  /**
+   * Plays one game to the end, filling in its record.
+   */
+  private GameRecord play(GameRecord game, List<String> names) {
+    SplittableRandom random = new SplittableRandom(seed + game.number * 0x9E3779B97F4A7C15L);
+    MainModelInterface model = ModelFactory.createModel(game.rules);
+    model.startGame(new BitboardGrid(rows, cols, new boolean[rows][cols]),
+            new DeckGenerator(random.split()).generate(rows * cols + 1), random);
+    AIStrategy[] players = {
+        strategies.get(names.get(game.red)).get(),
+        strategies.get(names.get(game.blue)).get()
+    };
+
+    while (!model.isGameOver()) {
+      Player current = model.getCurrentPlayer();
+      int side = current.getColor().equals("RED") ? 0 : 1;
+      long before = System.nanoTime();
+      AIMove move = players[side].findBestMove(model, current);
+      game.moveNanos[side] += System.nanoTime() - before;
+      game.moves[side]++;
+      playMove(model, current, move, names.get(side == 0 ? game.red : game.blue));
+    }
+    StrategyUtil.forgetMemo();
+
+    Player winner = model.getWinner();
+    game.winner = winner == null ? -1 : winner.getColor().equals("RED") ? game.red : game.blue;
+    return game;
+  }
+
+  /**
+   * Plays a strategy's move, matching its card to the hand by name and values since some
+   * strategies return copies.
+   *
+   * @throws IllegalStateException if the strategy gave no move or one that cannot be played
+   */
+  private static void playMove(MainModelInterface model, Player player, AIMove move,
+                               String strategy) {
+    if (move == null) {
+      throw new IllegalStateException("Strategy " + strategy + " returned no move for "
+              + player.getColor());
+    }
+    List<Card> hand = model.getPlayerHand(player);
+    int slot = StrategyUtil.slotOf(hand, move.getCard());
+    if (slot >= 0 && move.getRow() >= 0 && move.getRow() < model.getGridDimensions()[0]
+            && move.getCol() >= 0 && move.getCol() < model.getGridDimensions()[1]
+            && model.getCardAt(move.getRow(), move.getCol()) == null
+            && model.canPlaceCard(move.getRow(), move.getCol(), hand.get(slot))) {
+      model.placeCard(move.getRow(), move.getCol(), hand.get(slot));
+      return;
+    }
+    throw new IllegalStateException("Strategy " + strategy + " made an illegal move for "
+            + player.getColor() + ": " + move.getCard() + " at (" + move.getRow() + ", "
+            + move.getCol() + ")");
+  }
+
+  /**
+   * Runs a tournament of the default strategies under every rule set on a 3x5 board and prints
+   * the standings.
+   *
+   * @param args the number of games per pairing and rule set, the seed and the thread count,
+   *             each optional
+   */
+  public static void main(String[] args) {
+    int games = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+    long seed = args.length > 1 ? Long.parseLong(args[1]) : 0;
+    int threads = args.length > 2 ? Integer.parseInt(args[2])
+            : Runtime.getRuntime().availableProcessors();
+    Tournament tournament = new Tournament(defaultStrategies(), ruleCombinations(), games,
+            3, 5, seed, threads);
+    System.out.print(tournament.run());
+  }
+
+  /**
+   * One game of the tournament: who played which color, and how it went.
+   */
+  private static final class GameRecord {
+    private final int number;
+    private final String[] rules;
+    private final int red;
+    private final int blue;
+    private final int[] moves = new int[2];
+    private final long[] moveNanos = new long[2];
+    private int winner;
+
+    GameRecord(int number, String[] rules, int red, int blue) {
+      this.number = number;
+      this.rules = rules;
+      this.red = red;
+      this.blue = blue;
+    }
+  }
+}
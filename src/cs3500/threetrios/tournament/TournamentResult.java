@@ -0,0 +1,194 @@
+package cs3500.threetrios.tournament;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The standings at the end of a tournament: how each strategy did, and how fast the games
+ * were played. Printing it gives a table of the strategies from the highest rated down.
+ */
+public final class TournamentResult {
+  private final List<Standing> standings;
+  private final int games;
+  private final long elapsedNanos;
+
+  TournamentResult(List<Standing> standings, int games, long elapsedNanos) {
+    this.standings = new ArrayList<>(standings);
+    this.standings.sort(Comparator.comparingDouble(Standing::getElo).reversed());
+    this.games = games;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * Gets the standing of every strategy, highest rated first.
+   *
+   * @return the standings
+   */
+  public List<Standing> getStandings() {
+    return Collections.unmodifiableList(standings);
+  }
+
+  /**
+   * Gets the standing of a strategy by name.
+   *
+   * @param name the strategy's name
+   * @return its standing
+   * @throws IllegalArgumentException if no strategy has that name
+   */
+  public Standing getStanding(String name) {
+    for (Standing standing : standings) {
+      if (standing.getName().equals(name)) {
+        return standing;
+      }
+    }
+    throw new IllegalArgumentException("No strategy named " + name);
+  }
+
+  /**
+   * Gets the number of games played.
+   *
+   * @return the game count
+   */
+  public int getGames() {
+    return games;
+  }
+
+  /**
+   * Gets the number of games finished per second of wall-clock time.
+   *
+   * @return the games per second
+   */
+  public double getGamesPerSecond() {
+    return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder table = new StringBuilder();
+    table.append(String.format("%-16s %6s %6s %6s %6s %8s %8s %10s%n",
+            "strategy", "games", "wins", "draws", "losses", "win rate", "elo", "ms/move"));
+    for (Standing s : standings) {
+      table.append(String.format("%-16s %6d %6d %6d %6d %7.1f%% %8.1f %10.3f%n",
+              s.getName(), s.getGames(), s.getWins(), s.getDraws(), s.getLosses(),
+              100 * s.getWinRate(), s.getElo(), s.getAverageMoveMillis()));
+    }
+    table.append(String.format("%d games in %.2f s, %.1f games/s%n",
+            games, elapsedNanos / 1e9, getGamesPerSecond()));
+    return table.toString();
+  }
+
+  /**
+   * How one strategy did over the tournament.
+   */
+  public static final class Standing {
+    private final String name;
+    private double elo;
+    private int wins;
+    private int draws;
+    private int losses;
+    private long moves;
+    private long moveNanos;
+
+    Standing(String name, double elo) {
+      this.name = name;
+      this.elo = elo;
+    }
+
+    /**
+     * Adds the result of one game.
+     *
+     * @param score      1 for a win, 0.5 for a draw and 0 for a loss
+     * @param eloChange  the change in rating
+     * @param moves      the number of moves the strategy made
+     * @param moveNanos  the time the strategy took for them
+     */
+    void record(double score, double eloChange, int moves, long moveNanos) {
+      if (score == 1) {
+        wins++;
+      } else if (score == 0) {
+        losses++;
+      } else {
+        draws++;
+      }
+      this.elo += eloChange;
+      this.moves += moves;
+      this.moveNanos += moveNanos;
+    }
+
+    /**
+     * Gets the strategy's name.
+     *
+     * @return the name
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * Gets the strategy's Elo rating, updated after each game in the order the games were
+     * scheduled.
+     *
+     * @return the rating
+     */
+    public double getElo() {
+      return elo;
+    }
+
+    /**
+     * Gets the number of games the strategy played.
+     *
+     * @return the game count
+     */
+    public int getGames() {
+      return wins + draws + losses;
+    }
+
+    /**
+     * Gets the number of games the strategy won.
+     *
+     * @return the win count
+     */
+    public int getWins() {
+      return wins;
+    }
+
+    /**
+     * Gets the number of games the strategy drew.
+     *
+     * @return the draw count
+     */
+    public int getDraws() {
+      return draws;
+    }
+
+    /**
+     * Gets the number of games the strategy lost.
+     *
+     * @return the loss count
+     */
+    public int getLosses() {
+      return losses;
+    }
+
+    /**
+     * Gets the share of points the strategy won, counting a draw as half a win.
+     *
+     * @return the win rate between 0 and 1
+     */
+    public double getWinRate() {
+      int games = getGames();
+      return games == 0 ? 0 : (wins + 0.5 * draws) / games;
+    }
+
+    /**
+     * Gets the average time the strategy took to choose a move.
+     *
+     * @return the average move time in milliseconds
+     */
+    public double getAverageMoveMillis() {
+      return moves == 0 ? 0 : moveNanos / 1e6 / moves;
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package cs3500.threetrios.view;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.ReadOnlyThreeTriosModel;
+
+/**
+ * Keeps track of the card and owner a view last showed on each cell of a game's grid, so that
+ * after a move the view only repaints the cells whose card or owner changed. The model's
+ * version tells when nothing changed at all, in which case the grid is not read.
+ */
+public final class CellChangeTracker {
+  private final ReadOnlyThreeTriosModel model;
+  private Card[][] shownCards;
+  private Player[][] shownOwners;
+  private long shownVersion;
+
+  /**
+   * Constructs a tracker of a game, which may not have been started yet. Until the first call
+   * to takeChanges the view is taken to show an empty grid.
+   *
+   * @param model the game
+   * @throws IllegalArgumentException if the model is null
+   */
+  public CellChangeTracker(ReadOnlyThreeTriosModel model) {
+    if (model == null) {
+      throw new IllegalArgumentException("Model cannot be null");
+    }
+    this.model = model;
+    this.shownCards = new Card[0][0];
+    this.shownOwners = new Player[0][0];
+    this.shownVersion = 0;
+  }
+
+  /**
+   * Gets the cells whose card or owner changed since the last call, and takes them to be shown
+   * as they are now. If the grid changed size, every cell is changed.
+   *
+   * @return the changed cells as {row, col} pairs, in row-major order
+   */
+  public List<int[]> takeChanges() {
+    long version = model.getVersion();
+    if (version == shownVersion) {
+      return Collections.emptyList();
+    }
+    shownVersion = version;
+    int[] dimensions = model.getGridDimensions();
+    int rows = dimensions[0];
+    int cols = dimensions[1];
+    boolean resized = rows != shownCards.length
+            || (rows > 0 && cols != shownCards[0].length);
+    if (resized) {
+      shownCards = new Card[rows][cols];
+      shownOwners = new Player[rows][cols];
+    }
+
+    List<int[]> changes = new ArrayList<>();
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        Card card = model.getCardAt(row, col);
+        Player owner = model.getCardOwnerAt(row, col);
+        if (resized || card != shownCards[row][col] || owner != shownOwners[row][col]) {
+          shownCards[row][col] = card;
+          shownOwners[row][col] = owner;
+          changes.add(new int[]{row, col});
+        }
+      }
+    }
+    return changes;
+  }
+}
@@ -6,9 +6,11 @@ import java.awt.Graphics2D;
 import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.Color;
+import java.awt.Rectangle;
 import java.awt.RenderingHints;
 
 import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.ModelMemo;
 import cs3500.threetrios.model.Player;
 import cs3500.threetrios.model.ReadOnlyThreeTriosModel;
 
@@ -18,6 +20,7 @@ import javax.swing.JComponent;
 public class HintDecorator extends JPanel implements GameBoardPanel {
   private final GameBoardPanel decoratedPanel;
   private final ReadOnlyThreeTriosModel model;
+  private final ModelMemo memo;
   private boolean showHints;
   private Card selectedCard;
   private static final Font HINT_FONT = new Font("Arial", Font.BOLD, 14);
@@ -25,6 +28,8 @@ public class HintDecorator extends JPanel implements GameBoardPanel {
   public HintDecorator(GameBoardPanel panel, ReadOnlyThreeTriosModel model, String playerColor) {
     this.decoratedPanel = panel;
     this.model = model;
+    // Hints are painted on every repaint, so the flip counts are kept until the model changes
+    this.memo = new ModelMemo(model);
     this.showHints = false;
     setLayout(new BorderLayout());
     if (panel instanceof JComponent) {
@@ -57,10 +62,22 @@ public class HintDecorator extends JPanel implements GameBoardPanel {
 
     g2d.setFont(HINT_FONT);
 
-    for (int row = 0; row < dims[0]; row++) {
-      for (int col = 0; col < dims[1]; col++) {
+    // Only the cells inside the area being repainted get their hints drawn
+    int firstRow = 0;
+    int lastRow = dims[0] - 1;
+    int firstCol = 0;
+    int lastCol = dims[1] - 1;
+    Rectangle clip = g.getClipBounds();
+    if (clip != null && cellSize.width > 0 && cellSize.height > 0) {
+      firstRow = Math.max(firstRow, clip.y / cellSize.height);
+      lastRow = Math.min(lastRow, (clip.y + clip.height) / cellSize.height);
+      firstCol = Math.max(firstCol, clip.x / cellSize.width);
+      lastCol = Math.min(lastCol, (clip.x + clip.width) / cellSize.width);
+    }
+    for (int row = firstRow; row <= lastRow; row++) {
+      for (int col = firstCol; col <= lastCol; col++) {
         if (!model.isHole(row, col) && model.getCardAt(row, col) == null) {
-          int flips = model.getFlippableCards(row, col, selectedCard);
+          int flips = memo.getFlippableCards(row, col, selectedCard);
           System.out.println("Cell [" + row + "," + col + "] flips: " + flips); // Debug
 
           int x = col * cellSize.width;
@@ -113,6 +130,16 @@ public class HintDecorator extends JPanel implements GameBoardPanel {
     repaint(50L); // Force repaint with delay
   }
 
+  /**
+   * Checks if hints are being drawn, which they are while they are turned on and a card is
+   * selected.
+   *
+   * @return true if hints are drawn over the board
+   */
+  public boolean isShowingHints() {
+    return showHints && selectedCard != null;
+  }
+
   public void setShowHints(boolean show) {
     System.out.println("Setting showHints to: " + show); // Debug
     this.showHints = show;
@@ -15,10 +15,12 @@ import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.BorderLayout;
 import java.awt.Point;
+import java.awt.Rectangle;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.swing.JFrame;
@@ -123,6 +125,8 @@ public class ThreeTriosSwingView extends JFrame implements ThreeTriosFrame {
     private final ReadOnlyThreeTriosModel model;
     private final String playerColor;
     private int selectedCardIndex = -1;
+    private List<Card> shownHand = new ArrayList<>();
+    private int shownHighlight = -1;
 
     /**
      * Creates a new player hand panel for the specified player.
@@ -178,7 +182,15 @@ public class ThreeTriosSwingView extends JFrame implements ThreeTriosFrame {
       boolean isCurrentPlayer = model.getCurrentPlayer() != null &&
               player.getColor().equals(model.getCurrentPlayer().getColor());
 
-      for (int i = 0; i < hand.size(); i++) {
+      // Only the slots inside the area being repainted are drawn
+      int first = 0;
+      int last = hand.size() - 1;
+      Rectangle clip = g.getClipBounds();
+      if (clip != null && cardSpacing > 0) {
+        first = Math.max(first, clip.y / cardSpacing);
+        last = Math.min(last, (clip.y + clip.height) / cardSpacing);
+      }
+      for (int i = first; i <= last; i++) {
         Card card = hand.get(i);
         int yPos = i * cardSpacing + 5;
         g2d.setColor(i == selectedCardIndex && isCurrentPlayer ? Color.YELLOW : Color.WHITE);
@@ -301,6 +313,32 @@ public class ThreeTriosSwingView extends JFrame implements ThreeTriosFrame {
       return -1;
     }
 
+    /**
+     * Repaints only the slots whose card or highlight changed since they were last repainted.
+     * When the hand grows or shrinks every slot moves, so the whole panel is repainted.
+     */
+    private void repaintChangedSlots() {
+      Player player = getPlayer();
+      List<Card> hand = player == null ? new ArrayList<>() : model.getPlayerHand(player);
+      boolean isCurrentPlayer = player != null && model.getCurrentPlayer() != null &&
+              player.getColor().equals(model.getCurrentPlayer().getColor());
+      int highlight = isCurrentPlayer ? selectedCardIndex : -1;
+
+      if (hand.size() != shownHand.size()) {
+        repaint();
+      } else if (!hand.isEmpty()) {
+        int cardSpacing = getHeight() / hand.size();
+        for (int i = 0; i < hand.size(); i++) {
+          if (hand.get(i) != shownHand.get(i)
+                  || (i == highlight) != (i == shownHighlight)) {
+            repaint(0, i * cardSpacing, getWidth(), cardSpacing);
+          }
+        }
+      }
+      shownHand = hand;
+      shownHighlight = highlight;
+    }
+
     @Override
     public void refresh() {
       repaint();
@@ -320,6 +358,7 @@ public class ThreeTriosSwingView extends JFrame implements ThreeTriosFrame {
    */
   private class GameBoardPanelImpl extends JPanel implements GameBoardPanel {
     private final ReadOnlyThreeTriosModel model;
+    private final CellChangeTracker changes;
 
     /**
      * Creates a new game board panel linked to the specified model, initializing the model
@@ -329,6 +368,7 @@ public class ThreeTriosSwingView extends JFrame implements ThreeTriosFrame {
      */
     public GameBoardPanelImpl(ReadOnlyThreeTriosModel model) {
       this.model = model;
+      this.changes = new CellChangeTracker(model);
       setBackground(Color.WHITE);
 
       addMouseListener(new MouseAdapter() {
@@ -367,8 +407,20 @@ public class ThreeTriosSwingView extends JFrame implements ThreeTriosFrame {
 
       Dimension cellSize = getCellSize();
 
-      for (int row = 0; row < GRID_ROWS; row++) {
-        for (int col = 0; col < GRID_COLS; col++) {
+      // Only the cells inside the area being repainted are drawn
+      int firstRow = 0;
+      int lastRow = GRID_ROWS - 1;
+      int firstCol = 0;
+      int lastCol = GRID_COLS - 1;
+      Rectangle clip = g.getClipBounds();
+      if (clip != null && cellSize.width > 0 && cellSize.height > 0) {
+        firstRow = Math.max(firstRow, clip.y / cellSize.height);
+        lastRow = Math.min(lastRow, (clip.y + clip.height) / cellSize.height);
+        firstCol = Math.max(firstCol, clip.x / cellSize.width);
+        lastCol = Math.min(lastCol, (clip.x + clip.width) / cellSize.width);
+      }
+      for (int row = firstRow; row <= lastRow; row++) {
+        for (int col = firstCol; col <= lastCol; col++) {
           int x = col * cellSize.width;
           int y = row * cellSize.height;
 
@@ -377,7 +429,8 @@ public class ThreeTriosSwingView extends JFrame implements ThreeTriosFrame {
 
           Card card = model.getCardAt(row, col);
           if (card != null) {
-            drawGridCard(g2d, card, x, y, cellSize.width, cellSize.height);
+            drawGridCard(g2d, card, model.getCardOwnerAt(row, col),
+                    x, y, cellSize.width, cellSize.height);
           }
 
           g2d.setColor(Color.BLACK);
@@ -391,13 +444,15 @@ public class ThreeTriosSwingView extends JFrame implements ThreeTriosFrame {
      *
      * @param g2d    the graphics to draw with
      * @param card   the card
+     * @param owner  the player who owns the card's cell
      * @param x      the x coordinate
      * @param y      the y coordinate
      * @param width  the width of the card
      * @param height the height of the card
      */
-    private void drawGridCard(Graphics2D g2d, Card card, int x, int y, int width, int height) {
-      g2d.setColor(card.getOwner().getColor().equals("RED") ? RED_PLAYER_COLOR : BLUE_PLAYER_COLOR);
+    private void drawGridCard(Graphics2D g2d, Card card, Player owner,
+                              int x, int y, int width, int height) {
+      g2d.setColor(owner.getColor().equals("RED") ? RED_PLAYER_COLOR : BLUE_PLAYER_COLOR);
       g2d.fillRect(x + 1, y + 1, width - 2, height - 2);
 
       g2d.setColor(Color.BLACK);
@@ -430,6 +485,28 @@ public class ThreeTriosSwingView extends JFrame implements ThreeTriosFrame {
       return value == 10 ? "A" : String.valueOf(value);
     }
 
+    /**
+     * Repaints only the cells whose card or owner changed since they were last repainted.
+     * The repaints go through the hint decorator the board is shown in, so that any hints
+     * drawn over a changed cell are drawn again too. While hints are shown every empty cell's
+     * hint may change with any move, so the whole board is repainted instead.
+     */
+    private void repaintChangedCells() {
+      List<int[]> changed = changes.takeChanges();
+      if (changed.isEmpty()) {
+        return;
+      }
+      if (boardDecorator.isShowingHints()) {
+        boardDecorator.refresh();
+        return;
+      }
+      Dimension cellSize = getCellSize();
+      for (int[] cell : changed) {
+        boardDecorator.repaint(cell[1] * cellSize.width, cell[0] * cellSize.height,
+                cellSize.width + 1, cellSize.height + 1);
+      }
+    }
+
     @Override
     public Dimension getCellSize() {
       return new Dimension(getWidth() / GRID_COLS, getHeight() / GRID_ROWS);
@@ -452,10 +529,6 @@ public class ThreeTriosSwingView extends JFrame implements ThreeTriosFrame {
       }
     }
 
-    boardPanel.repaint();
-    leftHandPanel.repaint();
-    rightHandPanel.repaint();
-
     if (selectedCardPlayer != null && currentPlayer != null &&
             !selectedCardPlayer.getColor().equals(currentPlayer.getColor())) {
       selectedCard = null;
@@ -464,8 +537,10 @@ public class ThreeTriosSwingView extends JFrame implements ThreeTriosFrame {
       rightHandPanel.selectedCardIndex = -1;
     }
 
-    revalidate();
-    repaint();
+    // Only the cells and hand slots that changed since the last refresh are repainted
+    boardPanel.repaintChangedCells();
+    leftHandPanel.repaintChangedSlots();
+    rightHandPanel.repaintChangedSlots();
     if (model.isGameOver() && !gameOverMessageShown) {
       gameOverMessageShown = true;
       Player winner = model.getWinner();
@@ -520,7 +595,8 @@ public class ThreeTriosSwingView extends JFrame implements ThreeTriosFrame {
         }
       }
 
-      repaint();
+      leftHandPanel.repaintChangedSlots();
+      rightHandPanel.repaintChangedSlots();
     } catch (Exception e) {
       System.err.println("Error in setSelectedCard: " + e.getMessage());
       e.printStackTrace();
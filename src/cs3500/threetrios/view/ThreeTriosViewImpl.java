@@ -48,7 +48,7 @@ public class ThreeTriosViewImpl implements ThreeTriosView {
           if (card == null) {
             output.append("_");
           } else {
-            output.append(card.getOwner().getColor().charAt(0));
+            output.append(grid.getOwner(i, j).getColor().charAt(0));
           }
         }
       }
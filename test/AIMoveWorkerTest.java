@@ -0,0 +1,189 @@
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.swing.SwingUtilities;
+
+import cs3500.threetrios.controller.AIMoveWorker;
+import cs3500.threetrios.controller.AIPlayer;
+import cs3500.threetrios.model.MainModelInterface;
+import cs3500.threetrios.strategy.AIMove;
+import cs3500.threetrios.strategy.Position;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the functionality of the methods in the AIMoveWorker class.
+ */
+public class AIMoveWorkerTest {
+  private final List<AIMoveWorker> workers = new ArrayList<>();
+
+  @After
+  public void tearDown() {
+    for (AIMoveWorker worker : workers) {
+      worker.shutdown();
+    }
+  }
+
+  private AIMoveWorker worker(long timeoutMillis) {
+    AIMoveWorker worker = new AIMoveWorker(timeoutMillis);
+    workers.add(worker);
+    return worker;
+  }
+
+  /**
+   * Starts a game on an empty 3x3 board.
+   */
+  private MainModelInterface startedModel() {
+    return TestGames.started(new String[]{}, 3, 3, 1);
+  }
+
+  /**
+   * Makes an AI player for the player to move whose strategy waits until it is interrupted.
+   */
+  private AIPlayer stuckPlayer(MainModelInterface game, AtomicBoolean interrupted) {
+    AIPlayer ai = new AIPlayer(game.getCurrentPlayer());
+    ai.setStrategy((model, player) -> {
+      try {
+        Thread.sleep(60000);
+      } catch (InterruptedException e) {
+        interrupted.set(true);
+      }
+      return null;
+    });
+    return ai;
+  }
+
+  @Test
+  public void testDeliversMoveOnEventDispatchThread() throws InterruptedException {
+    MainModelInterface game = startedModel();
+    AIMove expected = new AIMove(game.getPlayerHand(game.getCurrentPlayer()).get(2),
+            new Position(1, 1), 7);
+    AIPlayer ai = new AIPlayer(game.getCurrentPlayer());
+    ai.setStrategy((model, player) -> expected);
+    AtomicReference<AIMove> delivered = new AtomicReference<>();
+    AtomicBoolean onEdt = new AtomicBoolean();
+    CountDownLatch done = new CountDownLatch(1);
+
+    AIMoveWorker.MoveToken token = worker(AIMoveWorker.NO_TIMEOUT).requestMove(game, ai, move -> {
+      onEdt.set(SwingUtilities.isEventDispatchThread());
+      delivered.set(move);
+      done.countDown();
+    });
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertSame(expected, delivered.get());
+    assertTrue(onEdt.get());
+    assertTrue(token.isDone());
+    assertFalse(token.isCancelled());
+  }
+
+  @Test
+  public void testTimeoutFallsBackToDefaultMove() throws InterruptedException {
+    MainModelInterface game = startedModel();
+    AtomicBoolean interrupted = new AtomicBoolean();
+    AtomicReference<AIMove> delivered = new AtomicReference<>();
+    CountDownLatch done = new CountDownLatch(1);
+
+    worker(50).requestMove(game, stuckPlayer(game, interrupted), move -> {
+      delivered.set(move);
+      done.countDown();
+    });
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertEquals(new Position(0, 0), delivered.get().getPosition());
+    assertSame(game.getPlayerHand(game.getCurrentPlayer()).get(0), delivered.get().getCard());
+    Thread.sleep(100);
+    assertTrue(interrupted.get());
+  }
+
+  @Test
+  public void testFallbackWaitsForSearchThatIgnoresInterrupts() throws InterruptedException {
+    MainModelInterface game = startedModel();
+    AtomicBoolean searching = new AtomicBoolean();
+    AIPlayer ai = new AIPlayer(game.getCurrentPlayer());
+    ai.setStrategy((model, player) -> {
+      searching.set(true);
+      long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+      while (System.nanoTime() < end) {
+        model.isGameOver();
+      }
+      searching.set(false);
+      return new AIMove(model.getCardAt(0, 0), new Position(2, 2), 5);
+    });
+    AtomicBoolean searchingWhenDelivered = new AtomicBoolean(true);
+    AtomicReference<AIMove> delivered = new AtomicReference<>();
+    CountDownLatch done = new CountDownLatch(1);
+
+    worker(50).requestMove(game, ai, move -> {
+      searchingWhenDelivered.set(searching.get());
+      delivered.set(move);
+      done.countDown();
+    });
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertFalse(searchingWhenDelivered.get());
+    assertEquals(new Position(0, 0), delivered.get().getPosition());
+  }
+
+  @Test
+  public void testThrowingStrategyIsReportedAndFallsBack() throws InterruptedException {
+    MainModelInterface game = startedModel();
+    AIPlayer ai = new AIPlayer(game.getCurrentPlayer());
+    ai.setStrategy((model, player) -> {
+      throw new IllegalStateException("broken strategy");
+    });
+    AtomicReference<AIMove> delivered = new AtomicReference<>();
+    CountDownLatch done = new CountDownLatch(1);
+    ByteArrayOutputStream errors = new ByteArrayOutputStream();
+    PrintStream err = System.err;
+    System.setErr(new PrintStream(errors, true));
+    try {
+      worker(AIMoveWorker.NO_TIMEOUT).requestMove(game, ai, move -> {
+        delivered.set(move);
+        done.countDown();
+      });
+      assertTrue(done.await(5, TimeUnit.SECONDS));
+    } finally {
+      System.setErr(err);
+    }
+    assertEquals(new Position(0, 0), delivered.get().getPosition());
+    assertTrue(errors.toString().contains("broken strategy"));
+  }
+
+  @Test
+  public void testCancelledMoveIsNeverDelivered() throws Exception {
+    MainModelInterface game = startedModel();
+    AtomicBoolean interrupted = new AtomicBoolean();
+    AtomicBoolean delivered = new AtomicBoolean();
+
+    AIMoveWorker.MoveToken token = worker(100).requestMove(game,
+        stuckPlayer(game, interrupted), move -> delivered.set(true));
+    Thread.sleep(20);
+    token.cancel();
+    Thread.sleep(300);
+    SwingUtilities.invokeAndWait(() -> { });
+    assertTrue(token.isCancelled());
+    assertTrue(interrupted.get());
+    assertFalse(delivered.get());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeTimeout() {
+    new AIMoveWorker(-1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullCallback() {
+    MainModelInterface game = startedModel();
+    worker(0).requestMove(game, new AIPlayer(game.getCurrentPlayer()), null);
+  }
+}
@@ -1,17 +1,24 @@
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import cs3500.threetrios.controller.AIPlayer;
 import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.MainModelInterface;
 import cs3500.threetrios.model.Player;
 import cs3500.threetrios.strategy.AIMove;
 import cs3500.threetrios.strategy.AIStrategy;
+import cs3500.threetrios.strategy.IterativeDeepeningStrat;
 import cs3500.threetrios.strategy.MockCard;
 import cs3500.threetrios.strategy.MockPlayer;
 import cs3500.threetrios.strategy.MockStrategy;
 import cs3500.threetrios.strategy.MockThreeTriosModel;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -56,4 +63,64 @@ public class AIPlayerTest {
     aiPlayer = new AIPlayer(basePlayer);
     aiPlayer.getNextMove(model);
   }
-}
\ No newline at end of file
+
+  /**
+   * Starts a game on an empty 3x5 board.
+   */
+  private MainModelInterface startedModel() {
+    return TestGames.started(new String[]{}, 3, 5, 1);
+  }
+
+  @Test
+  public void testPondersDuringOpponentsTurn() {
+    MainModelInterface game = startedModel();
+    Player opponent = game.getCurrentPlayer();
+    AIPlayer ai = new AIPlayer(game.getPlayers().get(0) == opponent
+            ? game.getPlayers().get(1) : game.getPlayers().get(0));
+    ai.setStrategy(new IterativeDeepeningStrat(50));
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      ai.setPondering(executor);
+      ai.startPondering(game);
+      assertTrue(ai.isPondering());
+
+      game.placeCard(1, 2, game.getPlayerHand(opponent).get(0));
+      AIMove move = ai.getNextMove(game);
+      assertFalse(ai.isPondering());
+      assertNull(game.getCardAt(move.getRow(), move.getCol()));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testNoPonderingWithoutExecutorOrOnOwnTurn() {
+    MainModelInterface game = startedModel();
+    AIPlayer ai = new AIPlayer(game.getCurrentPlayer());
+    ai.setStrategy(new IterativeDeepeningStrat(50));
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      ai.startPondering(game);
+      assertFalse(ai.isPondering());
+      ai.setPondering(executor);
+      ai.startPondering(game);
+      assertFalse(ai.isPondering());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testNoPonderingWithOrdinaryStrategy() {
+    MainModelInterface game = startedModel();
+    game.setCurrentPlayer("BLUE");
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      aiPlayer.setPondering(executor);
+      aiPlayer.startPondering(game);
+      assertFalse(aiPlayer.isPondering());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
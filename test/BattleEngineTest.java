@@ -0,0 +1,326 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import cs3500.threetrios.features.ModelFeatures;
+import cs3500.threetrios.model.BitboardGrid;
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.DeckGenerator;
+import cs3500.threetrios.model.Direction;
+import cs3500.threetrios.model.Grid;
+import cs3500.threetrios.model.MainModelInterface;
+import cs3500.threetrios.model.MoveDelta;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.ThreeTriosCard;
+import cs3500.threetrios.model.ThreeTriosGameModel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Class containing tests regarding the combo battles of the base rules, checked against the
+ * scan the game used before it had a battle engine: a search over positions that keeps the
+ * cells it has already battled from in a set.
+ */
+public class BattleEngineTest {
+  private static final int[][] STEPS = {{-1, 0}, {1, 0}, {0, 1}, {0, -1}};
+  private static final Direction[] DIRECTIONS = {
+    Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST};
+
+  /**
+   * A listener that keeps the delta of every move.
+   */
+  private static class DeltaListener implements ModelFeatures {
+    private final List<MoveDelta> deltas = new ArrayList<>();
+
+    @Override
+    public void notifyTurnChange(Player player) {
+      // only the deltas are checked
+    }
+
+    @Override
+    public void notifyGameOver(Player winner) {
+      // only the deltas are checked
+    }
+
+    @Override
+    public void notifyCellsChanged(MoveDelta delta) {
+      deltas.add(delta);
+    }
+  }
+
+  @Test
+  public void testLongChainAlongARow() {
+    Grid grid = new BitboardGrid(1, 21, new boolean[1][21]);
+    MainModelInterface model = started(grid, 1);
+    Player enemy = opponent(model);
+    for (int col = 1; col < 21; col++) {
+      grid.placeCard(0, col, new ThreeTriosCard("Link" + col, 5, 5, 5, 1), enemy);
+    }
+    DeltaListener listener = new DeltaListener();
+    model.addFeaturesListener(listener);
+    Player mover = model.getCurrentPlayer();
+    model.placeCard(0, 0, model.getPlayerHand(mover).get(0));
+
+    List<MoveDelta.Flip> flips = listener.deltas.get(0).getFlips();
+    assertEquals(20, flips.size());
+    for (int i = 0; i < flips.size(); i++) {
+      assertEquals(i + 1, flips.get(i).getCol());
+      assertSame(enemy, flips.get(i).getOldOwner());
+    }
+    assertEquals(21, model.getPlayerScore(mover));
+  }
+
+  @Test
+  public void testBranchingChainFlipsEachCellOnce() {
+    Grid grid = new BitboardGrid(7, 7, new boolean[7][7]);
+    MainModelInterface model = started(grid, 2);
+    Player enemy = opponent(model);
+    for (int row = 0; row < 7; row++) {
+      for (int col = 0; col < 7; col++) {
+        if (row + col > 0) {
+          grid.placeCard(row, col, new ThreeTriosCard("Fan" + row + col, 1, 9, 9, 1), enemy);
+        }
+      }
+    }
+    DeltaListener listener = new DeltaListener();
+    model.addFeaturesListener(listener);
+    Player mover = model.getCurrentPlayer();
+    model.placeCard(0, 0, model.getPlayerHand(mover).get(0));
+
+    // every cell off the first row and column is reached from both its north and its west
+    List<MoveDelta.Flip> flips = listener.deltas.get(0).getFlips();
+    Set<Integer> cells = new HashSet<>();
+    for (MoveDelta.Flip flip : flips) {
+      assertTrue(cells.add(flip.getRow() * 7 + flip.getCol()));
+    }
+    assertEquals(48, flips.size());
+    assertEquals(49, model.getPlayerScore(mover));
+  }
+
+  @Test
+  public void testCellLostOnOneSideFlipsFromAnother() {
+    Grid grid = new BitboardGrid(3, 3, new boolean[3][3]);
+    MainModelInterface model = started(grid, 3);
+    Player enemy = opponent(model);
+    grid.placeCard(0, 1, new ThreeTriosCard("Strong", 1, 9, 1, 1), enemy);
+    grid.placeCard(1, 0, new ThreeTriosCard("Weak", 1, 1, 1, 1), enemy);
+    grid.placeCard(1, 1, new ThreeTriosCard("Guard", 5, 5, 5, 5), enemy);
+    Player mover = model.getCurrentPlayer();
+    model.placeCard(0, 0, model.getPlayerHand(mover).get(0));
+
+    // Guard holds against Weak from the west but not against Strong from the north
+    assertSame(mover, model.getCardOwnerAt(0, 1));
+    assertSame(mover, model.getCardOwnerAt(1, 0));
+    assertSame(mover, model.getCardOwnerAt(1, 1));
+  }
+
+  @Test
+  public void testChainStopsAtHolesAndOwnCards() {
+    boolean[][] holes = new boolean[3][5];
+    holes[1][2] = true;
+    holes[2][4] = true;
+    Grid grid = new BitboardGrid(3, 5, holes);
+    MainModelInterface model = started(grid, 4);
+    Player enemy = opponent(model);
+    Player mover = model.getCurrentPlayer();
+    grid.placeCard(1, 1, new ThreeTriosCard("Left", 1, 1, 9, 1), enemy);
+    grid.placeCard(1, 3, new ThreeTriosCard("Right", 1, 1, 1, 1), enemy);
+    grid.placeCard(0, 1, new ThreeTriosCard("Mine", 1, 1, 9, 1), mover);
+    grid.placeCard(0, 2, new ThreeTriosCard("Behind", 1, 1, 1, 1), enemy);
+    model.placeCard(1, 0, model.getPlayerHand(mover).get(0));
+
+    assertSame(mover, model.getCardOwnerAt(1, 1));
+    assertSame(enemy, model.getCardOwnerAt(1, 3));
+    assertSame(enemy, model.getCardOwnerAt(0, 2));
+  }
+
+  @Test
+  public void testFullBoardsMatchOldScan() {
+    int longest = 0;
+    for (long seed = 0; seed < 200; seed++) {
+      SplittableRandom random = new SplittableRandom(seed);
+      int rows = 3 + random.nextInt(6);
+      int cols = 3 + random.nextInt(6);
+      boolean[][] holes = new boolean[rows][cols];
+      int empty = random.nextInt(rows * cols);
+      for (int cell = 0; cell < rows * cols; cell++) {
+        holes[cell / cols][cell % cols] = cell != empty && random.nextInt(8) == 0;
+      }
+      int cells = 0;
+      for (int cell = 0; cell < rows * cols; cell++) {
+        cells += holes[cell / cols][cell % cols] ? 0 : 1;
+      }
+      if (cells % 2 == 0) {
+        int cell = empty == 0 ? 1 : 0;
+        holes[cell / cols][cell % cols] = !holes[cell / cols][cell % cols];
+      }
+      Grid grid = new BitboardGrid(rows, cols, holes);
+      MainModelInterface model = started(grid, seed);
+      Player mover = model.getCurrentPlayer();
+      Player enemy = opponent(model);
+      List<Card> fill = new DeckGenerator(random.split()).generate(rows * cols);
+      for (int cell = 0; cell < rows * cols; cell++) {
+        if (cell != empty && !holes[cell / cols][cell % cols]) {
+          grid.placeCard(cell / cols, cell % cols, fill.get(cell),
+                  random.nextInt(8) == 0 ? mover : enemy);
+        }
+      }
+      List<Card> hand = model.getPlayerHand(mover);
+      Card card = hand.get(random.nextInt(hand.size()));
+      longest = Math.max(longest, playAndCompare(model, empty / cols, empty % cols, card));
+    }
+    assertTrue(longest >= 20);
+  }
+
+  @Test
+  public void testGamesMatchOldScan() {
+    for (long seed = 0; seed < 40; seed++) {
+      MainModelInterface model = TestGames.started(new String[]{}, 3 + 2 * (int) (seed % 3), 5,
+              seed);
+      SplittableRandom random = new SplittableRandom(seed);
+      while (!model.isGameOver()) {
+        List<int[]> empty = model.getGrid().getEmptyCells();
+        int[] cell = empty.get(random.nextInt(empty.size()));
+        List<Card> hand = model.getPlayerHand(model.getCurrentPlayer());
+        playAndCompare(model, cell[0], cell[1], hand.get(random.nextInt(hand.size())));
+      }
+    }
+  }
+
+  @Test
+  public void testDirectFlipsMatchOldScan() {
+    for (long seed = 0; seed < 40; seed++) {
+      MainModelInterface model = TestGames.started(new String[]{}, 5, 5, seed);
+      SplittableRandom random = new SplittableRandom(seed);
+      while (!model.isGameOver()) {
+        Player player = model.getCurrentPlayer();
+        List<Card> hand = model.getPlayerHand(player);
+        for (int[] cell : model.getGrid().getEmptyCells()) {
+          for (Card card : hand) {
+            assertEquals(oldDirectFlips(model.getGrid(), cell[0], cell[1], card, player),
+                    model.getFlippableCards(cell[0], cell[1], card));
+          }
+        }
+        List<int[]> empty = model.getGrid().getEmptyCells();
+        int[] cell = empty.get(random.nextInt(empty.size()));
+        model.placeCard(cell[0], cell[1], hand.get(random.nextInt(hand.size())));
+      }
+    }
+  }
+
+  /**
+   * Starts a base game whose cards all have 9 on every side, so whichever card the mover holds
+   * wins every battle it starts.
+   */
+  private MainModelInterface started(Grid grid, long seed) {
+    List<Card> deck = new ArrayList<>();
+    for (int i = 0; i <= grid.getCardCellCount(); i++) {
+      deck.add(new ThreeTriosCard("Nine" + i, 9, 9, 9, 9));
+    }
+    MainModelInterface model = new ThreeTriosGameModel();
+    model.startGame(grid, deck, new SplittableRandom(seed));
+    return model;
+  }
+
+  private Player opponent(MainModelInterface model) {
+    List<Player> players = model.getPlayers();
+    return players.get(0) == model.getCurrentPlayer() ? players.get(1) : players.get(0);
+  }
+
+  /**
+   * Plays a card and checks the owner of every cell against the old scan run on a copy of the
+   * board from before the move.
+   *
+   * @return the number of cards the move flipped
+   */
+  private int playAndCompare(MainModelInterface model, int row, int col, Card card) {
+    Grid grid = model.getGrid();
+    Player player = model.getCurrentPlayer();
+    Player[][] expected = new Player[grid.getRows()][grid.getCols()];
+    Card[][] cards = new Card[grid.getRows()][grid.getCols()];
+    for (int r = 0; r < grid.getRows(); r++) {
+      for (int c = 0; c < grid.getCols(); c++) {
+        if (!grid.isHole(r, c)) {
+          cards[r][c] = grid.getCard(r, c);
+          expected[r][c] = grid.getOwner(r, c);
+        }
+      }
+    }
+    cards[row][col] = card;
+    expected[row][col] = player;
+    int flips = oldCombo(cards, expected, row, col);
+
+    model.placeCard(row, col, card);
+    for (int r = 0; r < grid.getRows(); r++) {
+      for (int c = 0; c < grid.getCols(); c++) {
+        if (!grid.isHole(r, c)) {
+          assertSame(expected[r][c], grid.getOwner(r, c));
+        }
+      }
+    }
+    return flips;
+  }
+
+  /**
+   * The combo search the game used before the battle engine, over a copy of the board whose
+   * holes hold no card. It changes the owners in place.
+   *
+   * @return the number of cards flipped
+   */
+  private int oldCombo(Card[][] cards, Player[][] owners, int row, int col) {
+    Set<Integer> processed = new HashSet<>();
+    Deque<int[]> toProcess = new ArrayDeque<>();
+    toProcess.add(new int[]{row, col});
+    int flips = 0;
+    while (!toProcess.isEmpty()) {
+      int[] current = toProcess.poll();
+      processed.add(current[0] * cards[0].length + current[1]);
+      Card attacker = cards[current[0]][current[1]];
+      for (int d = 0; d < 4; d++) {
+        int r = current[0] + STEPS[d][0];
+        int c = current[1] + STEPS[d][1];
+        if (r < 0 || r >= cards.length || c < 0 || c >= cards[0].length
+                || processed.contains(r * cards[0].length + c) || cards[r][c] == null
+                || owners[r][c] == owners[current[0]][current[1]]) {
+          continue;
+        }
+        if (attacker.getAttackPower(DIRECTIONS[d])
+                > cards[r][c].getAttackPower(DIRECTIONS[d].getOpposite())) {
+          owners[r][c] = owners[current[0]][current[1]];
+          toProcess.add(new int[]{r, c});
+          flips++;
+        }
+      }
+    }
+    return flips;
+  }
+
+  /**
+   * The count of direct flips the game made before the battle engine.
+   */
+  private int oldDirectFlips(Grid grid, int row, int col, Card card, Player player) {
+    int count = 0;
+    for (int d = 0; d < 4; d++) {
+      int r = row + STEPS[d][0];
+      int c = col + STEPS[d][1];
+      if (r < 0 || r >= grid.getRows() || c < 0 || c >= grid.getCols() || grid.isHole(r, c)) {
+        continue;
+      }
+      Card adjacent = grid.getCard(r, c);
+      if (adjacent != null && grid.getOwner(r, c) != player
+              && card.getAttackPower(DIRECTIONS[d])
+              > adjacent.getAttackPower(DIRECTIONS[d].getOpposite())) {
+        count++;
+      }
+    }
+    return count;
+  }
+}
@@ -0,0 +1,130 @@
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import cs3500.threetrios.benchmark.Benchmark;
+import cs3500.threetrios.benchmark.BenchmarkResult;
+import cs3500.threetrios.benchmark.BenchmarkRunner;
+import cs3500.threetrios.benchmark.EngineBenchmarks;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Class containing tests regarding the benchmark runner and its results.
+ */
+public class BenchmarkTest {
+
+  @Test
+  public void testPreparesBeforeEveryRun() {
+    int[] counts = new int[2];
+    BenchmarkResult result = new BenchmarkRunner(1, 2, 5).run(new Benchmark() {
+      @Override
+      public String getName() {
+        return "counting";
+      }
+
+      @Override
+      public void prepare() {
+        counts[0]++;
+      }
+
+      @Override
+      public Object run() {
+        counts[1]++;
+        assertEquals(counts[0], counts[1]);
+        return null;
+      }
+    });
+    assertEquals("counting", result.getName());
+    assertTrue(counts[1] >= 3);
+    assertTrue(result.getMicros() >= 0);
+  }
+
+  @Test
+  public void testSlowOperationMeasured() {
+    BenchmarkResult result = new BenchmarkRunner(0, 1, 1).run(Benchmark.of("sleep", () -> {
+      Thread.sleep(20);
+      return null;
+    }));
+    assertTrue(result.getMicros() >= 20_000);
+    assertEquals(0, result.getError(), 0);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testFailingOperation() {
+    new BenchmarkRunner(0, 1, 1).run(Benchmark.of("fails", () -> {
+      throw new IOException("missing");
+    }));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNameWithWhitespace() {
+    Benchmark.of("two words", () -> null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNoMeasuredIterations() {
+    new BenchmarkRunner(1, 0, 100);
+  }
+
+  @Test
+  public void testResultRoundTrip() {
+    BenchmarkResult result = new BenchmarkResult("battle/board/normal", 12.345, 0.5);
+    BenchmarkResult parsed = BenchmarkResult.parse(result.toString());
+    assertEquals(result.getName(), parsed.getName());
+    assertEquals(12.345, parsed.getMicros(), 1e-9);
+    assertEquals(0.5, parsed.getError(), 1e-9);
+  }
+
+  @Test
+  public void testRatioToBaseline() {
+    BenchmarkResult before = new BenchmarkResult("getGrid", 10, 0);
+    assertEquals(1.5, new BenchmarkResult("getGrid", 15, 0).ratioTo(before), 1e-9);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRatioToOtherBenchmark() {
+    new BenchmarkResult("a", 1, 0).ratioTo(new BenchmarkResult("b", 1, 0));
+  }
+
+  @Test
+  public void testReadSkipsCommentsAndHeader() throws IOException {
+    Path file = Files.createTempFile("baseline", ".txt");
+    try {
+      Files.write(file, List.of("# comment", BenchmarkResult.header(), "",
+              new BenchmarkResult("parse/board", 3, 1).toString()));
+      List<BenchmarkResult> results = BenchmarkResult.read(file);
+      assertEquals(1, results.size());
+      assertEquals("parse/board", results.get(0).getName());
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParseInvalidLine() {
+    BenchmarkResult.parse("battle 1.0 us/op");
+  }
+
+  @Test
+  public void testBaselineCoversSuite() throws IOException {
+    List<Benchmark> suite = EngineBenchmarks.suite(Paths.get(EngineBenchmarks.DEFAULT_CONFIGS));
+    Set<String> names = new HashSet<>();
+    for (Benchmark benchmark : suite) {
+      assertTrue(names.add(benchmark.getName()));
+    }
+    Set<String> baseline = new HashSet<>();
+    for (BenchmarkResult result
+            : BenchmarkResult.read(Paths.get(EngineBenchmarks.DEFAULT_BASELINE))) {
+      baseline.add(result.getName());
+    }
+    assertEquals(names, baseline);
+  }
+}
@@ -0,0 +1,245 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import cs3500.threetrios.model.BitboardGrid;
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.Grid;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.ThreeTriosCard;
+import cs3500.threetrios.model.ThreeTriosPlayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Class containing tests regarding the methods in the bitboard grid class.
+ */
+public class BitboardGridTest {
+  private BitboardGrid grid;
+  private Card testCard;
+
+  @Before
+  public void setup() {
+    boolean[][] standardHoles = new boolean[][]{
+            {false, true, false},
+            {true, false, true},
+            {false, true, false}
+    };
+    grid = new BitboardGrid(3, 3, standardHoles);
+    testCard = new ThreeTriosCard("TestCard", 5, 6, 7, 8);
+  }
+
+  /**
+   * Creates a 9x9 board with no holes, which needs two 64-bit words per mask.
+   *
+   * @return a grid with 81 card cells
+   */
+  private BitboardGrid largeGrid() {
+    return new BitboardGrid(9, 9, new boolean[9][9]);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructorNegativeRows() {
+    new BitboardGrid(-1, 3, new boolean[1][1]);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructorMismatchedHolesDimensions() {
+    new BitboardGrid(3, 3, new boolean[2][2]);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructorEvenCardCells() {
+    new BitboardGrid(2, 2, new boolean[][]{{false, true}, {true, false}});
+  }
+
+  @Test
+  public void testIsHole() {
+    assertTrue(grid.isHole(0, 1));
+    assertFalse(grid.isHole(0, 0));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testIsHoleOutOfBounds() {
+    grid.isHole(3, 3);
+  }
+
+  @Test
+  public void testIsEmpty() {
+    assertTrue(grid.isEmpty(0, 0));
+    assertFalse(grid.isEmpty(0, 1));
+    grid.placeCard(0, 0, testCard);
+    assertFalse(grid.isEmpty(0, 0));
+  }
+
+  @Test
+  public void testGetCardAfterPlacement() {
+    assertNull(grid.getCard(0, 0));
+    grid.placeCard(0, 0, testCard);
+    assertEquals(testCard, grid.getCard(0, 0));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testPlaceCardInHole() {
+    grid.placeCard(0, 1, testCard);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testPlaceCardInOccupiedCell() {
+    grid.placeCard(0, 0, testCard);
+    grid.placeCard(0, 0, new ThreeTriosCard("Other", 1, 2, 3, 4));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPlaceNullCard() {
+    grid.placeCard(0, 0, null);
+  }
+
+  @Test
+  public void testIsFullAndEmptyCells() {
+    assertEquals(5, grid.getCardCellCount());
+    assertEquals(5, grid.getEmptyCells().size());
+    grid.placeCard(0, 0, testCard);
+    grid.placeCard(0, 2, testCard);
+    grid.placeCard(1, 1, testCard);
+    grid.placeCard(2, 0, testCard);
+    assertFalse(grid.isFull());
+
+    List<int[]> emptyCells = grid.getEmptyCells();
+    assertEquals(1, emptyCells.size());
+    assertEquals(2, emptyCells.get(0)[0]);
+    assertEquals(2, emptyCells.get(0)[1]);
+
+    grid.placeCard(2, 2, testCard);
+    assertTrue(grid.isFull());
+    assertTrue(grid.getEmptyCells().isEmpty());
+  }
+
+  @Test
+  public void testLargeGridSpansMultipleWords() {
+    BitboardGrid large = largeGrid();
+    assertEquals(81, large.getCardCellCount());
+    large.placeCard(8, 8, testCard);
+    large.placeCard(7, 0, testCard);
+    assertEquals(79, large.getEmptyCellCount());
+    assertTrue(large.isOccupied(80));
+    assertTrue(large.isOccupied(63));
+    assertFalse(large.isOccupied(64));
+
+    for (int[] cell : large.getEmptyCells()) {
+      assertFalse(cell[0] == 8 && cell[1] == 8);
+      assertFalse(cell[0] == 7 && cell[1] == 0);
+    }
+  }
+
+  @Test
+  public void testCountOccupiedNeighbors() {
+    BitboardGrid large = largeGrid();
+    large.placeCard(4, 3, testCard);
+    large.placeCard(4, 5, testCard);
+    large.placeCard(3, 4, testCard);
+    assertEquals(3, large.countOccupiedNeighbors(4, 4));
+    assertEquals(0, large.countOccupiedNeighbors(0, 0));
+  }
+
+  @Test
+  public void testOwnershipIsTrackedByGrid() {
+    Player red = new ThreeTriosPlayer("RED");
+    Player blue = new ThreeTriosPlayer("BLUE");
+    grid.placeCard(0, 0, testCard, red);
+    grid.placeCard(2, 2, testCard, blue);
+    assertEquals(red, grid.getOwner(0, 0));
+    assertEquals(blue, grid.getOwner(2, 2));
+    assertNull(grid.getOwner(1, 1));
+
+    grid.setOwner(0, 0, blue);
+    assertEquals(blue, grid.getOwner(0, 0));
+    assertEquals(2, grid.countOwnedBy(blue));
+    assertEquals(0, grid.countOwnedBy(red));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testSetOwnerOfEmptyCell() {
+    grid.setOwner(0, 0, new ThreeTriosPlayer("RED"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSetNullOwner() {
+    grid.placeCard(0, 0, testCard, new ThreeTriosPlayer("RED"));
+    grid.setOwner(0, 0, null);
+  }
+
+  @Test
+  public void testSnapshotKeepsStateAfterChanges() {
+    Player red = new ThreeTriosPlayer("RED");
+    Player blue = new ThreeTriosPlayer("BLUE");
+    grid.placeCard(0, 0, testCard, red);
+    Grid snapshot = grid.snapshot();
+    assertSame(snapshot, grid.snapshot());
+
+    grid.setOwner(0, 0, blue);
+    grid.placeCard(2, 2, testCard, blue);
+    assertEquals(red, snapshot.getOwner(0, 0));
+    assertNull(snapshot.getCard(2, 2));
+    assertEquals(1, snapshot.countOwnedBy(red));
+    assertEquals(4, snapshot.getEmptyCellCount());
+    assertEquals(blue, grid.getOwner(0, 0));
+    assertEquals(2, grid.countOwnedBy(blue));
+    assertNotSame(snapshot, grid.snapshot());
+    assertSame(snapshot, snapshot.snapshot());
+  }
+
+  @Test
+  public void testVersionCountsChanges() {
+    Player red = new ThreeTriosPlayer("RED");
+    long start = grid.getVersion();
+    grid.placeCard(0, 0, testCard, red);
+    long placed = grid.getVersion();
+    assertTrue(placed > start);
+    grid.getCard(0, 0);
+    grid.countOwnedBy(red);
+    assertEquals(placed, grid.getVersion());
+
+    Grid snapshot = grid.snapshot();
+    grid.setOwner(0, 0, new ThreeTriosPlayer("BLUE"));
+    assertTrue(grid.getVersion() > placed);
+    assertEquals(placed, snapshot.getVersion());
+  }
+
+  @Test
+  public void testRejectedWritesKeepSnapshotAndVersion() {
+    Card card = new ThreeTriosCard("kept", 5, 5, 5, 5);
+    Player red = new ThreeTriosPlayer("RED");
+    grid.placeCard(0, 0, card, red);
+    Grid snapshot = grid.snapshot();
+    long version = grid.getVersion();
+    int rejected = 0;
+    for (Runnable write : new Runnable[]{
+        () -> grid.placeCard(0, 0, card, red),
+        () -> grid.placeCard(0, 1, card, red),
+        () -> grid.placeCard(2, 2, null, red),
+        () -> grid.placeCard(3, 0, card, red),
+        () -> grid.setOwner(2, 2, red),
+        () -> grid.setOwner(0, 0, null)}) {
+      try {
+        write.run();
+      } catch (IllegalArgumentException | IllegalStateException e) {
+        rejected++;
+      }
+      assertSame(snapshot, grid.snapshot());
+      assertEquals(version, grid.getVersion());
+    }
+    assertEquals(6, rejected);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testSnapshotCannotBeChanged() {
+    grid.snapshot().placeCard(0, 0, testCard, new ThreeTriosPlayer("RED"));
+  }
+}
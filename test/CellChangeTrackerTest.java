@@ -0,0 +1,98 @@
+import org.junit.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import cs3500.threetrios.model.DeckGenerator;
+import cs3500.threetrios.model.MainModelInterface;
+import cs3500.threetrios.model.ThreeTriosGameModel;
+import cs3500.threetrios.model.ThreeTriosGrid;
+import cs3500.threetrios.view.CellChangeTracker;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Class containing tests regarding tracking which cells a view has to repaint.
+ */
+public class CellChangeTrackerTest {
+
+  @Test
+  public void testNothingBeforeStart() {
+    assertTrue(new CellChangeTracker(new ThreeTriosGameModel()).takeChanges().isEmpty());
+  }
+
+  @Test
+  public void testEveryCellAfterStart() {
+    MainModelInterface model = TestGames.started(new String[]{}, 3, 5, 1);
+    CellChangeTracker tracker = new CellChangeTracker(model);
+    assertEquals(15, tracker.takeChanges().size());
+    assertTrue(tracker.takeChanges().isEmpty());
+  }
+
+  @Test
+  public void testOnlyPlacedAndFlippedCells() {
+    MainModelInterface model = TestGames.started(new String[]{"same"}, 5, 5, 2);
+    CellChangeTracker tracker = new CellChangeTracker(model);
+    tracker.takeChanges();
+    SplittableRandom random = new SplittableRandom(3);
+    while (!model.isGameOver()) {
+      int[][] owners = ownerColors(model);
+      List<int[]> empty = model.getGrid().getEmptyCells();
+      int[] cell = empty.get(random.nextInt(empty.size()));
+      model.placeCard(cell[0], cell[1], model.getPlayerHand(model.getCurrentPlayer()).get(0));
+
+      int[][] after = ownerColors(model);
+      int expected = 0;
+      for (int row = 0; row < 5; row++) {
+        for (int col = 0; col < 5; col++) {
+          if (owners[row][col] != after[row][col]) {
+            expected++;
+          }
+        }
+      }
+      List<int[]> changes = tracker.takeChanges();
+      assertEquals(expected, changes.size());
+      assertTrue(changes.stream().anyMatch(c -> c[0] == cell[0] && c[1] == cell[1]));
+      for (int[] change : changes) {
+        assertTrue(owners[change[0]][change[1]] != after[change[0]][change[1]]);
+      }
+    }
+  }
+
+  @Test
+  public void testNewGameOfOtherSize() {
+    MainModelInterface model = TestGames.started(new String[]{}, 3, 3, 4);
+    CellChangeTracker tracker = new CellChangeTracker(model);
+    tracker.takeChanges();
+    model.placeCard(1, 1, model.getPlayerHand(model.getCurrentPlayer()).get(0));
+    List<int[]> changes = tracker.takeChanges();
+    assertEquals(1, changes.size());
+    assertArrayEquals(new int[]{1, 1}, changes.get(0));
+
+    model.startGame(new ThreeTriosGrid(1, 5, new boolean[1][5]),
+            new DeckGenerator(5).generate(6), new SplittableRandom(5));
+    assertEquals(5, tracker.takeChanges().size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullModel() {
+    new CellChangeTracker(null);
+  }
+
+  /**
+   * Gets the color of the owner of every cell, 0 for an empty cell, 1 for red and 2 for blue.
+   */
+  private int[][] ownerColors(MainModelInterface model) {
+    int[][] colors = new int[5][5];
+    for (int row = 0; row < 5; row++) {
+      for (int col = 0; col < 5; col++) {
+        if (model.getCardOwnerAt(row, col) != null) {
+          colors[row][col] = model.getCardOwnerAt(row, col).getColor().equals("RED") ? 1 : 2;
+        }
+      }
+    }
+    return colors;
+  }
+}
@@ -0,0 +1,121 @@
+import org.junit.Test;
+
+import cs3500.threetrios.model.MainModelInterface;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.SearchState;
+import cs3500.threetrios.strategy.AIMove;
+import cs3500.threetrios.strategy.EndgameSolver;
+import cs3500.threetrios.strategy.EndgameSolver.Outcome;
+import cs3500.threetrios.strategy.EndgameSolver.Solution;
+import cs3500.threetrios.strategy.Position;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Class containing tests regarding solving the last moves of a game exactly.
+ */
+public class EndgameSolverTest {
+  private static final String[][] RULES = {
+      {}, {"reverse"}, {"fallenace"}, {"same"}, {"plus"}, {"reverse", "fallenace"}
+  };
+
+  private final AIMove sentinel = new AIMove(null, new Position(0, 0), 0);
+
+  /**
+   * Finds the final margin with best play by trying every line.
+   */
+  private int bruteForceMargin(SearchState state) {
+    Player mover = state.getCurrentPlayer();
+    if (state.isGameOver()) {
+      return state.getScore(mover) - state.getScore(state.getOpponent(mover));
+    }
+    int best = Integer.MIN_VALUE;
+    int bestMargin = 0;
+    for (int slot = 0; slot < state.getHandSize(mover); slot++) {
+      for (int row = 0; row < state.getRows(); row++) {
+        for (int col = 0; col < state.getCols(); col++) {
+          if (state.canPlace(row, col)) {
+            state.makeMove(slot, row, col);
+            int margin = -bruteForceMargin(state);
+            state.unmakeMove();
+            int rank = Integer.signum(margin) * 1000 + margin;
+            if (rank > best) {
+              best = rank;
+              bestMargin = margin;
+            }
+          }
+        }
+      }
+    }
+    return bestMargin;
+  }
+
+  @Test
+  public void testSolutionMatchesBruteForce() {
+    for (String[] rules : RULES) {
+      for (long seed = 0; seed < 3; seed++) {
+        MainModelInterface model = TestGames.played(rules, 3, 3, seed, 5);
+        Player player = model.getCurrentPlayer();
+        Solution solution = new EndgameSolver(new Minimal(), 9).solve(model, player);
+        int expected = bruteForceMargin(new SearchState(model));
+        assertEquals(expected, solution.getMargin());
+        assertEquals(expected > 0 ? Outcome.WIN : expected < 0 ? Outcome.LOSS : Outcome.DRAW,
+                solution.getOutcome());
+      }
+    }
+  }
+
+  @Test
+  public void testMoveAchievesMargin() {
+    MainModelInterface model = TestGames.played(new String[]{"same"}, 3, 3, 8, 3);
+    EndgameSolver solver = new EndgameSolver(new Minimal(), 9);
+    Solution solution = solver.solve(model, model.getCurrentPlayer());
+    SearchState state = new SearchState(model);
+    AIMove move = solution.getMove();
+    state.makeMove(state.getHand(state.getCurrentPlayer()).indexOf(move.getCard()),
+            move.getRow(), move.getCol());
+    assertEquals(solution.getMargin(), -bruteForceMargin(state));
+  }
+
+  @Test
+  public void testSolvesLargeBoardEndgameQuickly() {
+    MainModelInterface model = TestGames.played(new String[]{}, 5, 7, 3, 28);
+    EndgameSolver solver = new EndgameSolver(new Minimal(), 8);
+    long start = System.currentTimeMillis();
+    AIMove move = solver.findBestMove(model, model.getCurrentPlayer());
+    assertTrue(System.currentTimeMillis() - start < 5000);
+    assertNull(model.getCardAt(move.getRow(), move.getCol()));
+  }
+
+  @Test
+  public void testFallbackAboveThreshold() {
+    MainModelInterface model = TestGames.played(new String[]{}, 3, 3, 1, 2);
+    assertSame(sentinel, new EndgameSolver(new Minimal(), 6)
+            .findBestMove(model, model.getCurrentPlayer()));
+    assertTrue(new EndgameSolver(new Minimal(), 7)
+            .findBestMove(model, model.getCurrentPlayer()) != sentinel);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullFallback() {
+    new EndgameSolver(null, 5);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeThreshold() {
+    new EndgameSolver(new Minimal(), -1);
+  }
+
+  /**
+   * A fallback strategy that always returns the same move, to tell when it is used.
+   */
+  private class Minimal implements cs3500.threetrios.strategy.AIStrategy {
+    @Override
+    public AIMove findBestMove(MainModelInterface model, Player player) {
+      return sentinel;
+    }
+  }
+}
@@ -0,0 +1,146 @@
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.MainModelInterface;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.SearchState;
+import cs3500.threetrios.strategy.AIMove;
+import cs3500.threetrios.strategy.IterativeDeepeningStrat;
+import cs3500.threetrios.strategy.MinimaxStrat;
+import cs3500.threetrios.strategy.ScoreEvaluator;
+import cs3500.threetrios.strategy.StrategyUtil;
+import cs3500.threetrios.strategy.TranspositionTable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Class containing tests regarding the time-bounded iterative deepening strategy.
+ */
+public class IterativeDeepeningStratTest {
+
+  @Test
+  public void testLargeBudgetSearchesToTheEnd() {
+    MainModelInterface model = TestGames.started(new String[]{"same"}, 3, 3, 2);
+    List<Card> hand = model.getPlayerHand(model.getCurrentPlayer());
+    model.placeCard(1, 1, hand.get(0));
+    IterativeDeepeningStrat strat = new IterativeDeepeningStrat(60000);
+    AIMove move = strat.findBestMove(model, model.getCurrentPlayer());
+    assertEquals(8, strat.getLastDepth());
+
+    AIMove full = new MinimaxStrat(8).findBestMove(model, model.getCurrentPlayer());
+    assertEquals(full.getScore(), move.getScore());
+  }
+
+  @Test
+  public void testSmallBudgetStillReturnsMove() {
+    MainModelInterface model = TestGames.started(new String[]{}, 5, 7, 4);
+    Player player = model.getCurrentPlayer();
+    IterativeDeepeningStrat strat = new IterativeDeepeningStrat(1);
+    long start = System.currentTimeMillis();
+    AIMove move = strat.findBestMove(model, player);
+    assertTrue(System.currentTimeMillis() - start < 2000);
+    assertTrue(strat.getLastDepth() >= 1);
+    assertTrue(model.getPlayerHand(player).contains(move.getCard()));
+    assertNull(model.getCardAt(move.getRow(), move.getCol()));
+  }
+
+  @Test
+  public void testInterruptedFirstIterationPlaysDefaultMove() {
+    // 25 cards on 49 cells is enough nodes at depth 1 for the search to see the interrupt
+    MainModelInterface model = TestGames.started(new String[]{}, 7, 7, 6);
+    Player player = model.getCurrentPlayer();
+    IterativeDeepeningStrat strat = new IterativeDeepeningStrat(60_000);
+    AIMove move;
+    Thread.currentThread().interrupt();
+    try {
+      move = strat.findBestMove(model, player);
+    } finally {
+      Thread.interrupted();
+    }
+    AIMove fallback = StrategyUtil.getDefaultMove(model, player);
+    assertEquals(0, strat.getLastDepth());
+    assertEquals(fallback.getCard(), move.getCard());
+    assertEquals(fallback.getRow(), move.getRow());
+    assertEquals(fallback.getCol(), move.getCol());
+  }
+
+  @Test
+  public void testBudgetIsRespected() {
+    MainModelInterface model = TestGames.started(new String[]{"plus"}, 5, 7, 9);
+    IterativeDeepeningStrat strat = new IterativeDeepeningStrat(200);
+    long start = System.currentTimeMillis();
+    strat.findBestMove(model, model.getCurrentPlayer());
+    assertTrue(System.currentTimeMillis() - start < 1500);
+    assertTrue(strat.getLastDepth() < 35);
+  }
+
+  @Test
+  public void testPlaysWholeGameSharingTable() {
+    MainModelInterface model = TestGames.started(new String[]{"reverse"}, 3, 5, 6);
+    IterativeDeepeningStrat strat = new IterativeDeepeningStrat(50);
+    while (!model.isGameOver()) {
+      Player player = model.getCurrentPlayer();
+      AIMove move = strat.findBestMove(model, player);
+      assertTrue(model.canPlaceCard(move.getRow(), move.getCol(), move.getCard()));
+      model.placeCard(move.getRow(), move.getCol(), move.getCard());
+    }
+    assertEquals(1, strat.getLastDepth());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNonPositiveBudget() {
+    new IterativeDeepeningStrat(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullTable() {
+    new IterativeDeepeningStrat(100, new ScoreEvaluator(), null);
+  }
+
+  @Test
+  public void testPonderingFillsTableForEveryReply() {
+    MainModelInterface model = TestGames.started(new String[]{}, 3, 3, 5);
+    model.placeCard(0, 0, model.getPlayerHand(model.getCurrentPlayer()).get(0));
+    model.placeCard(2, 2, model.getPlayerHand(model.getCurrentPlayer()).get(0));
+    Player opponent = model.getCurrentPlayer();
+    Player player = model.getPlayers().get(0) == opponent
+            ? model.getPlayers().get(1) : model.getPlayers().get(0);
+    TranspositionTable table = new TranspositionTable(1 << 14);
+    new IterativeDeepeningStrat(100, new ScoreEvaluator(), table)
+            .ponder(model, player, new AtomicBoolean()).run();
+
+    for (int row = 0; row < 3; row++) {
+      for (int col = 0; col < 3; col++) {
+        if (model.getCardAt(row, col) == null) {
+          SearchState state = new SearchState(model);
+          state.makeMove(0, row, col);
+          assertNotEquals(TranspositionTable.NO_ENTRY, table.probe(state));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testStoppedPonderingSearchesNothing() {
+    MainModelInterface model = TestGames.started(new String[]{}, 5, 7, 3);
+    model.placeCard(0, 0, model.getPlayerHand(model.getCurrentPlayer()).get(0));
+    Player player = model.getPlayers().get(0) == model.getCurrentPlayer()
+            ? model.getPlayers().get(1) : model.getPlayers().get(0);
+    TranspositionTable table = new TranspositionTable(1 << 10);
+    new IterativeDeepeningStrat(100, new ScoreEvaluator(), table)
+            .ponder(model, player, new AtomicBoolean(true)).run();
+    assertEquals(TranspositionTable.NO_ENTRY, table.probe(new SearchState(model)));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testPonderingOnOwnTurn() {
+    MainModelInterface model = TestGames.started(new String[]{}, 3, 3, 1);
+    new IterativeDeepeningStrat(100).ponder(model, model.getCurrentPlayer(), new AtomicBoolean());
+  }
+}
@@ -0,0 +1,88 @@
+import org.junit.Test;
+
+import cs3500.threetrios.model.MainModelInterface;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.strategy.AIMove;
+import cs3500.threetrios.strategy.MctsStrat;
+import cs3500.threetrios.strategy.MinimaxStrat;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Class containing tests regarding the Monte Carlo tree search strategy.
+ */
+public class MctsStratTest {
+  private static final String[][] RULES = {
+      {}, {"reverse"}, {"fallenace"}, {"same"}, {"plus"}
+  };
+
+  /**
+   * Plays a move and gets whether the game is then won, drawn or lost with best play, for the
+   * player who made it.
+   */
+  private int outcomeAfter(MainModelInterface model, AIMove move) {
+    Player player = model.getCurrentPlayer();
+    model.placeCard(move.getRow(), move.getCol(), move.getCard());
+    if (model.isGameOver()) {
+      Player winner = model.getWinner();
+      return winner == null ? 0 : winner.getColor().equals(player.getColor()) ? 1 : -1;
+    }
+    int value = new MinimaxStrat(9).findBestMove(model, model.getCurrentPlayer()).getScore()
+            - 2 * MinimaxStrat.WIN_VALUE;
+    return -Integer.signum(value);
+  }
+
+  @Test
+  public void testFindsBestOutcomeNearTheEnd() {
+    for (String[] rules : RULES) {
+      for (long seed = 0; seed < 4; seed++) {
+        MainModelInterface model = TestGames.played(rules, 3, 3, seed, 6);
+        int best = Integer.signum(new MinimaxStrat(9)
+                .findBestMove(model, model.getCurrentPlayer()).getScore()
+                - 2 * MinimaxStrat.WIN_VALUE);
+        AIMove move = new MctsStrat(3000, seed).findBestMove(model, model.getCurrentPlayer());
+        assertEquals(best, outcomeAfter(model, move));
+      }
+    }
+  }
+
+  @Test
+  public void testSameSeedGivesSameMove() {
+    MainModelInterface model = TestGames.played(new String[]{"same"}, 3, 3, 2, 2);
+    AIMove first = new MctsStrat(500, 42).findBestMove(model, model.getCurrentPlayer());
+    AIMove second = new MctsStrat(500, 42).findBestMove(model, model.getCurrentPlayer());
+    assertEquals(first.getPosition(), second.getPosition());
+    assertEquals(first.getCard(), second.getCard());
+    assertEquals(first.getScore(), second.getScore());
+  }
+
+  @Test
+  public void testParallelTreesWithTimeLimit() {
+    MainModelInterface model = TestGames.played(new String[]{"plus"}, 3, 3, 5, 1);
+    Player player = model.getCurrentPlayer();
+    MctsStrat strat = new MctsStrat(0, 100, MctsStrat.Playout.GREEDY, 4, 7);
+    long start = System.currentTimeMillis();
+    AIMove move = strat.findBestMove(model, player);
+    assertTrue(System.currentTimeMillis() - start < 2000);
+    assertTrue(model.getPlayerHand(player).contains(move.getCard()));
+    assertNull(model.getCardAt(move.getRow(), move.getCol()));
+    assertTrue(move.getScore() >= 0 && move.getScore() <= 1000);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNoBudget() {
+    new MctsStrat(0, 0, MctsStrat.Playout.RANDOM, 1, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNoTrees() {
+    new MctsStrat(100, 0, MctsStrat.Playout.RANDOM, 0, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullPlayout() {
+    new MctsStrat(100, 0, null, 1, 0);
+  }
+}
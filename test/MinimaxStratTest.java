@@ -0,0 +1,151 @@
+import org.junit.Test;
+
+import cs3500.threetrios.model.MainModelInterface;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.SearchState;
+import cs3500.threetrios.strategy.AIMove;
+import cs3500.threetrios.strategy.Evaluator;
+import cs3500.threetrios.strategy.MinimaxStrat;
+import cs3500.threetrios.strategy.ScoreEvaluator;
+import cs3500.threetrios.strategy.StrategyUtil;
+import cs3500.threetrios.strategy.TranspositionTable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Class containing tests regarding the alpha-beta search of the minimax strategy.
+ */
+public class MinimaxStratTest {
+  private static final String[][] RULES = {
+      {}, {"reverse"}, {"fallenace"}, {"same"}, {"plus"}, {"reverse", "plus"}
+  };
+
+  private final Evaluator evaluator = new ScoreEvaluator();
+
+  /**
+   * Searches every line to the given depth without pruning, scoring positions the same way as
+   * the strategy does.
+   */
+  private int plainMinimax(SearchState state, int depth) {
+    Player mover = state.getCurrentPlayer();
+    if (state.isGameOver()) {
+      int margin = state.getScore(mover) - state.getScore(state.getOpponent(mover));
+      return margin == 0 ? 0 : Integer.signum(margin) * MinimaxStrat.WIN_VALUE + margin;
+    }
+    if (depth == 0) {
+      return evaluator.evaluate(state, mover);
+    }
+    int best = Integer.MIN_VALUE;
+    for (int slot = 0; slot < state.getHandSize(mover); slot++) {
+      for (int row = 0; row < state.getRows(); row++) {
+        for (int col = 0; col < state.getCols(); col++) {
+          if (state.canPlace(row, col)) {
+            state.makeMove(slot, row, col);
+            best = Math.max(best, -plainMinimax(state, depth - 1));
+            state.unmakeMove();
+          }
+        }
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Asserts that a strategy's move is worth as much as the best move found without pruning.
+   */
+  private void assertOptimal(MinimaxStrat strat, MainModelInterface model, int depth) {
+    Player player = model.getCurrentPlayer();
+    AIMove move = strat.findBestMove(model, player);
+    SearchState state = new SearchState(model);
+    int expected = plainMinimax(state, depth);
+    int slot = state.getHand(player).indexOf(move.getCard());
+    state.makeMove(slot, move.getRow(), move.getCol());
+    assertEquals(expected, -plainMinimax(state, depth - 1));
+  }
+
+  @Test
+  public void testMovesMatchUnprunedSearch() {
+    for (String[] rules : RULES) {
+      for (int depth = 1; depth <= 3; depth++) {
+        for (long seed = 0; seed < 4; seed++) {
+          MainModelInterface model = TestGames.played(rules, 3, 3, seed, (int) seed);
+          assertOptimal(new MinimaxStrat(depth), model, depth);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testMovesMatchUnprunedSearchWithSharedTable() {
+    TranspositionTable table = new TranspositionTable(1 << 12);
+    for (String[] rules : RULES) {
+      table.clear();
+      for (long seed = 0; seed < 4; seed++) {
+        MainModelInterface model = TestGames.played(rules, 3, 3, seed, 2);
+        assertOptimal(new MinimaxStrat(3, evaluator, table), model, 3);
+      }
+    }
+  }
+
+  @Test
+  public void testSearchToEndFindsWin() {
+    MainModelInterface model = TestGames.played(new String[]{}, 3, 3, 11, 4);
+    SearchState state = new SearchState(model);
+    int value = plainMinimax(state, 9);
+    AIMove move = new MinimaxStrat(9).findBestMove(model, model.getCurrentPlayer());
+    state.makeMove(state.getHand(state.getCurrentPlayer()).indexOf(move.getCard()),
+            move.getRow(), move.getCol());
+    assertEquals(value, -plainMinimax(state, 9));
+  }
+
+  @Test
+  public void testSearchLeavesModelUnchanged() {
+    MainModelInterface model = TestGames.played(new String[]{"same"}, 3, 3, 3, 3);
+    long hash = model.getStateHash();
+    new MinimaxStrat(4).findBestMove(model, model.getCurrentPlayer());
+    assertEquals(hash, model.getStateHash());
+  }
+
+  @Test
+  public void testEvaluatorIsUsed() {
+    MainModelInterface model = TestGames.played(new String[]{}, 3, 3, 5, 0);
+    Evaluator cornerOnly = (state, player) -> {
+      if (state.getCard(2, 2) == null) {
+        return 0;
+      }
+      return state.getOwner(2, 2) == player ? 1 : -1;
+    };
+    AIMove move = new MinimaxStrat(1, cornerOnly).findBestMove(model, model.getCurrentPlayer());
+    assertEquals(2, move.getRow());
+    assertEquals(2, move.getCol());
+    assertTrue(move.getScore() >= 0);
+  }
+
+  @Test
+  public void testMoveCardComesFromHand() {
+    MainModelInterface model = TestGames.played(new String[]{"plus"}, 3, 3, 8, 1);
+    Player player = model.getCurrentPlayer();
+    AIMove move = new MinimaxStrat().findBestMove(model, player);
+    assertTrue(model.getPlayerHand(player).contains(move.getCard()));
+    assertNull(model.getCardAt(move.getRow(), move.getCol()));
+  }
+
+  @Test
+  public void testInterruptedSearchPlaysDefaultMove() {
+    MainModelInterface model = TestGames.played(new String[]{}, 5, 5, 9, 0);
+    Player player = model.getCurrentPlayer();
+    AIMove move;
+    Thread.currentThread().interrupt();
+    try {
+      move = new MinimaxStrat(5).findBestMove(model, player);
+    } finally {
+      Thread.interrupted();
+    }
+    AIMove fallback = StrategyUtil.getDefaultMove(model, player);
+    assertEquals(fallback.getCard(), move.getCard());
+    assertEquals(fallback.getRow(), move.getRow());
+    assertEquals(fallback.getCol(), move.getCol());
+  }
+}
@@ -0,0 +1,147 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.DeckGenerator;
+import cs3500.threetrios.model.MainModelInterface;
+import cs3500.threetrios.model.ModelFactory;
+import cs3500.threetrios.model.ModelMemo;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.ThreeTriosGameModel;
+import cs3500.threetrios.model.ThreeTriosGrid;
+import cs3500.threetrios.strategy.StrategyUtil;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Class containing tests regarding remembering the answers of a game until it changes.
+ */
+public class ModelMemoTest {
+  private MainModelInterface model;
+  private ModelMemo memo;
+
+  @Before
+  public void setup() {
+    model = ModelFactory.createModel(new String[]{});
+    boolean[][] holes = new boolean[3][3];
+    holes[1][1] = true;
+    holes[2][2] = true;
+    model.startGame(new ThreeTriosGrid(3, 3, holes), new DeckGenerator(4).generate(10),
+            new SplittableRandom(5));
+    memo = new ModelMemo(model);
+  }
+
+  private void assertMatchesModel() {
+    Player current = model.getCurrentPlayer();
+    for (Card card : model.getPlayerHand(current)) {
+      for (int row = 0; row < 3; row++) {
+        for (int col = 0; col < 3; col++) {
+          assertEquals(model.canPlaceCard(row, col, card), memo.canPlaceCard(row, col, card));
+          assertEquals(model.getFlippableCards(row, col, card),
+                  memo.getFlippableCards(row, col, card));
+        }
+      }
+    }
+    for (Player player : model.getPlayers()) {
+      assertEquals(model.getPlayerScore(player), memo.getPlayerScore(player));
+    }
+  }
+
+  @Test
+  public void testRepeatedQueriesAreRemembered() {
+    Card card = model.getPlayerHand(model.getCurrentPlayer()).get(0);
+    int flips = memo.getFlippableCards(0, 1, card);
+    assertEquals(0, memo.getHitCount());
+    assertEquals(flips, memo.getFlippableCards(0, 1, card));
+    assertTrue(memo.canPlaceCard(0, 1, card));
+    assertTrue(memo.canPlaceCard(0, 1, card));
+    memo.getPlayerScore(model.getCurrentPlayer());
+    memo.getPlayerScore(model.getCurrentPlayer());
+    assertEquals(3, memo.getHitCount());
+  }
+
+  @Test
+  public void testAnswersFollowMoves() {
+    assertMatchesModel();
+    while (!model.isGameOver()) {
+      int[] moves = memo.getLegalMoves(model.getPlayerHand(model.getCurrentPlayer()));
+      int handSize = model.getPlayerHand(model.getCurrentPlayer()).size();
+      int cell = moves[moves.length - 1] / handSize;
+      Card card = model.getPlayerHand(model.getCurrentPlayer()).get(
+              moves[moves.length - 1] % handSize);
+      model.placeCard(cell / 3, cell % 3, card);
+      long hits = memo.getHitCount();
+      assertMatchesModel();
+      assertEquals(hits, memo.getHitCount());
+      assertMatchesModel();
+      assertTrue(memo.getHitCount() > hits);
+    }
+    assertFalse(memo.canPlaceCard(0, 0, model.getPlayerHand(model.getCurrentPlayer()).get(0)));
+  }
+
+  @Test
+  public void testLegalMovesOfHand() {
+    List<Card> hand = model.getPlayerHand(model.getCurrentPlayer());
+    model.placeCard(0, 0, hand.get(2));
+    hand = model.getPlayerHand(model.getCurrentPlayer());
+    int[] moves = memo.getLegalMoves(hand);
+    assertEquals(6 * hand.size(), moves.length);
+    for (int i = 0; i < moves.length; i++) {
+      int cell = moves[i] / hand.size();
+      assertTrue(cell != 0 && cell != 4 && cell != 8);
+      assertTrue(i == 0 || moves[i] > moves[i - 1]);
+    }
+
+    moves[0] = -1;
+    int[] again = memo.getLegalMoves(hand);
+    assertEquals(1, again[0] / hand.size());
+    assertArrayEquals(again, memo.getLegalMoves(hand));
+  }
+
+  @Test
+  public void testOtherHandHasNoLegalMoves() {
+    Player waiting = model.getPlayers().get(1);
+    assertEquals(0, memo.getLegalMoves(model.getPlayerHand(waiting)).length);
+  }
+
+  @Test
+  public void testGameNotStarted() {
+    ModelMemo unstarted = new ModelMemo(new ThreeTriosGameModel());
+    assertFalse(unstarted.canPlaceCard(0, 0, null));
+    assertEquals(0, unstarted.getFlippableCards(0, 0, null));
+  }
+
+  @Test
+  public void testOutOfBoundsAsksModel() {
+    Card card = model.getPlayerHand(model.getCurrentPlayer()).get(0);
+    assertFalse(memo.canPlaceCard(-1, 0, card));
+    assertEquals(0, memo.getFlippableCards(3, 3, card));
+  }
+
+  @Test
+  public void testForgottenThreadMemoIsReplaced() {
+    ModelMemo shared = StrategyUtil.memoOf(model);
+    assertSame(shared, StrategyUtil.memoOf(model));
+    StrategyUtil.forgetMemo();
+    assertNotSame(shared, StrategyUtil.memoOf(model));
+    StrategyUtil.forgetMemo();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullModel() {
+    new ModelMemo(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullPlayer() {
+    memo.getPlayerScore(null);
+  }
+}
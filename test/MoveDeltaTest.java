@@ -0,0 +1,219 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import cs3500.threetrios.features.ModelFeatures;
+import cs3500.threetrios.model.BattleRule;
+import cs3500.threetrios.model.BitboardGrid;
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.Direction;
+import cs3500.threetrios.model.MainModelInterface;
+import cs3500.threetrios.model.ModelFactory;
+import cs3500.threetrios.model.MoveDelta;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.RuleSet;
+import cs3500.threetrios.model.ThreeTriosCard;
+import cs3500.threetrios.tournament.Tournament;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Class containing tests regarding the cell deltas told to model listeners after each move.
+ */
+public class MoveDeltaTest {
+
+  /**
+   * A listener that keeps every delta and writes down the order of all notifications.
+   */
+  private static class RecordingListener implements ModelFeatures {
+    private final List<MoveDelta> deltas = new ArrayList<>();
+    private final StringBuilder log = new StringBuilder();
+
+    @Override
+    public void notifyTurnChange(Player player) {
+      log.append("turn ");
+    }
+
+    @Override
+    public void notifyGameOver(Player winner) {
+      log.append("over ");
+    }
+
+    @Override
+    public void notifyCellsChanged(MoveDelta delta) {
+      deltas.add(delta);
+      log.append("cells ");
+    }
+  }
+
+  private MainModelInterface started(String[] rules, long seed) {
+    return TestGames.started(rules, new BitboardGrid(5, 5, new boolean[5][5]), seed);
+  }
+
+  @Test
+  public void testDeltasRebuildTheBoardUnderEveryRule() {
+    for (String[] rules : Tournament.ruleCombinations()) {
+      for (long seed = 0; seed < 4; seed++) {
+        MainModelInterface model = started(rules, seed);
+        RecordingListener listener = new RecordingListener();
+        model.addFeaturesListener(listener);
+        RuleSet ruleSet = model.getRuleSet();
+        Player[][] owners = new Player[5][5];
+        SplittableRandom random = new SplittableRandom(seed);
+
+        while (!model.isGameOver()) {
+          Player player = model.getCurrentPlayer();
+          List<Card> hand = model.getPlayerHand(player);
+          Card card = hand.get(random.nextInt(hand.size()));
+          int[] cell = model.getGrid().getEmptyCells().get(0);
+          model.placeCard(cell[0], cell[1], card);
+
+          MoveDelta delta = listener.deltas.get(listener.deltas.size() - 1);
+          assertSame(player, delta.getPlayer());
+          assertSame(card, delta.getCard());
+          assertEquals(cell[0], delta.getRow());
+          assertEquals(cell[1], delta.getCol());
+          owners[cell[0]][cell[1]] = player;
+          for (MoveDelta.Flip flip : delta.getFlips()) {
+            assertSame(owners[flip.getRow()][flip.getCol()], flip.getOldOwner());
+            assertNotEquals(flip.getOldOwner(), flip.getNewOwner());
+            assertTrue(flip.getRule() == null || ruleSet.has(flip.getRule()));
+            assertTrue(flip.getRule() != null || !ruleSet.has(BattleRule.REVERSE));
+            owners[flip.getRow()][flip.getCol()] = flip.getNewOwner();
+          }
+          for (int row = 0; row < 5; row++) {
+            for (int col = 0; col < 5; col++) {
+              assertSame(model.getCardOwnerAt(row, col), owners[row][col]);
+            }
+          }
+        }
+        assertEquals(25, listener.deltas.size());
+      }
+    }
+  }
+
+  @Test
+  public void testRuleFlipsAreNamed() {
+    int[] named = new int[BattleRule.values().length];
+    for (String[] rules : new String[][]{{"same"}, {"reverse"}}) {
+      for (long seed = 0; seed < 20; seed++) {
+        MainModelInterface model = started(rules, seed);
+        RecordingListener listener = new RecordingListener();
+        model.addFeaturesListener(listener);
+        SplittableRandom random = new SplittableRandom(seed);
+        while (!model.isGameOver()) {
+          List<int[]> cells = model.getGrid().getEmptyCells();
+          int[] cell = cells.get(random.nextInt(cells.size()));
+          List<Card> hand = model.getPlayerHand(model.getCurrentPlayer());
+          model.placeCard(cell[0], cell[1], hand.get(random.nextInt(hand.size())));
+        }
+        for (MoveDelta delta : listener.deltas) {
+          for (MoveDelta.Flip flip : delta.getFlips()) {
+            if (flip.getRule() != null) {
+              named[flip.getRule().ordinal()]++;
+            }
+          }
+        }
+      }
+    }
+    assertTrue(named[BattleRule.SAME.ordinal()] > 0);
+    assertTrue(named[BattleRule.REVERSE.ordinal()] > 0);
+  }
+
+  @Test
+  public void testFallenAceFlipIsNamed() {
+    List<Card> deck = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      deck.add(new ThreeTriosCard("Ten" + i, 10, 10, 10, 10));
+      deck.add(new ThreeTriosCard("One" + i, 1, 1, 1, 1));
+    }
+    MainModelInterface model = ModelFactory.createModel(new String[]{"fallenace"});
+    model.startGame(new BitboardGrid(3, 3, new boolean[3][3]), deck, new SplittableRandom(0));
+    RecordingListener listener = new RecordingListener();
+    model.addFeaturesListener(listener);
+    model.placeCard(0, 0, cardWithSide(model, 10));
+    model.placeCard(0, 1, cardWithSide(model, 1));
+
+    List<MoveDelta.Flip> flips = listener.deltas.get(1).getFlips();
+    assertEquals(1, flips.size());
+    assertEquals(0, flips.get(0).getCol());
+    assertEquals(BattleRule.FALLEN_ACE, flips.get(0).getRule());
+  }
+
+  @Test
+  public void testPlusFlipsAreNamed() {
+    List<Card> deck = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      deck.add(new ThreeTriosCard("Five" + i, 5, 5, 5, 5));
+    }
+    MainModelInterface model = ModelFactory.createModel(new String[]{"plus"});
+    model.startGame(new BitboardGrid(3, 3, new boolean[3][3]), deck, new SplittableRandom(0));
+    RecordingListener listener = new RecordingListener();
+    model.addFeaturesListener(listener);
+    model.placeCard(0, 1, model.getPlayerHand(model.getCurrentPlayer()).get(0));
+    model.placeCard(2, 2, model.getPlayerHand(model.getCurrentPlayer()).get(0));
+    model.placeCard(1, 0, model.getPlayerHand(model.getCurrentPlayer()).get(0));
+    model.placeCard(0, 0, model.getPlayerHand(model.getCurrentPlayer()).get(0));
+
+    List<MoveDelta.Flip> flips = listener.deltas.get(3).getFlips();
+    assertEquals(2, flips.size());
+    for (MoveDelta.Flip flip : flips) {
+      assertEquals(BattleRule.PLUS, flip.getRule());
+      assertSame(model.getPlayers().get(0), flip.getOldOwner());
+      assertSame(model.getPlayers().get(1), flip.getNewOwner());
+    }
+  }
+
+  /**
+   * Finds a card with the given value on every side in the current player's hand, which the
+   * deal must have given them.
+   */
+  private Card cardWithSide(MainModelInterface model, int value) {
+    for (Card card : model.getPlayerHand(model.getCurrentPlayer())) {
+      if (card.getAttackPower(Direction.NORTH) == value) {
+        return card;
+      }
+    }
+    throw new IllegalStateException("No card of value " + value);
+  }
+
+  @Test
+  public void testDeltaComesBeforeTurnChange() {
+    MainModelInterface model = started(new String[]{}, 1);
+    RecordingListener listener = new RecordingListener();
+    model.addFeaturesListener(listener);
+    model.placeCard(0, 0, model.getPlayerHand(model.getCurrentPlayer()).get(0));
+    assertEquals("cells turn ", listener.log.toString());
+  }
+
+  @Test
+  public void testNoDeltaForRejectedMove() {
+    MainModelInterface model = started(new String[]{"same"}, 2);
+    RecordingListener listener = new RecordingListener();
+    model.addFeaturesListener(listener);
+    model.placeCard(0, 0, model.getPlayerHand(model.getCurrentPlayer()).get(0));
+    try {
+      model.placeCard(0, 0, model.getPlayerHand(model.getCurrentPlayer()).get(0));
+    } catch (IllegalArgumentException | IllegalStateException e) {
+      // the cell is taken
+    }
+    assertEquals(1, listener.deltas.size());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testFlipsCannotBeChanged() {
+    MoveDelta delta = new MoveDelta(null, new ThreeTriosCard("Ace", 1, 1, 1, 1), 0, 0,
+            new ArrayList<>());
+    delta.getFlips().add(new MoveDelta.Flip(0, 1, null, null, null));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullCard() {
+    new MoveDelta(null, null, 0, 0, new ArrayList<>());
+  }
+}
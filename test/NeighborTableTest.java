@@ -0,0 +1,63 @@
+import org.junit.Test;
+
+import cs3500.threetrios.model.Direction;
+import cs3500.threetrios.model.NeighborTable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Class containing tests regarding the precomputed neighbour table of a grid.
+ */
+public class NeighborTableTest {
+  private final boolean[][] holes = new boolean[][]{
+          {false, true, false},
+          {false, false, false},
+          {false, false, true}
+  };
+  private final NeighborTable table = new NeighborTable(3, 3, holes);
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructorMismatchedHoles() {
+    new NeighborTable(3, 3, new boolean[2][3]);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testIndexOfOutOfBounds() {
+    table.indexOf(3, 0);
+  }
+
+  @Test
+  public void testCenterNeighborsSkipHoles() {
+    int center = table.indexOf(1, 1);
+    assertEquals(3, table.neighborCount(center));
+    for (int k = table.neighborStart(center); k < table.neighborEnd(center); k++) {
+      int adjacent = table.neighborCell(k);
+      assertTrue(adjacent != table.indexOf(0, 1));
+      if (adjacent == table.indexOf(2, 1)) {
+        assertEquals(Direction.SOUTH, table.neighborDirection(k));
+      }
+      if (adjacent == table.indexOf(1, 0)) {
+        assertEquals(Direction.WEST, table.neighborDirection(k));
+      }
+    }
+  }
+
+  @Test
+  public void testCornerAndHoleNeighbors() {
+    int corner = table.indexOf(0, 0);
+    assertEquals(1, table.neighborCount(corner));
+    assertEquals(table.indexOf(1, 0), table.neighborCell(table.neighborStart(corner)));
+    assertEquals(Direction.SOUTH, table.neighborDirection(table.neighborStart(corner)));
+    assertEquals(0, table.neighborCount(table.indexOf(0, 1)));
+  }
+
+  @Test
+  public void testRowAndColOfIndex() {
+    int cell = table.indexOf(2, 1);
+    assertEquals(7, cell);
+    assertEquals(2, table.rowOf(cell));
+    assertEquals(1, table.colOf(cell));
+    assertTrue(table.isHole(table.indexOf(2, 2)));
+  }
+}
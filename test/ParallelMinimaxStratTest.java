@@ -0,0 +1,87 @@
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import cs3500.threetrios.model.MainModelInterface;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.strategy.AIMove;
+import cs3500.threetrios.strategy.MinimaxStrat;
+import cs3500.threetrios.strategy.ParallelMinimaxStrat;
+import cs3500.threetrios.strategy.ScoreEvaluator;
+import cs3500.threetrios.strategy.TranspositionTable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Class containing tests regarding the parallel root-split minimax strategy.
+ */
+public class ParallelMinimaxStratTest {
+  private static final String[][] RULES = {
+      {}, {"reverse"}, {"fallenace"}, {"same"}, {"plus"}, {"fallenace", "same"}
+  };
+
+  private final ForkJoinPool pool = new ForkJoinPool(4);
+
+  @After
+  public void tearDown() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  public void testValueMatchesSequentialSearch() {
+    for (String[] rules : RULES) {
+      for (int depth = 1; depth <= 3; depth++) {
+        MainModelInterface model = TestGames.played(rules, 3, 5, depth, 2 * depth);
+        Player player = model.getCurrentPlayer();
+        AIMove sequential = new MinimaxStrat(depth).findBestMove(model, player);
+        AIMove parallel = new ParallelMinimaxStrat(depth, new ScoreEvaluator(), null, pool)
+                .findBestMove(model, player);
+        assertEquals(sequential.getScore(), parallel.getScore());
+      }
+    }
+  }
+
+  @Test
+  public void testValueMatchesWithSharedTable() {
+    TranspositionTable table = new TranspositionTable(1 << 14);
+    for (String[] rules : RULES) {
+      table.clear();
+      MainModelInterface model = TestGames.played(rules, 3, 5, 3, 3);
+      Player player = model.getCurrentPlayer();
+      AIMove sequential = new MinimaxStrat(4).findBestMove(model, player);
+      AIMove parallel = new ParallelMinimaxStrat(4, new ScoreEvaluator(), table, pool)
+              .findBestMove(model, player);
+      assertEquals(sequential.getScore(), parallel.getScore());
+    }
+  }
+
+  @Test
+  public void testMoveIsLegal() {
+    MainModelInterface model = TestGames.played(new String[]{"plus"}, 3, 5, 7, 5);
+    Player player = model.getCurrentPlayer();
+    AIMove move = new ParallelMinimaxStrat(3).findBestMove(model, player);
+    assertTrue(model.getPlayerHand(player).contains(move.getCard()));
+    assertNull(model.getCardAt(move.getRow(), move.getCol()));
+  }
+
+  @Test
+  public void testLastMove() {
+    MainModelInterface model = TestGames.played(new String[]{}, 3, 5, 1, 14);
+    AIMove move = new ParallelMinimaxStrat(3, new ScoreEvaluator(), null, pool)
+            .findBestMove(model, model.getCurrentPlayer());
+    assertNull(model.getCardAt(move.getRow(), move.getCol()));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullPool() {
+    new ParallelMinimaxStrat(2, new ScoreEvaluator(), null, null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidDepth() {
+    new ParallelMinimaxStrat(0);
+  }
+}
@@ -0,0 +1,171 @@
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import cs3500.threetrios.benchmark.EngineBenchmarks;
+import cs3500.threetrios.benchmark.Perft;
+import cs3500.threetrios.benchmark.Perft.Counts;
+import cs3500.threetrios.features.ModelFeatures;
+import cs3500.threetrios.model.BoardConfigReader;
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.CardConfigReader;
+import cs3500.threetrios.model.MainModelInterface;
+import cs3500.threetrios.model.ModelFactory;
+import cs3500.threetrios.model.MoveDelta;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.ThreeTriosGameModel;
+import cs3500.threetrios.tournament.Tournament;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Class containing tests regarding counting the lines of play with perft.
+ */
+public class PerftTest {
+
+  /**
+   * Plays the first card of the current player's hand on the first empty cell, some times.
+   */
+  private void playFirstMoves(MainModelInterface model, int moves) {
+    for (int i = 0; i < moves; i++) {
+      int[] cell = firstEmpty(model, 0);
+      model.placeCard(cell[0], cell[1], model.getPlayerHand(model.getCurrentPlayer()).get(0));
+    }
+  }
+
+  private int[] firstEmpty(MainModelInterface model, int skip) {
+    int[] dims = model.getGridDimensions();
+    for (int row = 0; row < dims[0]; row++) {
+      for (int col = 0; col < dims[1]; col++) {
+        if (!model.isHole(row, col) && model.getCardAt(row, col) == null && skip-- == 0) {
+          return new int[]{row, col};
+        }
+      }
+    }
+    throw new IllegalStateException("No empty cell");
+  }
+
+  @Test
+  public void testDepthZero() {
+    Counts counts = Perft.count(TestGames.started(new String[]{}, 3, 3, 1), 0);
+    assertEquals(1, counts.getLeaves());
+    assertEquals(0, counts.getMoves());
+  }
+
+  @Test
+  public void testLeavesMultiplyHandsAndCells() {
+    MainModelInterface model = TestGames.started(new String[]{"same"}, 3, 5, 2);
+    assertEquals(8 * 15, Perft.count(model, 1).getLeaves());
+    Counts counts = Perft.count(model, 2);
+    assertEquals(8 * 15 * 8 * 14, counts.getLeaves());
+    assertEquals(8 * 15 + counts.getLeaves(), counts.getMoves());
+  }
+
+  @Test
+  public void testStopsAtEndOfGame() {
+    MainModelInterface model = TestGames.started(new String[]{"plus"}, 1, 3, 3);
+    assertEquals(2 * 3 * 2 * 2 * 1, Perft.count(model, 3).getLeaves());
+    assertEquals(2 * 3 * 2 * 2 * 1, Perft.count(model, 7).getLeaves());
+  }
+
+  @Test
+  public void testDoesNotChangeGame() {
+    MainModelInterface model = TestGames.started(new String[]{"reverse"}, 3, 3, 4);
+    playFirstMoves(model, 3);
+    long hash = model.getStateHash();
+    Perft.count(model, 3);
+    assertEquals(hash, model.getStateHash());
+  }
+
+  /**
+   * A listener that keeps the delta of the last move.
+   */
+  private static class LastDelta implements ModelFeatures {
+    private MoveDelta delta;
+
+    @Override
+    public void notifyTurnChange(Player player) {
+      // only the delta is checked
+    }
+
+    @Override
+    public void notifyGameOver(Player winner) {
+      // only the delta is checked
+    }
+
+    @Override
+    public void notifyCellsChanged(MoveDelta delta) {
+      this.delta = delta;
+    }
+  }
+
+  @Test
+  public void testFlipsMatchModelMovesUnderEveryRule() {
+    for (String[] rules : Tournament.ruleCombinations()) {
+      for (long seed = 0; seed < 4; seed++) {
+        MainModelInterface model = TestGames.played(rules, 3, 5, seed, 6);
+        Counts counts = Perft.count(model, 1);
+
+        long leaves = 0;
+        long flips = 0;
+        long comboFlips = 0;
+        long combos = 0;
+        int handSize = model.getPlayerHand(model.getCurrentPlayer()).size();
+        int empty = model.getGrid().getEmptyCellCount();
+        for (int slot = 0; slot < handSize; slot++) {
+          for (int skip = 0; skip < empty; skip++) {
+            MainModelInterface replay = TestGames.played(rules, 3, 5, seed, 6);
+            LastDelta listener = new LastDelta();
+            replay.addFeaturesListener(listener);
+            int[] cell = firstEmpty(replay, skip);
+            replay.placeCard(cell[0], cell[1],
+                    replay.getPlayerHand(replay.getCurrentPlayer()).get(slot));
+            leaves++;
+            boolean combo = false;
+            for (MoveDelta.Flip flip : listener.delta.getFlips()) {
+              flips++;
+              if (Math.abs(flip.getRow() - cell[0]) + Math.abs(flip.getCol() - cell[1]) > 1) {
+                comboFlips++;
+                combo = true;
+              }
+            }
+            combos += combo ? 1 : 0;
+          }
+        }
+        assertEquals(leaves, counts.getLeaves());
+        assertEquals(flips, counts.getFlips());
+        assertEquals(comboFlips, counts.getComboFlips());
+        assertEquals(combos, counts.getCombos());
+      }
+    }
+  }
+
+  @Test
+  public void testKnownCountsOfBundledBoard() throws IOException {
+    String[][] rules = {{}, {"same"}, {"reverse", "fallenace"}, {"fallenace", "same"},
+        {"reverse", "plus"}};
+    long[][] expected = {{31928, 1333, 1333}, {33087, 1333, 1333}, {83795, 0, 0},
+        {33087, 1333, 1333}, {50447, 0, 0}};
+    List<Card> deck = CardConfigReader.readCardConfig(
+            EngineBenchmarks.DEFAULT_CONFIGS + "/card2-EnoughCards");
+    for (int i = 0; i < rules.length; i++) {
+      MainModelInterface model = ModelFactory.createModel(rules[i]);
+      model.startGame(BoardConfigReader.readBoardConfig(
+              EngineBenchmarks.DEFAULT_CONFIGS + "/board2-CellsReachWithHoles"),
+              new ArrayList<>(deck), new SplittableRandom(0));
+      Counts counts = Perft.count(model, 3);
+      assertEquals(504504, counts.getLeaves());
+      assertEquals(expected[i][0], counts.getFlips());
+      assertEquals(expected[i][1], counts.getComboFlips());
+      assertEquals(expected[i][2], counts.getCombos());
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeDepth() {
+    Perft.count(new ThreeTriosGameModel(), -1);
+  }
+}
@@ -0,0 +1,250 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import cs3500.threetrios.model.BattleRule;
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.MainModelInterface;
+import cs3500.threetrios.model.Player;
+import cs3500.threetrios.model.SearchState;
+import cs3500.threetrios.model.ThreeTriosGrid;
+import cs3500.threetrios.model.Zobrist;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Class containing tests regarding making and taking back moves on a search state.
+ */
+public class SearchStateTest {
+  private static final String[][] RULES = {
+      {}, {"reverse"}, {"fallenace"}, {"same"}, {"plus"},
+      {"reverse", "fallenace"}, {"fallenace", "same"}, {"reverse", "plus"}
+  };
+
+  /**
+   * Starts a game with the given rules on a 4x5 board with three holes.
+   *
+   * @param rules the rule arguments passed to the model factory
+   * @param seed  the seed of the deck and the deal
+   * @return the started model
+   */
+  private MainModelInterface startedModel(String[] rules, long seed) {
+    boolean[][] holes = new boolean[4][5];
+    holes[0][2] = true;
+    holes[2][1] = true;
+    holes[3][4] = true;
+    return TestGames.started(rules, new ThreeTriosGrid(4, 5, holes), seed);
+  }
+
+  /**
+   * Asserts that a search state shows the same cards, owners, hands, scores and turn as a model.
+   */
+  private void assertSameState(MainModelInterface model, SearchState state) {
+    for (int i = 0; i < state.getRows(); i++) {
+      for (int j = 0; j < state.getCols(); j++) {
+        assertEquals(model.getCardAt(i, j), state.getCard(i, j));
+        assertEquals(model.getCardOwnerAt(i, j), state.getOwner(i, j));
+      }
+    }
+    assertEquals(model.getCurrentPlayer(), state.getCurrentPlayer());
+    assertEquals(Zobrist.hashBoard(model.getGrid()), model.getGrid().getBoardHash());
+    assertEquals(model.getStateHash(), state.getHash());
+    for (Player player : model.getPlayers()) {
+      assertEquals(model.getPlayerHand(player), state.getHand(player));
+      assertEquals(model.getPlayerScore(player), state.getScore(player));
+    }
+  }
+
+  @Test
+  public void testMovesMatchModelForEveryRuleSet() {
+    for (String[] rules : RULES) {
+      for (long seed = 0; seed < 10; seed++) {
+        MainModelInterface model = startedModel(rules, seed);
+        SearchState state = new SearchState(model);
+        Random moves = new Random(seed);
+
+        while (!state.isGameOver()) {
+          Player player = state.getCurrentPlayer();
+          int slot = moves.nextInt(state.getHandSize(player));
+          int row;
+          int col;
+          do {
+            row = moves.nextInt(state.getRows());
+            col = moves.nextInt(state.getCols());
+          } while (!state.canPlace(row, col));
+
+          Card card = state.getHandCard(player, slot);
+          Player[] owners = ownersOf(state);
+          int flips = state.makeMove(slot, row, col);
+          model.placeCard(row, col, card);
+          assertSameState(model, state);
+          assertFlipsListedOnce(state, owners, flips, row * state.getCols() + col);
+        }
+        assertEquals(model.isGameOver(), state.isGameOver());
+      }
+    }
+  }
+
+  /**
+   * Gets the owner of every cell of a search state, by cell index.
+   */
+  private Player[] ownersOf(SearchState state) {
+    Player[] owners = new Player[state.getRows() * state.getCols()];
+    for (int cell = 0; cell < owners.length; cell++) {
+      owners[cell] = state.getOwner(cell / state.getCols(), cell % state.getCols());
+    }
+    return owners;
+  }
+
+  /**
+   * Asserts that the last move listed each card whose owner it changed exactly once, and no
+   * other card.
+   */
+  private void assertFlipsListedOnce(SearchState state, Player[] before, int flips, int placed) {
+    Player[] after = ownersOf(state);
+    int changed = 0;
+    for (int cell = 0; cell < after.length; cell++) {
+      if (cell != placed && before[cell] != after[cell]) {
+        changed++;
+      }
+    }
+    assertEquals(changed, flips);
+    assertEquals(changed, state.getLastFlipCount());
+    boolean[] listed = new boolean[after.length];
+    for (int i = 0; i < flips; i++) {
+      int cell = state.getLastFlippedCell(i);
+      assertTrue(before[cell] != after[cell] && !listed[cell]);
+      listed[cell] = true;
+    }
+  }
+
+  /**
+   * Describes every card, owner, hand and the turn of a search state.
+   */
+  private String describe(SearchState state) {
+    StringBuilder out = new StringBuilder();
+    for (int i = 0; i < state.getRows(); i++) {
+      for (int j = 0; j < state.getCols(); j++) {
+        Card card = state.getCard(i, j);
+        out.append(card == null ? "_" : card.getName()).append(":");
+        out.append(card == null ? "_" : state.getOwner(i, j).getColor()).append(" ");
+      }
+    }
+    for (Player player : state.getPlayers()) {
+      for (Card card : state.getHand(player)) {
+        out.append(card.getName()).append(",");
+      }
+      out.append("|");
+    }
+    return out.append(state.getCurrentPlayer().getColor()).toString();
+  }
+
+  @Test
+  public void testUnmakeRestoresEveryEarlierState() {
+    for (String[] rules : RULES) {
+      MainModelInterface model = startedModel(rules, 7);
+      SearchState state = new SearchState(model);
+      List<String> history = new ArrayList<>();
+      Random moves = new Random(3);
+
+      while (!state.isGameOver()) {
+        history.add(describe(state));
+        int slot = moves.nextInt(state.getHandSize(state.getCurrentPlayer()));
+        int row;
+        int col;
+        do {
+          row = moves.nextInt(state.getRows());
+          col = moves.nextInt(state.getCols());
+        } while (!state.canPlace(row, col));
+        state.makeMove(slot, row, col);
+      }
+
+      assertEquals(17, state.getMoveCount());
+      while (state.getMoveCount() > 0) {
+        state.unmakeMove();
+        assertEquals(history.get(state.getMoveCount()), describe(state));
+      }
+      assertSameState(model, state);
+    }
+  }
+
+  @Test
+  public void testMakeMoveReportsFlips() {
+    MainModelInterface model = startedModel(new String[]{}, 1);
+    SearchState state = new SearchState(model);
+    Player red = state.getCurrentPlayer();
+    Player blue = state.getOpponent(red);
+    state.makeMove(0, 0, 0);
+    assertEquals(0, state.getLastFlipCount());
+    assertEquals(blue, state.getCurrentPlayer());
+    assertEquals(red, state.getOwner(0, 0));
+    assertEquals(1, state.getMoveCount());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testUnmakeWithoutMove() {
+    new SearchState(startedModel(new String[]{}, 1)).unmakeMove();
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testMakeMoveOnHole() {
+    new SearchState(startedModel(new String[]{}, 1)).makeMove(0, 0, 2);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMakeMoveWithBadHandSlot() {
+    new SearchState(startedModel(new String[]{}, 1)).makeMove(20, 0, 0);
+  }
+
+  @Test
+  public void testRuleSetComesFromDecorators() {
+    SearchState state = new SearchState(startedModel(new String[]{"reverse", "same"}, 1));
+    assertEquals(2, state.getRuleSet().getRules().size());
+    assertEquals(BattleRule.REVERSE, state.getRuleSet().getRules().get(0));
+    assertEquals(BattleRule.SAME, state.getRuleSet().getRules().get(1));
+  }
+
+  @Test
+  public void testHashIsRestoredByUnmake() {
+    SearchState state = new SearchState(startedModel(new String[]{"same"}, 4));
+    long start = state.getHash();
+    state.makeMove(0, 0, 0);
+    long afterOne = state.getHash();
+    assertNotEquals(start, afterOne);
+    state.makeMove(1, 0, 1);
+    state.makeMove(2, 1, 1);
+    state.unmakeMove();
+    state.unmakeMove();
+    assertEquals(afterOne, state.getHash());
+    state.unmakeMove();
+    assertEquals(start, state.getHash());
+  }
+
+  @Test
+  public void testTranspositionsHashEqually() {
+    MainModelInterface model = startedModel(new String[]{}, 5);
+    SearchState first = new SearchState(model);
+    SearchState second = new SearchState(model);
+    Player red = first.getCurrentPlayer();
+    Player blue = first.getOpponent(red);
+    Card redCard = first.getHandCard(red, 0);
+    Card blueCard = first.getHandCard(blue, 0);
+    Card lastRed = first.getHandCard(red, 1);
+
+    first.makeMove(0, 0, 0);
+    first.makeMove(0, 3, 0);
+    first.makeMove(0, 0, 4);
+    second.makeMove(1, 0, 4);
+    second.makeMove(0, 3, 0);
+    second.makeMove(0, 0, 0);
+
+    assertEquals(redCard, first.getCard(0, 0));
+    assertEquals(lastRed, second.getCard(0, 4));
+    assertEquals(blueCard, second.getCard(3, 0));
+    assertEquals(first.getHash(), second.getHash());
+  }
+}
@@ -10,6 +10,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.MainModelInterface;
 import cs3500.threetrios.model.Player;
 import cs3500.threetrios.strategy.AIMove;
 import cs3500.threetrios.strategy.AIStrategy;
@@ -20,6 +21,7 @@ import cs3500.threetrios.strategy.MaxFlipsStrat;
 import cs3500.threetrios.strategy.MinimaxStrat;
 import cs3500.threetrios.strategy.MockCard;
 import cs3500.threetrios.strategy.MockPlayer;
+import cs3500.threetrios.strategy.MockStrategy;
 import cs3500.threetrios.strategy.MockThreeTriosModel;
 import cs3500.threetrios.strategy.Position;
 
@@ -104,7 +106,7 @@ public class StrategyTests {
     cornerStrategy = new CornerStrat();
     maxFlipsStrategy = new MaxFlipsStrat();
     defensiveStrategy = new DefensiveStrat();
-    minimaxStrategy = new MinimaxStrat(maxFlipsStrategy); // using MaxFlips as opponent strategy
+    minimaxStrategy = new MinimaxStrat(2);
     strongCard = new MockCard("strong", 9, 9, 9, 9);
     weakCard = new MockCard("weak", 1, 1, 1, 1);
     model.setCurrentPlayer(redPlayer);
@@ -400,37 +402,6 @@ public class StrategyTests {
     assertTrue(move.getScore() >= 0);
   }
 
-  // Override methods
-  @Test
-  public void testMinimaxStratLooksAhead() {
-    MockThreeTriosModel model = new MockThreeTriosModel(log) {
-      @Override
-      public int getFlippableCards(int row, int col, Card card) {
-        if (row == 1 && col == 1) {
-          return 2;
-        }
-        return 1;
-      }
-
-      @Override
-      public List<Card> getPlayerHand(Player player) {
-        List<Card> hand = new ArrayList<>();
-        hand.add(strongCard);
-        return hand;
-      }
-    };
-
-    redPlayer.addCardToHand(strongCard);
-    model.setCurrentPlayer(redPlayer);
-
-    MinimaxStrat minimaxStrat = new MinimaxStrat(new DefensiveStrat());
-    AIMove move = minimaxStrat.findBestMove(model, redPlayer);
-
-    assertEquals(1, move.getPosition().row);
-    assertEquals(1, move.getPosition().col);
-    assertTrue(move.getScore() >= 0);
-  }
-
   @Test
   public void testDefensiveStratPositioning() {
     MockThreeTriosModel model = new MockThreeTriosModel(log) {
@@ -609,8 +580,8 @@ public class StrategyTests {
   }
 
   @Test(expected = IllegalArgumentException.class)
-  public void testMinimaxStratNullOpponentStrategy() {
-    new MinimaxStrat(null);
+  public void testMinimaxStratNullEvaluator() {
+    new MinimaxStrat(2, null);
   }
 
   @Test(expected = IllegalStateException.class)
@@ -667,14 +638,8 @@ public class StrategyTests {
   }
 
   @Test(expected = IllegalArgumentException.class)
-  public void testMinimaxStratWithInvalidFlipCount() {
-    MockThreeTriosModel invalidModel = new MockThreeTriosModel(log) {
-      @Override
-      public int getFlippableCards(int row, int col, Card card) {
-        return -1;
-      }
-    };
-    minimaxStrategy.findBestMove(invalidModel, redPlayer);
+  public void testMinimaxStratWithInvalidDepth() {
+    new MinimaxStrat(0);
   }
 
   @Test(expected = IllegalArgumentException.class)
@@ -700,15 +665,10 @@ public class StrategyTests {
     new AIMove(strongCard, new Position(0, 0), -1);
   }
 
-  @Test(expected = IllegalArgumentException.class)
-  public void testMinimaxStratWithInvalidCardOwner() {
-    MockThreeTriosModel invalidModel = new MockThreeTriosModel(log) {
-      @Override
-      public Player getCardOwnerAt(int row, int col) {
-        return new MockPlayer("INVALID");
-      }
-    };
-    minimaxStrategy.findBestMove(invalidModel, redPlayer);
+  @Test(expected = IllegalStateException.class)
+  public void testMinimaxStratWhenNotPlayersTurn() {
+    model.setCurrentPlayer(new MockPlayer("BLUE"));
+    minimaxStrategy.findBestMove(model, redPlayer);
   }
 
   @Test(expected = IllegalArgumentException.class)
@@ -729,4 +689,68 @@ public class StrategyTests {
     defensiveStrategy.findBestMove(invalidModel, redPlayer);
   }
 
-}
\ No newline at end of file
+  /**
+   * Starts a game on a 3x3 board and plays the first card in the top left corner.
+   */
+  private MainModelInterface startedModel() {
+    MainModelInterface game = TestGames.started(new String[]{}, 3, 3, 1);
+    game.placeCard(0, 0, game.getPlayerHand(game.getCurrentPlayer()).get(0));
+    return game;
+  }
+
+  @Test
+  public void testScoreMovesMarksIllegalMoves() {
+    MainModelInterface game = startedModel();
+    Player player = game.getCurrentPlayer();
+    int handSize = game.getPlayerHand(player).size();
+    int[] scores = maxFlipsStrategy.scoreMoves(game, player);
+    assertEquals(9 * handSize, scores.length);
+    for (int i = 0; i < scores.length; i++) {
+      if (i < handSize) {
+        assertEquals(AIStrategy.ILLEGAL_MOVE, scores[i]);
+      } else {
+        assertTrue(scores[i] >= 0);
+      }
+    }
+  }
+
+  @Test
+  public void testCompositeBlendsScoreArrays() {
+    MainModelInterface game = startedModel();
+    Player player = game.getCurrentPlayer();
+    int[] corner = cornerStrategy.scoreMoves(game, player);
+    int[] flips = maxFlipsStrategy.scoreMoves(game, player);
+    int[] blended = new CompositeStrategy(Arrays.asList(cornerStrategy, maxFlipsStrategy),
+            Arrays.asList(1, 2)).scoreMoves(game, player);
+    for (int i = 0; i < blended.length; i++) {
+      if (corner[i] == AIStrategy.ILLEGAL_MOVE) {
+        assertEquals(AIStrategy.ILLEGAL_MOVE, blended[i]);
+      } else {
+        assertEquals(corner[i] + 2 * flips[i], blended[i]);
+      }
+    }
+  }
+
+  @Test
+  public void testCompositeOfOneStrategyPlaysItsMove() {
+    MainModelInterface game = startedModel();
+    Player player = game.getCurrentPlayer();
+    AIMove expected = maxFlipsStrategy.findBestMove(game, player);
+    AIMove move = new CompositeStrategy(Arrays.asList(maxFlipsStrategy), Arrays.asList(3))
+            .findBestMove(game, player);
+    assertEquals(expected.getPosition(), move.getPosition());
+    assertEquals(expected.getCard().getName(), move.getCard().getName());
+    assertEquals(3 * expected.getScore(), move.getScore());
+  }
+
+  @Test
+  public void testCompositeRunsEachStrategyOnce() {
+    StringBuilder strategyLog = new StringBuilder();
+    List<AIStrategy> strategies = Arrays.asList(new MockStrategy(strategyLog),
+            new MockStrategy(strategyLog), new MockStrategy(strategyLog));
+    MainModelInterface game = startedModel();
+    new CompositeStrategy(strategies, Arrays.asList(1, 1, 0))
+            .findBestMove(game, game.getCurrentPlayer());
+    assertEquals("Finding best move\nFinding best move\n", strategyLog.toString());
+  }
+}
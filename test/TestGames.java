@@ -0,0 +1,77 @@
+import java.util.List;
+import java.util.SplittableRandom;
+
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.DeckGenerator;
+import cs3500.threetrios.model.Grid;
+import cs3500.threetrios.model.MainModelInterface;
+import cs3500.threetrios.model.ModelFactory;
+import cs3500.threetrios.model.ThreeTriosGrid;
+
+/**
+ * Builds the games the tests play: a generated deck dealt onto a board, and optionally some
+ * random moves after it. Everything is drawn from one generator seeded by the test, so the
+ * same seed always gives the same game.
+ */
+final class TestGames {
+
+  private TestGames() {
+  }
+
+  /**
+   * Starts a game with the given rules on a grid, with a generated deck of one more card than
+   * the grid has card cells.
+   *
+   * @param rules the rule arguments passed to the model factory
+   * @param grid  the grid to play on
+   * @param seed  the seed of the deck and the deal
+   * @return the started model
+   */
+  static MainModelInterface started(String[] rules, Grid grid, long seed) {
+    return started(rules, grid, new SplittableRandom(seed));
+  }
+
+  /**
+   * Starts a game with the given rules on a board without holes.
+   *
+   * @param rules the rule arguments passed to the model factory
+   * @param rows  the number of rows of the board
+   * @param cols  the number of columns of the board
+   * @param seed  the seed of the deck and the deal
+   * @return the started model
+   */
+  static MainModelInterface started(String[] rules, int rows, int cols, long seed) {
+    return started(rules, new ThreeTriosGrid(rows, cols, new boolean[rows][cols]), seed);
+  }
+
+  /**
+   * Starts a game with the given rules on a board without holes and plays random moves: a
+   * random card of the current player's hand on a random empty cell.
+   *
+   * @param rules the rule arguments passed to the model factory
+   * @param rows  the number of rows of the board
+   * @param cols  the number of columns of the board
+   * @param seed  the seed of the deck, the deal and the moves
+   * @param moves the number of moves to play
+   * @return the model after the moves
+   */
+  static MainModelInterface played(String[] rules, int rows, int cols, long seed, int moves) {
+    SplittableRandom random = new SplittableRandom(seed);
+    MainModelInterface model = started(rules,
+            new ThreeTriosGrid(rows, cols, new boolean[rows][cols]), random);
+    for (int i = 0; i < moves; i++) {
+      List<int[]> empty = model.getGrid().getEmptyCells();
+      int[] cell = empty.get(random.nextInt(empty.size()));
+      List<Card> hand = model.getPlayerHand(model.getCurrentPlayer());
+      model.placeCard(cell[0], cell[1], hand.get(random.nextInt(hand.size())));
+    }
+    return model;
+  }
+
+  private static MainModelInterface started(String[] rules, Grid grid, SplittableRandom random) {
+    MainModelInterface model = ModelFactory.createModel(rules);
+    model.startGame(grid, new DeckGenerator(random.split()).generate(grid.getCardCellCount() + 1),
+            random);
+    return model;
+  }
+}
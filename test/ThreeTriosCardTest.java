@@ -4,6 +4,8 @@ import org.junit.Test;
 import java.util.List;
 
 import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.CardStats;
+import cs3500.threetrios.model.Direction;
 import cs3500.threetrios.model.ThreeTriosCard;
 import cs3500.threetrios.model.ThreeTriosGrid;
 
@@ -116,4 +118,26 @@ public class ThreeTriosCardTest {
     emptyCells = grid.getEmptyCells();
     assertEquals(2, emptyCells.size());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testPackedStatsMatchAttackPower() {
+    Card card = new ThreeTriosCard("Packed", 10, 1, 7, 3);
+    int stats = card.getPackedStats();
+    for (Direction direction : Direction.values()) {
+      assertEquals(card.getAttackPower(direction), CardStats.side(stats, direction));
+      assertEquals(card.getAttackPower(direction), CardStats.side(stats, direction.ordinal()));
+    }
+    assertEquals(21, CardStats.total(stats));
+    assertEquals(10, CardStats.max(stats));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testCardValueAboveTen() {
+    new ThreeTriosCard("TooStrong", 11, 1, 1, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPackValueBelowOne() {
+    CardStats.pack(1, 1, 0, 1);
+  }
+}
@@ -1,3 +1,5 @@
+import cs3500.threetrios.controller.AIMoveWorker;
+import cs3500.threetrios.controller.AIPlayer;
 import cs3500.threetrios.controller.ThreeTriosController;
 import cs3500.threetrios.model.Card;
 import cs3500.threetrios.model.Player;
@@ -10,6 +12,8 @@ import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.Assert.assertTrue;
 
@@ -96,4 +100,18 @@ public class ThreeTriosControllerTest {
     assertTrue(logStr.contains("Set selected card to null"));
     assertTrue(logStr.contains("View refreshed"));
   }
+
+  @Test
+  public void testGameOverShutsDownAIWorker() {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    ThreeTriosController ai = new ThreeTriosController(model, view, new AIPlayer(player),
+            new AIMoveWorker(executor, AIMoveWorker.NO_TIMEOUT));
+    ai.notifyGameOver(player);
+    assertTrue(executor.isShutdown());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructorAIPlayerWithoutWorker() {
+    new ThreeTriosController(model, view, new AIPlayer(player), null);
+  }
 }
@@ -10,18 +10,26 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
+import cs3500.threetrios.model.BitboardGrid;
 import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.DeckGenerator;
+import cs3500.threetrios.model.Direction;
 import cs3500.threetrios.model.Grid;
+import cs3500.threetrios.model.ModelFactory;
+import cs3500.threetrios.model.MainModelInterface;
 import cs3500.threetrios.model.Player;
 import cs3500.threetrios.model.ThreeTriosGameModel;
 import cs3500.threetrios.model.ThreeTriosGrid;
+import cs3500.threetrios.tournament.Tournament;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 
@@ -601,4 +609,216 @@ public class ThreeTriosGameModelTest {
             flippableCount >= 0 && flippableCount <= 2);
   }
 
-}
\ No newline at end of file
+  @Test
+  public void testSameSeedDealsSameHands() {
+    List<Card> deck = new DeckGenerator(3).generate(16);
+    ThreeTriosGameModel first = new ThreeTriosGameModel();
+    ThreeTriosGameModel second = new ThreeTriosGameModel();
+    first.startGame(new ThreeTriosGrid(3, 5, new boolean[3][5]), deck, new SplittableRandom(9));
+    second.startGame(new ThreeTriosGrid(3, 5, new boolean[3][5]), deck, new SplittableRandom(9));
+    for (int p = 0; p < 2; p++) {
+      assertEquals(first.getPlayerHand(first.getPlayers().get(p)),
+              second.getPlayerHand(second.getPlayers().get(p)));
+    }
+  }
+
+  @Test
+  public void testSeededDealThroughDecorators() {
+    List<Card> deck = new DeckGenerator(4).generate(16);
+    MainModelInterface plain = new ThreeTriosGameModel();
+    MainModelInterface decorated = ModelFactory.createModel("reverse", "same");
+    plain.startGame(new ThreeTriosGrid(3, 5, new boolean[3][5]), deck, new SplittableRandom(2));
+    decorated.startGame(new ThreeTriosGrid(3, 5, new boolean[3][5]), deck,
+            new SplittableRandom(2));
+    assertEquals(plain.getPlayerHand(plain.getPlayers().get(0)),
+            decorated.getPlayerHand(decorated.getPlayers().get(0)));
+  }
+
+  @Test
+  public void testDeckGeneratorIsDeterminedBySeed() {
+    List<Card> first = new DeckGenerator(11).generate(20);
+    List<Card> second = new DeckGenerator(11).generate(20);
+    assertEquals(20, first.size());
+    for (int i = 0; i < first.size(); i++) {
+      assertEquals(first.get(i).getName(), second.get(i).getName());
+      assertEquals(first.get(i).getPackedStats(), second.get(i).getPackedStats());
+    }
+  }
+
+  @Test
+  public void testDeckGeneratorGivesAcesTheirTen() {
+    List<Card> plain = new DeckGenerator(12).generate(35);
+    List<Card> aces = new DeckGenerator(12).generate(35, 6);
+    Direction[] sides = {Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST};
+    for (int i = 0; i < 35; i++) {
+      for (int side = 0; side < 4; side++) {
+        int expected = i < 6 && (i + 1) % 4 == side
+                ? 10 : plain.get(i).getAttackPower(sides[side]);
+        assertEquals(expected, aces.get(i).getAttackPower(sides[side]));
+      }
+    }
+  }
+
+  @Test
+  public void testGetGridIsLiveView() {
+    game.startGame(new BitboardGrid(3, 5, new boolean[3][5]), new DeckGenerator(5).generate(16),
+            new SplittableRandom(1));
+    Grid view = game.getGrid();
+    assertSame(view, game.getGrid());
+    Player player = game.getCurrentPlayer();
+    Card card = game.getPlayerHand(player).get(0);
+    game.placeCard(1, 2, card);
+    assertEquals(card, view.getCard(1, 2));
+    assertEquals(player, view.getOwner(1, 2));
+    assertEquals(14, view.getEmptyCellCount());
+  }
+
+  @Test
+  public void testVersionChangesOnEveryMove() {
+    assertEquals(0, game.getVersion());
+    game.startGame(new BitboardGrid(3, 5, new boolean[3][5]), new DeckGenerator(7).generate(16),
+            new SplittableRandom(1));
+    long version = game.getVersion();
+    assertTrue(version > 0);
+    game.getFlippableCards(0, 0, game.getPlayerHand(game.getCurrentPlayer()).get(0));
+    game.getPlayerScore(game.getCurrentPlayer());
+    assertEquals(version, game.getVersion());
+
+    for (int col = 0; col < 5; col++) {
+      game.placeCard(1, col, game.getPlayerHand(game.getCurrentPlayer()).get(0));
+      assertTrue(game.getVersion() > version);
+      version = game.getVersion();
+    }
+
+    game.startGame(new ThreeTriosGrid(3, 5, new boolean[3][5]), new DeckGenerator(8).generate(16),
+            new SplittableRandom(2));
+    assertTrue(game.getVersion() > version);
+  }
+
+  @Test
+  public void testDecoratedVersionCountsRuleFlips() {
+    MainModelInterface model = ModelFactory.createModel(new String[]{"same"});
+    Grid grid = new BitboardGrid(3, 5, new boolean[3][5]);
+    model.startGame(grid, new DeckGenerator(9).generate(16), new SplittableRandom(3));
+    long version = model.getVersion();
+    long gridVersion = grid.getVersion();
+    model.placeCard(0, 0, model.getPlayerHand(model.getCurrentPlayer()).get(0));
+    assertTrue(model.getVersion() - version >= grid.getVersion() - gridVersion);
+    assertTrue(grid.getVersion() > gridVersion);
+  }
+
+  @Test
+  public void testGridSnapshotIsFrozen() {
+    game.startGame(new ThreeTriosGrid(3, 5, new boolean[3][5]), new DeckGenerator(6).generate(16),
+            new SplittableRandom(1));
+    game.placeCard(0, 0, game.getPlayerHand(game.getCurrentPlayer()).get(0));
+    Grid snapshot = game.getGrid().snapshot();
+    long hash = snapshot.getBoardHash();
+    game.placeCard(0, 1, game.getPlayerHand(game.getCurrentPlayer()).get(0));
+    assertNull(snapshot.getCard(0, 1));
+    assertEquals(hash, snapshot.getBoardHash());
+    assertNotNull(game.getGrid().getCard(0, 1));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testGridViewCannotBeChanged() {
+    game.startGame(new BitboardGrid(3, 5, new boolean[3][5]), new DeckGenerator(7).generate(16),
+            new SplittableRandom(1));
+    game.getGrid().placeCard(0, 0, game.getPlayerHand(game.getCurrentPlayer()).get(0));
+  }
+
+  @Test
+  public void testScoresFollowFlipsUnderEveryRule() {
+    String[][] rules = {{}, {"reverse"}, {"fallenace"}, {"same"}, {"plus"}, {"reverse", "plus"}};
+    for (String[] ruleSet : rules) {
+      for (boolean bitboard : new boolean[]{false, true}) {
+        SplittableRandom random = new SplittableRandom(ruleSet.length * 2 + (bitboard ? 1 : 0));
+        boolean[][] holes = new boolean[3][5];
+        holes[1][2] = true;
+        holes[0][0] = true;
+        Grid grid = bitboard ? new BitboardGrid(3, 5, holes)
+                : new ThreeTriosGrid(3, 5, holes);
+        MainModelInterface model = ModelFactory.createModel(ruleSet);
+        model.startGame(grid, new DeckGenerator(random.split()).generate(14), random);
+        assertScoresMatchGrid(model);
+        while (!model.isGameOver()) {
+          int row;
+          int col;
+          do {
+            row = random.nextInt(3);
+            col = random.nextInt(5);
+          } while (model.isHole(row, col) || model.getCardAt(row, col) != null);
+          List<Card> hand = model.getPlayerHand(model.getCurrentPlayer());
+          model.placeCard(row, col, hand.get(random.nextInt(hand.size())));
+          assertScoresMatchGrid(model);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testDecoratedGamesEmptyTheHands() {
+    for (String[] rules : Tournament.ruleCombinations()) {
+      SplittableRandom random = new SplittableRandom(rules.length);
+      MainModelInterface model = ModelFactory.createModel(rules);
+      model.startGame(new BitboardGrid(3, 5, new boolean[3][5]),
+              new DeckGenerator(random.split()).generate(16), random);
+      Player red = model.getPlayers().get(0);
+      Player blue = model.getPlayers().get(1);
+      int placed = 0;
+      while (!model.isGameOver()) {
+        Player player = model.getCurrentPlayer();
+        Player other = player == red ? blue : red;
+        List<Card> hand = model.getPlayerHand(player);
+        int otherSize = model.getPlayerHand(other).size();
+        Card card = hand.get(random.nextInt(hand.size()));
+        List<int[]> empty = model.getGrid().getEmptyCells();
+        int[] cell = empty.get(random.nextInt(empty.size()));
+        model.placeCard(cell[0], cell[1], card);
+        placed++;
+
+        assertEquals(hand.size() - 1, model.getPlayerHand(player).size());
+        assertFalse(model.getPlayerHand(player).contains(card));
+        assertEquals(otherSize, model.getPlayerHand(other).size());
+        if (!model.isGameOver()) {
+          assertEquals(placed + model.getPlayerHand(red).size() + model.getPlayerHand(blue).size(),
+                  model.getPlayerScore(red) + model.getPlayerScore(blue));
+        }
+        assertScoresMatchGrid(model);
+      }
+      assertEquals(15, model.getPlayerScore(red) + model.getPlayerScore(blue));
+    }
+  }
+
+  /**
+   * Checks every player's score against the cards they own on the grid, plus their hand while
+   * the game is still going, and the winner against the scores.
+   */
+  private void assertScoresMatchGrid(MainModelInterface model) {
+    int[] scores = new int[2];
+    for (int p = 0; p < 2; p++) {
+      Player player = model.getPlayers().get(p);
+      int owned = 0;
+      for (int row = 0; row < 3; row++) {
+        for (int col = 0; col < 5; col++) {
+          if (!model.isHole(row, col) && model.getCardOwnerAt(row, col) == player) {
+            owned++;
+          }
+        }
+      }
+      scores[p] = owned + (model.isGameOver() ? 0 : model.getPlayerHand(player).size());
+      assertEquals(scores[p], model.getPlayerScore(player));
+    }
+    if (!model.isGameOver() || scores[0] == scores[1]) {
+      assertNull(model.getWinner());
+    } else {
+      assertEquals(model.getPlayers().get(scores[0] > scores[1] ? 0 : 1), model.getWinner());
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testStartGameWithNullRandom() {
+    game.startGame(new ThreeTriosGrid(3, 5, new boolean[3][5]),
+            new DeckGenerator(1).generate(16), null);
+  }
+}
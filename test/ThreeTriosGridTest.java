@@ -3,12 +3,16 @@ import org.junit.Test;
 import java.util.List;
 
 import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.Grid;
+import cs3500.threetrios.model.Player;
 import cs3500.threetrios.model.ThreeTriosCard;
 import cs3500.threetrios.model.ThreeTriosGrid;
+import cs3500.threetrios.model.ThreeTriosPlayer;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -241,4 +245,76 @@ public class ThreeTriosGridTest {
   public void testPlaceNullCardOutOfBounds() {
     grid.placeCard(3, 3, null);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testCountsFollowPlacementsAndFlips() {
+    Card card = new ThreeTriosCard("counted", 5, 5, 5, 5);
+    Player red = new ThreeTriosPlayer("RED");
+    Player blue = new ThreeTriosPlayer("BLUE");
+    assertEquals(5, grid.getEmptyCellCount());
+    grid.placeCard(0, 0, card, red);
+    grid.placeCard(1, 1, card, red);
+    grid.placeCard(2, 2, card, blue);
+    assertEquals(2, grid.getEmptyCellCount());
+    assertEquals(2, grid.countOwnedBy(red));
+    assertEquals(1, grid.countOwnedBy(blue));
+
+    grid.setOwner(1, 1, blue);
+    grid.setOwner(2, 2, blue);
+    assertEquals(1, grid.countOwnedBy(red));
+    assertEquals(2, grid.countOwnedBy(blue));
+
+    grid.placeCard(0, 2, card, red);
+    grid.placeCard(2, 0, card, blue);
+    assertEquals(0, grid.getEmptyCellCount());
+    assertTrue(grid.isFull());
+    assertEquals(3, grid.countOwnedBy(blue));
+  }
+
+  @Test
+  public void testSnapshotKeepsStateAfterChanges() {
+    Card card = new ThreeTriosCard("kept", 5, 5, 5, 5);
+    Player red = new ThreeTriosPlayer("RED");
+    Player blue = new ThreeTriosPlayer("BLUE");
+    grid.placeCard(1, 1, card, red);
+    Grid snapshot = grid.snapshot();
+    grid.setOwner(1, 1, blue);
+    grid.placeCard(0, 0, card, blue);
+    assertEquals(red, snapshot.getOwner(1, 1));
+    assertNull(snapshot.getCard(0, 0));
+    assertEquals(1, snapshot.countOwnedBy(red));
+    assertEquals(blue, grid.getOwner(1, 1));
+  }
+
+  @Test
+  public void testRejectedWritesKeepSnapshotAndVersion() {
+    Card card = new ThreeTriosCard("kept", 5, 5, 5, 5);
+    Player red = new ThreeTriosPlayer("RED");
+    grid.placeCard(0, 0, card, red);
+    Grid snapshot = grid.snapshot();
+    long version = grid.getVersion();
+    int rejected = 0;
+    for (Runnable write : new Runnable[]{
+        () -> grid.placeCard(0, 0, card, red),
+        () -> grid.placeCard(0, 1, card, red),
+        () -> grid.placeCard(2, 2, null, red),
+        () -> grid.placeCard(3, 0, card, red),
+        () -> grid.setOwner(2, 2, red),
+        () -> grid.setOwner(0, 0, null)}) {
+      try {
+        write.run();
+      } catch (IllegalArgumentException | IllegalStateException e) {
+        rejected++;
+      }
+      assertSame(snapshot, grid.snapshot());
+      assertEquals(version, grid.getVersion());
+    }
+    assertEquals(6, rejected);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testSnapshotCannotBeChanged() {
+    grid.placeCard(1, 1, new ThreeTriosCard("kept", 5, 5, 5, 5), new ThreeTriosPlayer("RED"));
+    grid.snapshot().setOwner(1, 1, new ThreeTriosPlayer("BLUE"));
+  }
+}
@@ -24,7 +24,6 @@ public class ThreeTriosPlayerTest {
   public void setup() {
     player = new ThreeTriosPlayer("RED");
     testCard = new ThreeTriosCard("TestCard", 5, 6, 7, 8);
-    testCard.setOwner(player);
 
     boolean[][] standardHoles = new boolean[][]{
             {false, true, false},
@@ -141,8 +140,7 @@ public class ThreeTriosPlayerTest {
   public void testCountOwnedCardsWithGridOnly() {
     ThreeTriosCard placedCard = new ThreeTriosCard("PlacedCard",
             1, 2, 3, 4);
-    placedCard.setOwner(player);
-    grid.placeCard(0, 0, placedCard);
+    grid.placeCard(0, 0, placedCard, player);
     assertEquals(1, player.countOwnedCards(grid));
   }
 
@@ -152,8 +150,7 @@ public class ThreeTriosPlayerTest {
 
     ThreeTriosCard placedCard = new ThreeTriosCard("PlacedCard",
             1, 2, 3, 4);
-    placedCard.setOwner(player);
-    grid.placeCard(0, 0, placedCard);
+    grid.placeCard(0, 0, placedCard, player);
 
     assertEquals(2, player.countOwnedCards(grid));
   }
@@ -166,8 +163,7 @@ public class ThreeTriosPlayerTest {
 
     ThreeTriosCard otherCard = new ThreeTriosCard("OtherCard",
             1, 2, 3, 4);
-    otherCard.setOwner(otherPlayer);
-    grid.placeCard(0, 0, otherCard);
+    grid.placeCard(0, 0, otherCard, otherPlayer);
 
     assertEquals(1, player.countOwnedCards(grid));
   }
@@ -176,11 +172,9 @@ public class ThreeTriosPlayerTest {
   public void testCountOwnedCardsMultipleOnGrid() {
     ThreeTriosCard card1 = new ThreeTriosCard("Card1", 1, 2, 3, 4);
     ThreeTriosCard card2 = new ThreeTriosCard("Card2", 5, 6, 7, 8);
-    card1.setOwner(player);
-    card2.setOwner(player);
 
-    grid.placeCard(0, 0, card1);
-    grid.placeCard(0, 2, card2);
+    grid.placeCard(0, 0, card1, player);
+    grid.placeCard(0, 2, card2, player);
 
     assertEquals(2, player.countOwnedCards(grid));
   }
@@ -226,9 +220,8 @@ public class ThreeTriosPlayerTest {
   @Test
   public void testCountOwnedCardsWithCardsInHolesOwned() {
     ThreeTriosCard card = new ThreeTriosCard("Card", 1, 2, 3, 4);
-    card.setOwner(player);
 
-    grid.placeCard(0, 0, card);
+    grid.placeCard(0, 0, card, player);
     assertEquals(1, player.countOwnedCards(grid));
   }
 
@@ -243,9 +236,10 @@ public class ThreeTriosPlayerTest {
   public void testAddCardWithDifferentOwner() {
     ThreeTriosPlayer otherPlayer = new ThreeTriosPlayer("BLUE");
     ThreeTriosCard otherOwnedCard = new ThreeTriosCard("OtherOwned", 1, 2, 3, 4);
-    otherOwnedCard.setOwner(otherPlayer);
+    otherPlayer.addCardToHand(otherOwnedCard);
     player.addCardToHand(otherOwnedCard);
     assertEquals(1, player.getHand().size());
+    assertEquals(1, otherPlayer.getHand().size());
   }
 
 }
\ No newline at end of file
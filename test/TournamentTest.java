@@ -0,0 +1,138 @@
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import cs3500.threetrios.model.ModelFactory;
+import cs3500.threetrios.strategy.AIMove;
+import cs3500.threetrios.strategy.AIStrategy;
+import cs3500.threetrios.strategy.CornerStrat;
+import cs3500.threetrios.strategy.MaxFlipsStrat;
+import cs3500.threetrios.strategy.MinimaxStrat;
+import cs3500.threetrios.strategy.Position;
+import cs3500.threetrios.tournament.Tournament;
+import cs3500.threetrios.tournament.TournamentResult;
+import cs3500.threetrios.tournament.TournamentResult.Standing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Class containing tests regarding the headless tournament runner.
+ */
+public class TournamentTest {
+
+  private Map<String, Supplier<AIStrategy>> strategies() {
+    Map<String, Supplier<AIStrategy>> strategies = new LinkedHashMap<>();
+    strategies.put("corner", CornerStrat::new);
+    strategies.put("maxflips", MaxFlipsStrat::new);
+    strategies.put("minimax", () -> new MinimaxStrat(1));
+    return strategies;
+  }
+
+  @Test
+  public void testEveryPairingPlaysEveryRuleSet() {
+    List<String[]> rules = Arrays.asList(new String[]{}, new String[]{"same"});
+    TournamentResult result = new Tournament(strategies(), rules, 4, 3, 3, 1, 2).run();
+    assertEquals(3 * 2 * 4, result.getGames());
+    int wins = 0;
+    int losses = 0;
+    double elo = 0;
+    for (Standing standing : result.getStandings()) {
+      assertEquals(2 * 2 * 4, standing.getGames());
+      assertTrue(standing.getAverageMoveMillis() >= 0);
+      wins += standing.getWins();
+      losses += standing.getLosses();
+      elo += standing.getElo();
+    }
+    assertEquals(wins, losses);
+    assertEquals(3 * Tournament.INITIAL_ELO, elo, 1e-6);
+    assertTrue(result.getGamesPerSecond() > 0);
+  }
+
+  @Test
+  public void testStandingsAreSortedByElo() {
+    TournamentResult result = new Tournament(strategies(),
+            Collections.singletonList(new String[]{}), 2, 3, 3, 5, 1).run();
+    List<Standing> standings = result.getStandings();
+    for (int i = 1; i < standings.size(); i++) {
+      assertTrue(standings.get(i - 1).getElo() >= standings.get(i).getElo());
+    }
+    assertNotNull(result.getStanding("minimax"));
+    assertTrue(result.toString().contains("games/s"));
+  }
+
+  @Test
+  public void testRuleCombinationsAreAllValid() {
+    List<String[]> combinations = Tournament.ruleCombinations();
+    Set<String> distinct = new HashSet<>();
+    for (String[] rules : combinations) {
+      assertNotNull(ModelFactory.createModel(rules));
+      distinct.add(String.join(",", rules));
+    }
+    assertEquals(12, distinct.size());
+  }
+
+  @Test
+  public void testDefaultStrategiesAreAllCovered() {
+    assertEquals(5, Tournament.defaultStrategies().size());
+  }
+
+  @Test
+  public void testIllegalMoveFailsNamingStrategy() {
+    Map<String, Supplier<AIStrategy>> broken = strategies();
+    broken.put("broken", () -> (model, player) -> new AIMove(
+            model.getPlayerHand(player).get(0), new Position(-1, 0), 0));
+    try {
+      new Tournament(broken, Arrays.asList(new String[][]{{}}), 1, 3, 3, 0, 1).run();
+      fail("The illegal move was played");
+    } catch (IllegalStateException e) {
+      assertTrue(e.getMessage().contains("broken"));
+    }
+  }
+
+  @Test
+  public void testMissingMoveFailsNamingStrategy() {
+    Map<String, Supplier<AIStrategy>> silent = strategies();
+    silent.put("silent", () -> (model, player) -> null);
+    try {
+      new Tournament(silent, Arrays.asList(new String[][]{{}}), 1, 3, 3, 0, 1).run();
+      fail("A move was played for the strategy");
+    } catch (IllegalStateException e) {
+      assertTrue(e.getMessage().contains("silent"));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTooFewStrategies() {
+    Map<String, Supplier<AIStrategy>> one = new LinkedHashMap<>();
+    one.put("corner", CornerStrat::new);
+    new Tournament(one, Tournament.ruleCombinations(), 1, 3, 3, 0, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testEvenBoard() {
+    new Tournament(strategies(), Tournament.ruleCombinations(), 1, 2, 3, 0, 1);
+  }
+
+  @Test
+  public void testSameSeedGivesSameResults() {
+    List<String[]> rules = Arrays.asList(new String[]{"plus"}, new String[]{"reverse"});
+    TournamentResult first = new Tournament(strategies(), rules, 3, 3, 3, 8, 3).run();
+    TournamentResult second = new Tournament(strategies(), rules, 3, 3, 3, 8, 1).run();
+    for (Standing standing : first.getStandings()) {
+      Standing other = second.getStanding(standing.getName());
+      assertEquals(standing.getWins(), other.getWins());
+      assertEquals(standing.getDraws(), other.getDraws());
+      assertEquals(standing.getElo(), other.getElo(), 1e-9);
+    }
+  }
+}
@@ -0,0 +1,196 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import cs3500.threetrios.model.BitboardGrid;
+import cs3500.threetrios.model.Card;
+import cs3500.threetrios.model.MainModelInterface;
+import cs3500.threetrios.model.ModelFactory;
+import cs3500.threetrios.model.SearchState;
+import cs3500.threetrios.model.ThreeTriosCard;
+import cs3500.threetrios.model.ThreeTriosGrid;
+import cs3500.threetrios.strategy.AIMove;
+import cs3500.threetrios.strategy.AIStrategy;
+import cs3500.threetrios.strategy.EndgameSolver;
+import cs3500.threetrios.strategy.IterativeDeepeningStrat;
+import cs3500.threetrios.strategy.MaxFlipsStrat;
+import cs3500.threetrios.strategy.TranspositionTable;
+import cs3500.threetrios.strategy.TranspositionTable.Bound;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Class containing tests regarding storing and looking up search results.
+ */
+public class TranspositionTableTest {
+
+  @Test
+  public void testStoreThenProbe() {
+    TranspositionTable table = new TranspositionTable(64);
+    table.store(12345L, 4, Bound.LOWER, -250, 3, 17);
+    long entry = table.probe(12345L);
+    assertEquals(4, TranspositionTable.depthOf(entry));
+    assertEquals(Bound.LOWER, TranspositionTable.boundOf(entry));
+    assertEquals(-250, TranspositionTable.scoreOf(entry));
+    assertEquals(3, TranspositionTable.slotOf(entry));
+    assertEquals(17, TranspositionTable.cellOf(entry));
+  }
+
+  @Test
+  public void testMissingPosition() {
+    TranspositionTable table = new TranspositionTable(64);
+    table.store(1L, 2, Bound.EXACT, 0, 0, 0);
+    assertEquals(TranspositionTable.NO_ENTRY, table.probe(2L));
+    assertEquals(TranspositionTable.NO_ENTRY, table.probe(1L + 64));
+  }
+
+  @Test
+  public void testEntryWithoutMove() {
+    TranspositionTable table = new TranspositionTable(8);
+    table.store(9L, 0, Bound.EXACT, 0,
+            TranspositionTable.NO_MOVE, TranspositionTable.NO_MOVE);
+    long entry = table.probe(9L);
+    assertEquals(TranspositionTable.NO_MOVE, TranspositionTable.slotOf(entry));
+    assertEquals(TranspositionTable.NO_MOVE, TranspositionTable.cellOf(entry));
+    assertEquals(0, TranspositionTable.scoreOf(entry));
+  }
+
+  @Test
+  public void testCapacityRoundsUpToPowerOfTwo() {
+    assertEquals(2, new TranspositionTable(1).getCapacity());
+    assertEquals(64, new TranspositionTable(64).getCapacity());
+    assertEquals(128, new TranspositionTable(65).getCapacity());
+  }
+
+  @Test
+  public void testDeepEntrySurvivesShallowerStores() {
+    TranspositionTable table = new TranspositionTable(2);
+    table.store(1L, 9, Bound.EXACT, 100, 0, 0);
+    table.store(2L, 1, Bound.EXACT, 200, 0, 0);
+    table.store(3L, 2, Bound.EXACT, 300, 0, 0);
+    assertEquals(100, TranspositionTable.scoreOf(table.probe(1L)));
+    assertEquals(TranspositionTable.NO_ENTRY, table.probe(2L));
+    assertEquals(300, TranspositionTable.scoreOf(table.probe(3L)));
+  }
+
+  @Test
+  public void testSamePositionIsOverwritten() {
+    TranspositionTable table = new TranspositionTable(2);
+    table.store(1L, 9, Bound.UPPER, 100, 0, 0);
+    table.store(1L, 3, Bound.EXACT, 50, 1, 1);
+    long entry = table.probe(1L);
+    assertEquals(3, TranspositionTable.depthOf(entry));
+    assertEquals(50, TranspositionTable.scoreOf(entry));
+  }
+
+  @Test
+  public void testClear() {
+    TranspositionTable table = new TranspositionTable(16);
+    table.store(5L, 1, Bound.EXACT, 1, 0, 0);
+    table.clear();
+    assertEquals(TranspositionTable.NO_ENTRY, table.probe(5L));
+  }
+
+  @Test
+  public void testSearchStatePositions() {
+    List<Card> deck = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      deck.add(new ThreeTriosCard("card" + i, 1 + i % 10, 2, 3, 4));
+    }
+    MainModelInterface model = ModelFactory.createModel(new String[]{});
+    model.startGame(new ThreeTriosGrid(3, 3, new boolean[3][3]), deck);
+    SearchState state = new SearchState(model);
+    TranspositionTable table = new TranspositionTable(1024);
+
+    table.store(state, 2, Bound.EXACT, 7, 0, 4);
+    state.makeMove(0, 1, 1);
+    assertEquals(TranspositionTable.NO_ENTRY, table.probe(state));
+    state.unmakeMove();
+    assertEquals(4, TranspositionTable.cellOf(table.probe(state)));
+  }
+
+  @Test
+  public void testMovesThatFit() {
+    assertTrue(TranspositionTable.fitsMove(2046, 4094));
+    assertFalse(TranspositionTable.fitsMove(2047, 0));
+    assertFalse(TranspositionTable.fitsMove(0, 4095));
+    assertFalse(TranspositionTable.fitsMove(TranspositionTable.NO_MOVE, 0));
+  }
+
+  @Test
+  public void testSearchesOnBoardTooLargeForMoves() {
+    boolean[][] holes = new boolean[1][4100];
+    Arrays.fill(holes[0], true);
+    for (int col = 4096; col < 4099; col++) {
+      holes[0][col] = false;
+    }
+    List<Card> deck = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      deck.add(new ThreeTriosCard("card" + i, 2 + i, 5, 3 + i, 4));
+    }
+    MainModelInterface model = ModelFactory.createModel(new String[]{});
+    model.startGame(new BitboardGrid(1, 4100, holes), deck, new SplittableRandom(1));
+
+    for (AIStrategy strategy : new AIStrategy[]{new EndgameSolver(new MaxFlipsStrat(), 3),
+        new IterativeDeepeningStrat(200)}) {
+      AIMove move = strategy.findBestMove(model, model.getCurrentPlayer());
+      assertTrue(move.getCol() >= 4096 && move.getCol() < 4099);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBadCapacity() {
+    new TranspositionTable(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeDepth() {
+    new TranspositionTable(8).store(1L, -1, Bound.EXACT, 0, 0, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullBound() {
+    new TranspositionTable(8).store(1L, 1, null, 0, 0, 0);
+  }
+
+  @Test
+  public void testConcurrentWritersNeverReturnTornEntries() throws InterruptedException {
+    TranspositionTable table = new TranspositionTable(16);
+    List<Thread> threads = new ArrayList<>();
+    List<Throwable> errors = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      final int seed = t;
+      threads.add(new Thread(() -> {
+        Random random = new Random(seed);
+        for (int i = 0; i < 200000; i++) {
+          long hash = random.nextInt(64) + 1;
+          if (random.nextBoolean()) {
+            table.store(hash, (int) hash, Bound.EXACT, (int) hash * 3, 0, (int) hash);
+          } else {
+            long entry = table.probe(hash);
+            if (entry != TranspositionTable.NO_ENTRY
+                    && (TranspositionTable.scoreOf(entry) != hash * 3
+                    || TranspositionTable.cellOf(entry) != hash)) {
+              synchronized (errors) {
+                errors.add(new AssertionError("Torn entry for " + hash));
+              }
+            }
+          }
+        }
+      }));
+    }
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertTrue(errors.isEmpty());
+  }
+}